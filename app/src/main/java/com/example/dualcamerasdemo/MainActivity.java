@@ -26,13 +26,24 @@ import android.widget.Toast;
 import com.serenegiant.usb.IFrameCallback;
 import com.serenegiant.usb.USBMonitor;
 import com.serenegiant.usb.UVCCamera;
+import com.serenegiant.usbcameracommon.BandwidthPlanner;
+import com.serenegiant.usbcameracommon.CameraOpenCoordinator;
+import com.serenegiant.usbcameracommon.CameraSessionManager;
+import com.serenegiant.utils.FrameHandoff;
+import com.serenegiant.utils.FramePool;
+import com.serenegiant.widget.SharedRenderThread;
 import com.serenegiant.widget.UVCCameraTextureView;
 import com.techshino.config.DualFaceConfig;
 import com.techshino.facespoof.Algorithm;
+import com.techshino.facespoof.DetectionResult;
+import com.techshino.utils.DetectionScheduler;
 import com.techshino.utils.FileUtils;
 import com.techshino.utils.Logs;
+import com.techshino.utils.RoiTracker;
+import com.techshino.utils.Yuv420SPConverter;
 
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.List;
 
 public class MainActivity extends AppCompatActivity {
@@ -46,6 +57,8 @@ public class MainActivity extends AppCompatActivity {
     private UVCCamera mUVCCameraR;
     private UVCCameraTextureView mUVCCameraViewR;
     private Surface mRightPreviewSurface;
+    // 两路预览共用一个渲染线程和EGL上下文
+    private SharedRenderThread mRenderThread;
 
     private USBMonitor.UsbControlBlock mLeftControlBlock;
     private USBMonitor.UsbControlBlock mRightControlBlock;
@@ -62,12 +75,58 @@ public class MainActivity extends AppCompatActivity {
     private DualFaceConfig mDualFaceConfig;
     private boolean isLive = false;
     private long mDetectTime;
+    // 近红外(pidL)摄像头只用Y平面生成检测图像，读取配置时决定
+    private boolean mNirLumaOnly;
 
     // for accessing USB and USB camera
     private USBMonitor mUSBMonitor;
     Algorithm mAlgorithm;
 
-    private static final float[] BANDWIDTH_FACTORS = {0.5f, 0.5f};
+    private static final String CAMERA_L = "L";
+    private static final String CAMERA_R = "R";
+    // 两路摄像头在同一条USB总线上，按尺寸/帧率/格式估算带宽，决定各自的带宽系数和开流顺序，放不下时先降为MJPEG再降帧率
+    private final BandwidthPlanner.Plan mBandwidthPlan = new BandwidthPlanner(BandwidthPlanner.USB2_PERIODIC_BANDWIDTH)
+            .plan(Arrays.asList(
+                    new BandwidthPlanner.Request(CAMERA_L, width, height,
+                            UVCCamera.DEFAULT_PREVIEW_MAX_FPS, UVCCamera.FRAME_FORMAT_MJPEG),
+                    new BandwidthPlanner.Request(CAMERA_R, width, height,
+                            UVCCamera.DEFAULT_PREVIEW_MAX_FPS, UVCCamera.FRAME_FORMAT_MJPEG)));
+    // 并行打开两路摄像头，每一步都有超时
+    private final CameraOpenCoordinator mCameraOpener = new CameraOpenCoordinator(2);
+    // 退到后台时摄像头只断开预览，宽限期内回到前台直接恢复，不重新打开
+    private final CameraSessionManager mCameraSessions = new CameraSessionManager(
+            CameraSessionManager.DEFAULT_GRACE_PERIOD_MS, tag -> {
+                Logs.i(TAG, "camera closed after grace period:" + tag);
+                synchronized (mSync) {
+                    if (CAMERA_L.equals(tag)) {
+                        mUVCCameraL = null;
+                        leftFrame = false;
+                        leftSuc = -1;
+                    } else {
+                        mUVCCameraR = null;
+                        rightFrame = false;
+                        rightSuc = -1;
+                    }
+                }
+            });
+
+    // 帧缓存池，每路3块：排队1块 + 检测中1块 + 回调正在拷贝1块
+    private final FramePool mLeftFramePool = new FramePool(3, width * height * 3 / 2);
+    private final FramePool mRightFramePool = new FramePool(3, width * height * 3 / 2);
+    // 回调线程到检测线程的交接，检测跟不上时只保留最新帧
+    private final FrameHandoff mLeftHandoff = new FrameHandoff("NirDetect", frame -> detectNir(frame.data));
+    private final FrameHandoff mRightHandoff = new FrameHandoff("ColorDetect", frame -> detectColor(frame.data));
+    // 每路检测线程最多占用半个核心，按实测耗时决定检测频率
+    private static final float DETECT_CPU_BUDGET = 0.5f;
+    private final DetectionScheduler mNirScheduler = new DetectionScheduler(DETECT_CPU_BUDGET);
+    private final DetectionScheduler mColorScheduler = new DetectionScheduler(DETECT_CPU_BUDGET);
+    // 每路检测线程各自复用的RGB缓存和检测结果，只在对应的检测线程上访问
+    private final byte[] mNirRgb24 = new byte[width * height * 3];
+    private final byte[] mColorRgb24 = new byte[width * height * 3];
+    private final DetectionResult mNirResult = new DetectionResult();
+    private final DetectionResult mColorResult = new DetectionResult();
+    // 近红外检测到人脸后只转换和检测人脸附近，连续5次跟丢回到整帧
+    private final RoiTracker mNirRoi = new RoiTracker(width, height, 0.5f, 5, 160, 160);
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -82,10 +141,17 @@ public class MainActivity extends AppCompatActivity {
         mUVCCameraViewL.setAspectRatio(UVCCamera.DEFAULT_PREVIEW_WIDTH / (float) UVCCamera.DEFAULT_PREVIEW_HEIGHT);
         mUVCCameraViewR = findViewById(R.id.camera_view_R);
         mUVCCameraViewR.setAspectRatio(UVCCamera.DEFAULT_PREVIEW_WIDTH / (float) UVCCamera.DEFAULT_PREVIEW_HEIGHT);
+        mRenderThread = new SharedRenderThread();
+        mUVCCameraViewL.setSharedRenderThread(mRenderThread);
+        mUVCCameraViewR.setSharedRenderThread(mRenderThread);
 
         mUSBMonitor = new USBMonitor(this, mOnDeviceConnectListener);
+        Logs.i(TAG, "bandwidth plan:" + mBandwidthPlan);
         mDualFaceConfig = new DualFaceConfig();
+        mNirLumaOnly = mDualFaceConfig.isNirLumaOnly();
         mDetectTime = System.currentTimeMillis();
+        mLeftHandoff.start();
+        mRightHandoff.start();
     }
 
     private final USBMonitor.OnDeviceConnectListener mOnDeviceConnectListener = new USBMonitor.OnDeviceConnectListener() {
@@ -97,7 +163,8 @@ public class MainActivity extends AppCompatActivity {
 
         @Override
         public void onConnect(final UsbDevice device, final USBMonitor.UsbControlBlock ctrlBlock, final boolean createNew) {
-            Logs.v(TAG, "onConnect:" + device);
+            // 从插入(或检测到)到onConnect的耗时，包含等待用户授权的时间
+            Logs.v(TAG, "onConnect:" + device + ",latency=" + mUSBMonitor.getConnectLatencyMs(device) + "ms");
             openCameraDevice(device, ctrlBlock);
         }
 
@@ -127,164 +194,145 @@ public class MainActivity extends AppCompatActivity {
     private void openCameraDevice(UsbDevice device, final USBMonitor.UsbControlBlock ctrlBlock) {
         int pidL = getPid("PidL");
         int pidR = getPid("PidR");
+        if (!mCameraOpener.isActive()) {
+            // 还没打开的摄像头作为一次会话，都开始出图后回调一次
+            final int expected = (mUVCCameraL == null ? 1 : 0) + (mUVCCameraR == null ? 1 : 0);
+            if (expected > 0) {
+                mCameraOpener.start(expected, mCameraOpenCallback);
+            }
+        }
         if (device.getProductId() == pidL) {
             if (mUVCCameraL == null) {
-                new Thread(() -> {
-                    final UVCCamera camera = new UVCCamera();
-                    camera.open(ctrlBlock);
-                    if (mLeftControlBlock == null)
-                        mLeftControlBlock = ctrlBlock;
-
-                    Log.d(TAG, "camera.open:" + ctrlBlock);
-                    try {
-                        camera.setPreviewSize(
-                                UVCCamera.DEFAULT_PREVIEW_WIDTH,
-                                UVCCamera.DEFAULT_PREVIEW_HEIGHT,
-                                UVCCamera.FRAME_FORMAT_MJPEG, BANDWIDTH_FACTORS[0]);
-                    } catch (final IllegalArgumentException e) {
-                        // fallback to YUV mode
-                        try {
-                            camera.setPreviewSize(
-                                    UVCCamera.DEFAULT_PREVIEW_WIDTH,
-                                    UVCCamera.DEFAULT_PREVIEW_HEIGHT,
-                                    UVCCamera.DEFAULT_PREVIEW_MODE);
-                        } catch (final IllegalArgumentException e1) {
-                            camera.destroy();
-                            return;
+                if (mLeftControlBlock == null)
+                    mLeftControlBlock = ctrlBlock;
+                // 帧缓存和YUV转换都按width*height分配，不支持这个尺寸时打开失败而不是换成别的尺寸
+                final CameraOpenCoordinator.CameraRequest request = new CameraOpenCoordinator.CameraRequest(
+                        ctrlBlock, mBandwidthPlan.get(CAMERA_L)).setExactSize(true);
+                final SurfaceTexture st = mUVCCameraViewL.getSurfaceTexture();
+                final Surface surface = st != null ? new Surface(st) : null;
+                if (surface != null) {
+                    request.setPreviewSurface(surface)
+                            .setFrameCallback(leftCallback, UVCCamera.PIXEL_FORMAT_YUV420SP);
+                }
+                if (requestOpen(request)) {
+                    if (surface != null) {
+                        // 失败后重试时上一次的Surface已经不用了
+                        if (mLeftPreviewSurface != null) {
+                            mLeftPreviewSurface.release();
                         }
-                    }
-
-                    final SurfaceTexture st = mUVCCameraViewL.getSurfaceTexture();
-                    if (st != null) {
-                        mLeftPreviewSurface = new Surface(st);
-                        camera.setPreviewDisplay(mLeftPreviewSurface);
-                        camera.setFrameCallback(leftCallback,
-                                UVCCamera.PIXEL_FORMAT_YUV420SP/*
-                                 * UVCCamera.
-                                 * PIXEL_FORMAT_NV21
-                                 */);
+                        mLeftPreviewSurface = surface;
                         leftFrame = true;
-                        camera.startPreview();
                     }
-                    synchronized (mSync) {
-                        mUVCCameraL = camera;
-                    }
-                }).start();
+                } else if (surface != null) {
+                    surface.release();
+                }
             }
         }
 
         if (device.getProductId() == pidR) {
             if (mUVCCameraR == null) {
-                new Thread(() -> {
-                    final UVCCamera camera = new UVCCamera();
-                    camera.open(ctrlBlock);
-                    if (mRightControlBlock == null) {
-                        mRightControlBlock = ctrlBlock;
-                    }
-
-                    Log.d(TAG, "camera.open:" + ctrlBlock);
-                    try {
-                        camera.setPreviewSize(
-                                UVCCamera.DEFAULT_PREVIEW_WIDTH,
-                                UVCCamera.DEFAULT_PREVIEW_HEIGHT,
-                                UVCCamera.FRAME_FORMAT_MJPEG, BANDWIDTH_FACTORS[1]);
-                    } catch (final IllegalArgumentException e) {
-                        // fallback to YUV mode
-                        try {
-                            camera.setPreviewSize(
-                                    UVCCamera.DEFAULT_PREVIEW_WIDTH,
-                                    UVCCamera.DEFAULT_PREVIEW_HEIGHT,
-                                    UVCCamera.DEFAULT_PREVIEW_MODE);
-                        } catch (final IllegalArgumentException e1) {
-                            camera.destroy();
-                            return;
+                if (mRightControlBlock == null) {
+                    mRightControlBlock = ctrlBlock;
+                }
+                final CameraOpenCoordinator.CameraRequest request = new CameraOpenCoordinator.CameraRequest(
+                        ctrlBlock, mBandwidthPlan.get(CAMERA_R)).setExactSize(true);
+                final SurfaceTexture st = mUVCCameraViewR.getSurfaceTexture();
+                final Surface surface = st != null ? new Surface(st) : null;
+                if (surface != null) {
+                    request.setPreviewSurface(surface)
+                            .setFrameCallback(rightCallback, UVCCamera.PIXEL_FORMAT_YUV420SP);
+                }
+                if (requestOpen(request)) {
+                    if (surface != null) {
+                        // 失败后重试时上一次的Surface已经不用了
+                        if (mRightPreviewSurface != null) {
+                            mRightPreviewSurface.release();
                         }
-                    }
-
-                    final SurfaceTexture st = mUVCCameraViewR.getSurfaceTexture();
-                    if (st != null) {
-                        mRightPreviewSurface = new Surface(st);
-                        camera.setPreviewDisplay(mRightPreviewSurface);
-                        camera.setFrameCallback(rightCallback,
-                                UVCCamera.PIXEL_FORMAT_YUV420SP/*
-                                 * UVCCamera.
-                                 * PIXEL_FORMAT_NV21
-                                 */);
+                        mRightPreviewSurface = surface;
                         rightFrame = true;
-                        camera.startPreview();
                     }
-                    synchronized (mSync) {
-                        mUVCCameraR = camera;
-//              callOnOpen(3000);
-                    }
-                }).start();
+                } else if (surface != null) {
+                    surface.release();
+                }
             }
         }
     }
 
     /**
-     * 近红外检测回调
+     * 把摄像头加入当前会话，会话已经结束时为这一路重新开一次会话
+     *
+     * @return false时没有打开，同一路还在打开中或者会话已满
      */
-    IFrameCallback leftCallback = new IFrameCallback() {
-
-        @Override
-        public void onFrame(ByteBuffer frame) {
-
-
-            if (leftFrame) {
-                leftSuc++;
-                leftFrame = false;
-            }
-            byte[] yuv = null;
-            if (frame.limit() > 0) {
-                yuv = new byte[frame.limit()];
-                frame.get(yuv);
-//        mYuvBytesR = yuv;
+    private boolean requestOpen(CameraOpenCoordinator.CameraRequest request) {
+        if (mCameraOpener.open(request)) {
+            return true;
+        }
+        if (!mCameraOpener.isActive()) {
+            // 检查之后另一路刚好结束了会话
+            mCameraOpener.start(1, mCameraOpenCallback);
+            if (mCameraOpener.open(request)) {
+                return true;
             }
+        }
+        Log.w(TAG, "camera open request rejected:" + request.tag);
+        return false;
+    }
 
-            if (yuv == null) {
+    /**
+     * 摄像头打开结果，在CameraOpenCoordinator的线程上回调
+     */
+    private final CameraOpenCoordinator.Callback mCameraOpenCallback = new CameraOpenCoordinator.Callback() {
+        @Override
+        public void onCameraResult(final CameraOpenCoordinator.CameraResult result) {
+            Log.d(TAG, "camera.open:" + result);
+            if (!result.isLive()) {
                 return;
             }
-            if (!isDetecting) {
-                return;
+            synchronized (mSync) {
+                if (CAMERA_L.equals(result.request.tag)) {
+                    mUVCCameraL = result.camera;
+                    mCameraSessions.put(CAMERA_L, result.camera, leftCallback, UVCCamera.PIXEL_FORMAT_YUV420SP);
+                } else {
+                    mUVCCameraR = result.camera;
+                    mCameraSessions.put(CAMERA_R, result.camera, rightCallback, UVCCamera.PIXEL_FORMAT_YUV420SP);
+                }
             }
+        }
 
-            long start = System.currentTimeMillis();
-            byte[] rgb24 = new byte[width * height * 3];
-
-            mAlgorithm.RgbFromYuv420SP(rgb24, yuv, width, height);
-            Logs.d(TAG, "Yuv转换时间：" + (System.currentTimeMillis() - start) + "ms" + Thread.currentThread().getName());
-
-            //saveRgb24ToDisk(rgb24);
-
-            float[] score = new float[1];
-            double[] feature = new double[20];
-            int[] faceRect = new int[4];
-            int status = mAlgorithm.nir(rgb24, 0, width, height, faceRect, score, feature);
-//      Logs.i(TAG, "x:" + faceRect[0] + " y:" + faceRect[1] + " w:" + faceRect[2] + " h:" + faceRect[3]);
-            Logs.i(TAG, "x:" + feature[0] + " y:" + feature[1] + " w:" + feature[2] + " h:" + feature[3] + " score:" + feature[4]);
-//      Logs.d(TAG, "检活时间：" + (System.currentTimeMillis() - start) + "ms");
-//      Logs.d(TAG, "status:" + status + " score:" + score[0]);
-
+        @Override
+        public void onAllStreamsLive(final CameraOpenCoordinator.CameraResult[] results) {
+            for (final CameraOpenCoordinator.CameraResult result : results) {
+                Logs.i(TAG, "stream live:" + result.request.tag + "," + result.totalMs + "ms");
+            }
+        }
 
-            if (score[0] > mDualFaceConfig.getThreshold()) {
-                Logs.d(TAG, "检活时间：" + (System.currentTimeMillis() - start) + "ms");
-                index++;
+        @Override
+        public void onFailed(final CameraOpenCoordinator.CameraResult[] results) {
+            for (final CameraOpenCoordinator.CameraResult result : results) {
+                if (!result.isLive()) {
+                    Log.w(TAG, "failed to open camera:" + result);
+                }
+            }
+        }
+    };
 
+    /**
+     * 近红外检测回调，只拷贝帧并交给检测线程，不在回调线程里做检测
+     */
+    IFrameCallback leftCallback = new IFrameCallback() {
 
+        @Override
+        public void onFrame(ByteBuffer frame) {
+            if (leftFrame) {
+                leftSuc++;
+                leftFrame = false;
             }
-
-            if (mDualFaceConfig.getIsActived() == 0) {
-                index = mDualFaceConfig.getNirCount();
-                isLive = true;
-            } else if (mDualFaceConfig.getIsActived() == 1) {
-                isLive = true;
+            if (!isDetecting) {
+                return;
             }
-
-            try {
-                Thread.sleep(100);
-            } catch (InterruptedException e) {
-                e.printStackTrace();
+            final FramePool.Frame pooled = mLeftFramePool.copyFrom(frame);
+            if (pooled != null) {
+                mLeftHandoff.offer(pooled);
             }
         }
     };
@@ -297,38 +345,102 @@ public class MainActivity extends AppCompatActivity {
                 rightSuc++;
                 rightFrame = false;
             }
-            byte[] yuv = null;
-            if (frame.limit() > 0) {
-                yuv = new byte[frame.limit()];
-                frame.get(yuv);
-//        mYuvBytesR = yuv;
-            }
-
-            if (yuv == null) {
-                return;
-            }
             if (!isDetecting) {
                 return;
             }
+            final FramePool.Frame pooled = mRightFramePool.copyFrom(frame);
+            if (pooled != null) {
+                mRightHandoff.offer(pooled);
+            }
+        }
+    };
 
-            long start = System.currentTimeMillis();
-            byte[] rgb24 = new byte[width * height * 3];
-
-            mAlgorithm.RgbFromYuv420SP(rgb24, yuv, width, height);
-            Logs.d(TAG, "Yuv转换时间：" + (System.currentTimeMillis() - start) + "ms");
-
-            if (mDualFaceConfig.getIsActived() == 2) {
-                int status = mAlgorithm.colorSimple(rgb24, width, height, new int[4], new int[0], new double[20]);
-                if (status == 0)
-                    isLive = true;
-            } else if (mDualFaceConfig.getIsActived() == 3) {
-                int status = mAlgorithm.colorNormal(rgb24, width, height, new int[4], new float[0], new double[20]);
-                if (status == 0)
-                    isLive = true;
+    /**
+     * 近红外检活，在检测线程上执行
+     */
+    private void detectNir(byte[] yuv) {
+        if (!mNirScheduler.shouldRun()) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        final byte[] rgb24 = mNirRgb24;
+
+        final RoiTracker roi = mNirRoi;
+        final int roiWidth = roi.getWidth();
+        final int roiHeight = roi.getHeight();
+        if (roi.begin()) {
+            if (mNirLumaOnly) {
+                Yuv420SPConverter.lumaToRgb24(rgb24, yuv, width, height,
+                        roi.getLeft(), roi.getTop(), roiWidth, roiHeight);
+            } else {
+                // 彩色转换和native的输出比较过之前仍然用native整帧转换再裁剪
+                mAlgorithm.RgbFromYuv420SP(rgb24, yuv, width, height);
+                Yuv420SPConverter.cropRgb24(rgb24, width, height,
+                        roi.getLeft(), roi.getTop(), roiWidth, roiHeight);
             }
+        } else if (mNirLumaOnly) {
+            Yuv420SPConverter.lumaToRgb24(rgb24, yuv, width, height);
+        } else {
+            mAlgorithm.RgbFromYuv420SP(rgb24, yuv, width, height);
+        }
+        mNirScheduler.endStage(DetectionScheduler.STAGE_CONVERT);
 
+        //saveRgb24ToDisk(rgb24);
+
+        final DetectionResult result = mNirResult;
+        int status = mAlgorithm.nir(rgb24, 0, roiWidth, roiHeight, result);
+        mNirScheduler.endStage(DetectionScheduler.STAGE_INFERENCE);
+        if (status == 0) {
+            roi.onDetected(result.getFaceX(), result.getFaceY(), result.getFaceWidth(), result.getFaceHeight());
+        } else {
+            roi.onMissed();
         }
-    };
+//      Logs.i(TAG, "x:" + result.getFaceX() + " y:" + result.getFaceY() + " w:" + result.getFaceWidth() + " h:" + result.getFaceHeight());
+//      Logs.d(TAG, "检活时间：" + (System.currentTimeMillis() - start) + "ms");
+//      Logs.d(TAG, "status:" + status + " score:" + result.getScore());
+
+
+        if (result.getScore() > mDualFaceConfig.getThreshold()) {
+            Logs.d(TAG, "检活时间：" + (System.currentTimeMillis() - start) + "ms");
+            index++;
+
+
+        }
+
+        if (mDualFaceConfig.getIsActived() == 0) {
+            index = mDualFaceConfig.getNirCount();
+            isLive = true;
+        } else if (mDualFaceConfig.getIsActived() == 1) {
+            isLive = true;
+        }
+        mNirScheduler.end();
+    }
+
+    /**
+     * 可见光检活，在检测线程上执行
+     */
+    private void detectColor(byte[] yuv) {
+        if (!mColorScheduler.shouldRun()) {
+            return;
+        }
+        final byte[] rgb24 = mColorRgb24;
+
+        mAlgorithm.RgbFromYuv420SP(rgb24, yuv, width, height);
+        mColorScheduler.endStage(DetectionScheduler.STAGE_CONVERT);
+
+        final DetectionResult result = mColorResult;
+        if (mDualFaceConfig.getIsActived() == 2) {
+            int status = mAlgorithm.colorSimple(rgb24, width, height, result);
+            if (status == 0)
+                isLive = true;
+        } else if (mDualFaceConfig.getIsActived() == 3) {
+            int status = mAlgorithm.colorNormal(rgb24, width, height, result);
+            if (status == 0)
+                isLive = true;
+        }
+        mColorScheduler.endStage(DetectionScheduler.STAGE_INFERENCE);
+        mColorScheduler.end();
+    }
 
     @Override
     protected void onStart() {
@@ -339,10 +451,89 @@ public class MainActivity extends AppCompatActivity {
             mUVCCameraViewR.onResume();
         if (mUVCCameraViewL != null)
             mUVCCameraViewL.onResume();
+        resumeCameras();
+    }
+
+    /**
+     * 宽限期内还在出图的摄像头重新接上预览和帧回调
+     */
+    private void resumeCameras() {
+        synchronized (mSync) {
+            if ((mUVCCameraViewL != null)
+                    && (mCameraSessions.getState(CAMERA_L) == CameraSessionManager.STATE_WARM)) {
+                final SurfaceTexture st = mUVCCameraViewL.getSurfaceTexture();
+                if (st != null) {
+                    final Surface surface = new Surface(st);
+                    if (mCameraSessions.resume(CAMERA_L, surface)) {
+                        mLeftPreviewSurface = surface;
+                        leftFrame = true;
+                    } else {
+                        // 接不回去时摄像头已经关掉了，和宽限期结束一样清除后重新走打开流程
+                        surface.release();
+                        mUVCCameraL = null;
+                        leftFrame = false;
+                        leftSuc = -1;
+                        reopenDevice(mLeftControlBlock);
+                        mLeftControlBlock = null;
+                    }
+                }
+            }
+            if ((mUVCCameraViewR != null)
+                    && (mCameraSessions.getState(CAMERA_R) == CameraSessionManager.STATE_WARM)) {
+                final SurfaceTexture st = mUVCCameraViewR.getSurfaceTexture();
+                if (st != null) {
+                    final Surface surface = new Surface(st);
+                    if (mCameraSessions.resume(CAMERA_R, surface)) {
+                        mRightPreviewSurface = surface;
+                        rightFrame = true;
+                    } else {
+                        // 接不回去时摄像头已经关掉了，和宽限期结束一样清除后重新走打开流程
+                        surface.release();
+                        mUVCCameraR = null;
+                        rightFrame = false;
+                        rightSuc = -1;
+                        reopenDevice(mRightControlBlock);
+                        mRightControlBlock = null;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 旧的控制块跟着摄像头一起关掉了，通过USBMonitor重新连接，onConnect里会用新的控制块打开
+     */
+    private void reopenDevice(final USBMonitor.UsbControlBlock ctrlBlock) {
+        if (ctrlBlock != null) {
+            mUSBMonitor.requestPermission(ctrlBlock.getDevice());
+        }
+    }
+
+    /**
+     * 断开预览和帧回调，摄像头继续出图直到宽限期结束
+     */
+    private void suspendCameras() {
+        mCameraSessions.suspendAll();
+        synchronized (mSync) {
+            if (mLeftPreviewSurface != null) {
+                mLeftPreviewSurface.release();
+                mLeftPreviewSurface = null;
+            }
+            if (mRightPreviewSurface != null) {
+                mRightPreviewSurface.release();
+                mRightPreviewSurface = null;
+            }
+        }
     }
 
     @Override
     protected void onStop() {
+        if (DEBUG) Log.v(TAG, "left:" + mLeftFramePool + " right:" + mRightFramePool);
+        if (DEBUG) Log.v(TAG, "left:" + mLeftHandoff + " right:" + mRightHandoff);
+        if (DEBUG) Log.v(TAG, "left:" + mNirScheduler + " right:" + mColorScheduler);
+        if (DEBUG) Log.v(TAG, "left:" + mNirRoi);
+        if (DEBUG) Log.v(TAG, "render:" + mRenderThread);
+        suspendCameras();
         if (mUVCCameraViewR != null)
             mUVCCameraViewR.onPause();
         if (mUVCCameraViewL != null)
@@ -354,13 +545,21 @@ public class MainActivity extends AppCompatActivity {
 
     @Override
     protected void onDestroy() {
+        mCameraOpener.release();
         stopCamera();
+        mCameraSessions.release();
+        mLeftHandoff.stop();
+        mRightHandoff.stop();
         if (mUSBMonitor != null) {
             mUSBMonitor.destroy();
             mUSBMonitor = null;
         }
         mUVCCameraViewR = null;
         mUVCCameraViewL = null;
+        if (mRenderThread != null) {
+            mRenderThread.release();
+            mRenderThread = null;
+        }
 
         super.onDestroy();
     }
@@ -368,14 +567,7 @@ public class MainActivity extends AppCompatActivity {
     public void stopCamera() {
         synchronized (mSync) {
             if (mUVCCameraL != null) {
-                try {
-                    mUVCCameraL.setStatusCallback(null);
-                    mUVCCameraL.setButtonCallback(null);
-                    mUVCCameraL.close();
-                    mUVCCameraL.destroy();
-                } catch (final Exception e) {
-                    //
-                }
+                mCameraSessions.close(CAMERA_L);
                 mUVCCameraL = null;
                 leftFrame = false;
                 leftSuc = -1;
@@ -388,14 +580,7 @@ public class MainActivity extends AppCompatActivity {
 
         synchronized (mSync) {
             if (mUVCCameraR != null) {
-                try {
-                    mUVCCameraR.setStatusCallback(null);
-                    mUVCCameraR.setButtonCallback(null);
-                    mUVCCameraR.close();
-                    mUVCCameraR.destroy();
-                } catch (final Exception e) {
-                    //
-                }
+                mCameraSessions.close(CAMERA_R);
                 mUVCCameraR = null;
                 rightFrame = false;
                 rightSuc = -1;
@@ -0,0 +1,47 @@
+package com.example.dualcamerasdemo.benchmark;
+
+import com.techshino.utils.BitmapUtil;
+import com.techshino.utils.Yuv420SPConverter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * RGB24转ARGB像素数组
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+public class BitmapUtilBenchmark {
+
+    private byte[] mRgb24;
+    private int[] mPixels;
+
+    @Setup
+    public void setup() throws Exception {
+        final byte[] nv21 = Fixtures.loadNv21();
+        mRgb24 = new byte[Fixtures.WIDTH * Fixtures.HEIGHT * 3];
+        Yuv420SPConverter.toRgb24(mRgb24, nv21, Fixtures.WIDTH, Fixtures.HEIGHT);
+        mPixels = new int[Fixtures.WIDTH * Fixtures.HEIGHT];
+    }
+
+    @Benchmark
+    public int[] convertByteToColor() {
+        return BitmapUtil.convertByteToColor(mRgb24);
+    }
+
+    @Benchmark
+    public int[] convertByteToColorInto() {
+        BitmapUtil.convertByteToColor(mRgb24, 0, mPixels, 0, mPixels.length);
+        return mPixels;
+    }
+
+    @Benchmark
+    public int[] convertByteToColorParallel() {
+        BitmapUtil.convertByteToColorParallel(mRgb24, Fixtures.WIDTH, Fixtures.HEIGHT, mPixels);
+        return mPixels;
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.dualcamerasdemo.benchmark;
+
+import com.serenegiant.utils.SnapshotSparseArray;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+
+/**
+ * BaseRendererTask#handleDraw遍历分配描画Surface列表的开销
+ * <p>
+ * RendererSurfaceRec依赖EGL，在JVM上用只做canDraw判断和计数的Client代替，只比较遍历本身：
+ * 旧实现每帧在锁内遍历SparseArray，新实现无锁读取SnapshotSparseArray的快照。
+ * android.util.SparseArray在JVM上无法使用（依赖dalvik的VMRuntime），用同样结构的LockedClients代替
+ * *Contended组合另有一个线程不停addSurface/removeSurface
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.AverageTime)
+public class ClientListBenchmark {
+
+    private static final int MUTATOR_ID = Integer.MAX_VALUE;
+
+    static final class Client {
+        volatile boolean enable = true;
+        long drawn;
+
+        boolean canDraw() {
+            return enable;
+        }
+
+        void draw() {
+            drawn++;
+        }
+    }
+
+    /**
+     * 和SparseArray相同的布局：有序的int[] key和Object[] value，原地增删
+     */
+    static final class LockedClients {
+        private int[] mKeys = new int[10];
+        private Object[] mValues = new Object[10];
+        private int mSize;
+
+        int size() {
+            return mSize;
+        }
+
+        Client valueAt(final int index) {
+            return (Client) mValues[index];
+        }
+
+        Client get(final int key) {
+            final int ix = Arrays.binarySearch(mKeys, 0, mSize, key);
+            return ix >= 0 ? (Client) mValues[ix] : null;
+        }
+
+        void append(final int key, final Client value) {
+            if (mSize == mKeys.length) {
+                mKeys = Arrays.copyOf(mKeys, mSize * 2);
+                mValues = Arrays.copyOf(mValues, mSize * 2);
+            }
+            mKeys[mSize] = key;
+            mValues[mSize] = value;
+            mSize++;
+        }
+
+        void remove(final int key) {
+            final int ix = Arrays.binarySearch(mKeys, 0, mSize, key);
+            if (ix >= 0) {
+                System.arraycopy(mKeys, ix + 1, mKeys, ix, mSize - ix - 1);
+                System.arraycopy(mValues, ix + 1, mValues, ix, mSize - ix - 1);
+                mSize--;
+                mValues[mSize] = null;
+            }
+        }
+    }
+
+    @Param({"1", "4", "16"})
+    public int clients;
+
+    private final Object mClientSync = new Object();
+    private final LockedClients mLocked = new LockedClients();
+    private final SnapshotSparseArray<Client> mSnapshot = new SnapshotSparseArray<>(new Client[0]);
+    private final Client mMutator = new Client();
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < clients; i++) {
+            final Client client = new Client();
+            mLocked.append(i, client);
+            mSnapshot.put(i, client);
+        }
+    }
+
+    private int drawLocked() {
+        int drawn = 0;
+        synchronized (mClientSync) {
+            final int n = mLocked.size();
+            for (int i = n - 1; i >= 0; i--) {
+                final Client client = mLocked.valueAt(i);
+                if ((client != null) && client.canDraw()) {
+                    client.draw();
+                    drawn++;
+                }
+            }
+        }
+        return drawn;
+    }
+
+    private int drawSnapshot() {
+        int drawn = 0;
+        final Client[] snapshot = mSnapshot.snapshot();
+        for (int i = snapshot.length - 1; i >= 0; i--) {
+            final Client client = snapshot[i];
+            if (client.canDraw()) {
+                client.draw();
+                drawn++;
+            }
+        }
+        return drawn;
+    }
+
+    @Benchmark
+    @Group("locked")
+    public int locked() {
+        return drawLocked();
+    }
+
+    @Benchmark
+    @Group("snapshot")
+    public int snapshot() {
+        return drawSnapshot();
+    }
+
+    @Benchmark
+    @Group("lockedContended")
+    @GroupThreads(1)
+    public int lockedContendedDraw() {
+        return drawLocked();
+    }
+
+    @Benchmark
+    @Group("lockedContended")
+    @GroupThreads(1)
+    public void lockedContendedMutate() {
+        synchronized (mClientSync) {
+            if (mLocked.get(MUTATOR_ID) == null) {
+                mLocked.append(MUTATOR_ID, mMutator);
+            } else {
+                mLocked.remove(MUTATOR_ID);
+            }
+        }
+    }
+
+    @Benchmark
+    @Group("snapshotContended")
+    @GroupThreads(1)
+    public int snapshotContendedDraw() {
+        return drawSnapshot();
+    }
+
+    @Benchmark
+    @Group("snapshotContended")
+    @GroupThreads(1)
+    public void snapshotContendedMutate() {
+        synchronized (mClientSync) {
+            if (mSnapshot.get(MUTATOR_ID) == null) {
+                mSnapshot.put(MUTATOR_ID, mMutator);
+            } else {
+                mSnapshot.remove(MUTATOR_ID);
+            }
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.example.dualcamerasdemo.benchmark;
+
+import android.hardware.usb.UsbConfiguration;
+import android.hardware.usb.UsbDevice;
+import android.hardware.usb.UsbInterface;
+import android.os.Parcelable;
+
+import com.serenegiant.usb.DeviceFilter;
+import com.serenegiant.usb.DeviceFilterSet;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * USBMonitor#getDeviceList(filters)的线性匹配
+ * <p>
+ * linearMatch把已连接的设备表示成DeviceFilter，用DeviceFilter#matches(DeviceFilter)比较
+ * <p>
+ * linearMatchIds和indexedMatch只比较vendor/product id和class三元组（和matches(UsbDevice)一样不比较字符串），
+ * 分别是逐个比较和DeviceFilterSet索引查找
+ * <p>
+ * linearMatchDevice和indexedMatchDevice用android-all里的UsbDevice（带接口描述），包括按接口class匹配
+ * <p>
+ * setup时先确认两个matches重载的索引查找都和线性匹配结果一致，包括除外(isExclude)过滤器的先后顺序
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+public class DeviceFilterBenchmark {
+
+    private List<DeviceFilter> mFilters;
+    private DeviceFilter[] mDevices;
+    private UsbDevice[] mUsbDevices;
+    private DeviceFilterSet mFilterSet;
+
+    @Setup
+    public void setup() throws Exception {
+        mFilters = Fixtures.loadDeviceFilters();
+        mDevices = new DeviceFilter[]{
+                // 两个摄像头 + 不在列表里的设备
+                new DeviceFilter(0x0c45, 0x2203, 239, 2, 1, null, null, null),
+                new DeviceFilter(0x0c45, 0x2204, 239, 2, 1, null, null, null),
+                new DeviceFilter(0x1234, 0x5678, 0, 0, 0, null, null, null),
+                new DeviceFilter(0x0bda, 0x8179, 0, 0, 0, null, null, null),
+        };
+        mUsbDevices = new UsbDevice[]{
+                // 设备class是239，接口是视频class
+                usbDevice(0x0c45, 0x2203, 239, 2, 1, new int[][]{{14, 1, 0}, {14, 2, 0}}),
+                // 设备class是0，只能按接口class匹配
+                usbDevice(0x0c45, 0x2204, 0, 0, 0, new int[][]{{14, 1, 0}, {14, 2, 0}, {1, 1, 0}}),
+                usbDevice(0x1234, 0x5678, 0, 0, 0, new int[][]{{1, 1, 0}, {1, 2, 0}}),
+                usbDevice(0x0bda, 0x8179, 255, 255, 255, new int[][]{{255, 255, 255}}),
+                usbDevice(0x046d, 0x0825, 239, 2, 1, new int[0][]),
+        };
+        mFilterSet = new DeviceFilterSet(mFilters);
+        if (linearMatchIds() != indexedMatch()) {
+            throw new IllegalStateException("indexed result differs from linear result");
+        }
+        verify(mFilters);
+        verifyExcludeOrder();
+        verifyRandom(new Random(20170801), 500);
+    }
+
+    private static UsbDevice usbDevice(final int vendorId, final int productId,
+            final int clasz, final int subclass, final int protocol, final int[][] interfaces) {
+        final UsbDevice device = new UsbDevice("/dev/bus/usb/001/" + vendorId + "_" + productId,
+                vendorId, productId, clasz, subclass, protocol, null, null, "1.00", null);
+        final UsbConfiguration configuration = new UsbConfiguration(1, null, 0x80, 250);
+        final Parcelable[] intfs = new Parcelable[interfaces.length];
+        for (int i = 0; i < interfaces.length; i++) {
+            intfs[i] = new UsbInterface(i, 0, null, interfaces[i][0], interfaces[i][1], interfaces[i][2]);
+        }
+        configuration.setInterfaces(intfs);
+        device.setConfigurations(new Parcelable[]{configuration});
+        return device;
+    }
+
+    /**
+     * 和USBMonitor原来的线性匹配相同：最初匹配的过滤器决定结果
+     */
+    private static boolean linearMatches(final UsbDevice device, final List<DeviceFilter> filters) {
+        if (filters.isEmpty()) {
+            return true;
+        }
+        for (final DeviceFilter filter : filters) {
+            if ((filter != null) && filter.matches(device)) {
+                return !filter.isExclude;
+            }
+        }
+        return false;
+    }
+
+    private static boolean linearMatches(final DeviceFilter device, final List<DeviceFilter> filters) {
+        if (filters.isEmpty()) {
+            return true;
+        }
+        for (final DeviceFilter filter : filters) {
+            if ((filter != null) && filter.matches(device.mVendorId, device.mProductId,
+                    device.mClass, device.mSubclass, device.mProtocol)) {
+                return !filter.isExclude;
+            }
+        }
+        return false;
+    }
+
+    private void verify(final List<DeviceFilter> filters) {
+        final DeviceFilterSet filterSet = new DeviceFilterSet(filters);
+        for (final UsbDevice device : mUsbDevices) {
+            if (linearMatches(device, filters) != filterSet.matches(device)) {
+                throw new IllegalStateException("matches(UsbDevice) differs from linear result:"
+                        + device.getDeviceName() + "," + filters);
+            }
+        }
+        for (final DeviceFilter device : mDevices) {
+            if (linearMatches(device, filters) != filterSet.matches(device.mVendorId, device.mProductId,
+                    device.mClass, device.mSubclass, device.mProtocol)) {
+                throw new IllegalStateException("matches(ids) differs from linear result:" + device + "," + filters);
+            }
+        }
+    }
+
+    private static DeviceFilter filter(final int vendorId, final int productId, final int clasz,
+            final boolean exclude) {
+        return new DeviceFilter(vendorId, productId, clasz, -1, -1, null, null, null, exclude);
+    }
+
+    /**
+     * 除外过滤器放在列表前面/后面，以及按接口class的除外
+     */
+    private void verifyExcludeOrder() {
+        final DeviceFilter excludeCamera = filter(0x0c45, 0x2204, -1, true);
+        final DeviceFilter excludeVideo = filter(-1, -1, 14, true);
+        final DeviceFilter excludeVendor = filter(0x0c45, -1, -1, true);
+        final DeviceFilter excludeProduct = filter(-1, 0x2203, -1, true);
+        final DeviceFilter includeVideo = filter(-1, -1, 14, false);
+        final DeviceFilter includeAll = filter(-1, -1, -1, false);
+        final DeviceFilter excludeAll = filter(-1, -1, -1, true);
+        final DeviceFilter[][] cases = {
+                {excludeCamera, includeVideo},
+                {includeVideo, excludeCamera},
+                {excludeVideo, includeAll},
+                {includeAll, excludeVideo},
+                {excludeVendor, includeVideo, includeAll},
+                {excludeProduct, includeVideo},
+                {includeVideo, excludeProduct, includeAll},
+                {excludeAll, includeVideo},
+                {null, excludeVideo, null, includeAll},
+        };
+        for (final DeviceFilter[] filters : cases) {
+            final List<DeviceFilter> list = new ArrayList<>();
+            Collections.addAll(list, filters);
+            verify(list);
+            // 夹在实际的过滤器列表里
+            list.addAll(1, mFilters);
+            verify(list);
+            final List<DeviceFilter> prepended = new ArrayList<>(mFilters);
+            Collections.addAll(prepended, filters);
+            verify(prepended);
+        }
+    }
+
+    /**
+     * 从这些设备的id和class（以及不指定）随机组合过滤器，随机设为除外
+     */
+    private void verifyRandom(final Random random, final int count) {
+        final int[] vendors = {-1, 0x0c45, 0x1234, 0x0bda, 0x046d, 0x9999};
+        final int[] products = {-1, 0x2203, 0x2204, 0x5678, 0x8179, 0x0825};
+        final int[] classes = {-1, 239, 14, 1, 255, 0, 3};
+        for (int n = 0; n < count; n++) {
+            final int size = random.nextInt(12);
+            final List<DeviceFilter> filters = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                filters.add(filter(vendors[random.nextInt(vendors.length)],
+                        products[random.nextInt(products.length)],
+                        classes[random.nextInt(classes.length)], random.nextInt(3) == 0));
+            }
+            verify(filters);
+        }
+    }
+
+    @Benchmark
+    public int linearMatch() {
+        int matched = 0;
+        for (final DeviceFilter device : mDevices) {
+            for (final DeviceFilter filter : mFilters) {
+                if ((filter != null) && filter.matches(device)) {
+                    if (!filter.isExclude) {
+                        matched++;
+                    }
+                    break;
+                }
+            }
+        }
+        return matched;
+    }
+
+    @Benchmark
+    public int linearMatchIds() {
+        int matched = 0;
+        for (final DeviceFilter device : mDevices) {
+            for (final DeviceFilter filter : mFilters) {
+                if ((filter != null) && filter.matches(device.mVendorId, device.mProductId,
+                        device.mClass, device.mSubclass, device.mProtocol)) {
+                    if (!filter.isExclude) {
+                        matched++;
+                    }
+                    break;
+                }
+            }
+        }
+        return matched;
+    }
+
+    @Benchmark
+    public int indexedMatch() {
+        int matched = 0;
+        for (final DeviceFilter device : mDevices) {
+            if (mFilterSet.matches(device.mVendorId, device.mProductId,
+                    device.mClass, device.mSubclass, device.mProtocol)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    @Benchmark
+    public int linearMatchDevice() {
+        int matched = 0;
+        for (final UsbDevice device : mUsbDevices) {
+            if (linearMatches(device, mFilters)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    @Benchmark
+    public int indexedMatchDevice() {
+        int matched = 0;
+        for (final UsbDevice device : mUsbDevices) {
+            if (mFilterSet.matches(device)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    @Benchmark
+    public DeviceFilterSet compile() {
+        return new DeviceFilterSet(mFilters);
+    }
+}
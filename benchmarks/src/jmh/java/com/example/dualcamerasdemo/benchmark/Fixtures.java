@@ -0,0 +1,114 @@
+package com.example.dualcamerasdemo.benchmark;
+
+import com.serenegiant.usb.DeviceFilter;
+
+import org.xmlpull.v1.XmlPullParser;
+import org.xmlpull.v1.XmlPullParserFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 基准测试的输入数据
+ * <p>
+ * NV21帧优先读取-Dfixture.nv21指定的文件，其次是classpath里的/fixtures/nv21_640x480.yuv
+ * （从设备上用IFrameCallback录下的原始帧），都没有时生成固定种子的合成帧。
+ */
+final class Fixtures {
+
+    static final int WIDTH = 640;
+    static final int HEIGHT = 480;
+    static final int NV21_SIZE = WIDTH * HEIGHT * 3 / 2;
+
+    private static final String NV21_RESOURCE = "/fixtures/nv21_640x480.yuv";
+    private static final String SUPPORTED_SIZE_RESOURCE = "/fixtures/supported_size.json";
+    private static final String DEVICE_FILTER_RESOURCE = "/fixtures/device_filter.xml";
+
+    private Fixtures() {
+    }
+
+    static byte[] loadNv21() throws IOException {
+        final String path = System.getProperty("fixture.nv21");
+        InputStream in = path != null ? new FileInputStream(path) : Fixtures.class.getResourceAsStream(NV21_RESOURCE);
+        if (in == null) {
+            return syntheticNv21();
+        }
+        try {
+            final byte[] frame = readAll(in);
+            if (frame.length < NV21_SIZE) {
+                throw new IOException("fixture is smaller than 640x480 NV21:" + frame.length);
+            }
+            return frame;
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * 亮度渐变加噪声，色度取一般人脸肤色附近的值
+     */
+    private static byte[] syntheticNv21() {
+        final byte[] frame = new byte[NV21_SIZE];
+        final Random random = new Random(20170801);
+        for (int j = 0; j < HEIGHT; j++) {
+            for (int i = 0; i < WIDTH; i++) {
+                frame[j * WIDTH + i] = (byte) (16 + ((i + j) * 219 / (WIDTH + HEIGHT)) + random.nextInt(8));
+            }
+        }
+        for (int i = WIDTH * HEIGHT; i < NV21_SIZE; i += 2) {
+            frame[i] = (byte) (150 + random.nextInt(16));     // V
+            frame[i + 1] = (byte) (110 + random.nextInt(16)); // U
+        }
+        return frame;
+    }
+
+    static String loadSupportedSize() throws IOException {
+        final InputStream in = Fixtures.class.getResourceAsStream(SUPPORTED_SIZE_RESOURCE);
+        try {
+            return new String(readAll(in), "UTF-8");
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * 与DeviceFilter.getDeviceFilters相同的解析流程，只是不经过Context资源
+     */
+    static List<DeviceFilter> loadDeviceFilters() throws Exception {
+        final InputStream in = Fixtures.class.getResourceAsStream(DEVICE_FILTER_RESOURCE);
+        try {
+            final XmlPullParser parser = XmlPullParserFactory.newInstance().newPullParser();
+            parser.setInput(new InputStreamReader(in, "UTF-8"));
+            final List<DeviceFilter> filters = new ArrayList<>();
+            int eventType = parser.getEventType();
+            while (eventType != XmlPullParser.END_DOCUMENT) {
+                if (eventType == XmlPullParser.START_TAG) {
+                    final DeviceFilter filter = DeviceFilter.readEntryOne(null, parser);
+                    if (filter != null) {
+                        filters.add(filter);
+                    }
+                }
+                eventType = parser.next();
+            }
+            return filters;
+        } finally {
+            in.close();
+        }
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(NV21_SIZE);
+        final byte[] buffer = new byte[8192];
+        int count;
+        while ((count = in.read(buffer)) > 0) {
+            out.write(buffer, 0, count);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.dualcamerasdemo.benchmark;
+
+import com.serenegiant.utils.FramePool;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.ByteBuffer;
+
+/**
+ * IFrameCallback#onFrame里把direct ByteBuffer拷贝出来的几种方式
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+public class FrameCopyBenchmark {
+
+    private ByteBuffer mFrame;
+    private byte[] mReused;
+    private FramePool mPool;
+
+    @Setup
+    public void setup() throws Exception {
+        final byte[] nv21 = Fixtures.loadNv21();
+        // 与JNI传过来的一样是direct buffer
+        mFrame = ByteBuffer.allocateDirect(nv21.length);
+        mFrame.put(nv21);
+        mFrame.flip();
+        mReused = new byte[nv21.length];
+        mPool = new FramePool(3, nv21.length);
+    }
+
+    /**
+     * 原来的做法，每帧new一个数组
+     */
+    @Benchmark
+    public byte[] allocatePerFrame() {
+        mFrame.rewind();
+        final byte[] yuv = new byte[mFrame.limit()];
+        mFrame.get(yuv);
+        return yuv;
+    }
+
+    /**
+     * 单个预分配数组
+     */
+    @Benchmark
+    public byte[] reuseArray() {
+        mFrame.rewind();
+        mFrame.get(mReused, 0, mFrame.limit());
+        return mReused;
+    }
+
+    /**
+     * FramePool租借/归还
+     */
+    @Benchmark
+    public int framePool() {
+        mFrame.rewind();
+        final FramePool.Frame frame = mPool.copyFrom(mFrame);
+        final int result = frame.data[0];
+        frame.release();
+        return result;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.dualcamerasdemo.benchmark;
+
+import com.serenegiant.utils.FramePool;
+import com.techshino.utils.Nv21Pyramid;
+import com.techshino.utils.Yuv420SPConverter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 整帧转换与先缩小再转换的对比
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+public class Nv21PyramidBenchmark {
+
+    private byte[] mNv21;
+    private byte[] mRgb24;
+    private Nv21Pyramid mPyramid;
+    private FramePool.Frame[] mLevels;
+
+    @Setup
+    public void setup() throws Exception {
+        mNv21 = Fixtures.loadNv21();
+        mRgb24 = new byte[Fixtures.WIDTH * Fixtures.HEIGHT * 3];
+        mPyramid = new Nv21Pyramid(Fixtures.WIDTH, Fixtures.HEIGHT, 2, 1);
+        mLevels = new FramePool.Frame[2];
+    }
+
+    @Benchmark
+    public byte[] fullToRgb24() {
+        Yuv420SPConverter.toRgb24(mRgb24, mNv21, Fixtures.WIDTH, Fixtures.HEIGHT);
+        return mRgb24;
+    }
+
+    @Benchmark
+    public byte[] buildPyramid() {
+        mPyramid.build(mNv21, mLevels);
+        final byte[] result = mLevels[1].data;
+        mLevels[0].release();
+        mLevels[1].release();
+        return result;
+    }
+
+    @Benchmark
+    public byte[] quarterToRgb24() {
+        mPyramid.build(mNv21, mLevels);
+        Yuv420SPConverter.toRgb24(mRgb24, mLevels[1].data, mPyramid.getWidth(2), mPyramid.getHeight(2));
+        mLevels[0].release();
+        mLevels[1].release();
+        return mRgb24;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.dualcamerasdemo.benchmark;
+
+import com.serenegiant.usb.Size;
+import com.serenegiant.usb.SupportedSizeIndex;
+import com.serenegiant.usb.SupportedSizeParser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * UVCCamera#getSupportedSize(type, json)的JSON解析，UVCCamera本身会加载native库所以直接测SupportedSizeParser
+ * <p>
+ * index*是open时只解析一次的SupportedSizeIndex：indexBuild是每次open的开销，
+ * indexSizes/selectBestMode是之后每次getSupportedSizeList/选择预览模式的开销
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+public class SupportedSizeBenchmark {
+
+    private String mSupportedSize;
+    private SupportedSizeIndex mIndex;
+
+    @Setup
+    public void setup() throws Exception {
+        mSupportedSize = Fixtures.loadSupportedSize();
+        mIndex = SupportedSizeIndex.parse(mSupportedSize);
+    }
+
+    @Benchmark
+    public List<Size> parseMjpeg() {
+        return SupportedSizeParser.parse(6, mSupportedSize);
+    }
+
+    @Benchmark
+    public List<Size> parseAll() {
+        return SupportedSizeParser.parse(-1, mSupportedSize);
+    }
+
+    @Benchmark
+    public SupportedSizeIndex indexBuild() {
+        return SupportedSizeIndex.parse(mSupportedSize);
+    }
+
+    @Benchmark
+    public List<Size> indexSizes() {
+        return mIndex.getSizes(SupportedSizeIndex.FRAME_FORMAT_MJPEG);
+    }
+
+    @Benchmark
+    public SupportedSizeIndex.Mode selectBestMode() {
+        return mIndex.selectBestMode(640, 480, 30, 0);
+    }
+}
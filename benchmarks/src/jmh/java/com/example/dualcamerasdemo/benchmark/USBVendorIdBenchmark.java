@@ -0,0 +1,229 @@
+package com.example.dualcamerasdemo.benchmark;
+
+import com.serenegiant.usb.USBVendorId;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * USBVendorId的启动开销：类初始化和第一次vendorName查询的耗时，以及表的常驻内存
+ * <p>
+ * 每次调用都用新的ClassLoader重新定义类，这样每次都会执行类初始化（和冷启动时一样在解释器里执行）。
+ * legacy*是原来在类初始化里put 822次的实现（LegacyUSBVendorId），compact*是现在的惰性紧凑表。
+ * 结束时输出的retained bytes是从表的静态字段可达的对象按HotSpot 64位压缩指针布局估算的大小
+ */
+@BenchmarkMode(Mode.AverageTime)
+public class USBVendorIdBenchmark {
+
+    private static final String LEGACY = LegacyUSBVendorId.class.getName();
+    private static final String COMPACT = USBVendorId.class.getName();
+    /** Logitech */
+    private static final int VENDOR_ID = 1133;
+
+    /**
+     * 只有预先读入的类自己定义，其它委托给父ClassLoader
+     */
+    static final class IsolatingClassLoader extends ClassLoader {
+        private final Map<String, byte[]> mClasses;
+
+        IsolatingClassLoader(final Map<String, byte[]> classes) {
+            super(IsolatingClassLoader.class.getClassLoader());
+            mClasses = classes;
+        }
+
+        @Override
+        protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+            synchronized (getClassLoadingLock(name)) {
+                final byte[] bytes = mClasses.get(name);
+                if (bytes == null) {
+                    return super.loadClass(name, resolve);
+                }
+                Class<?> c = findLoadedClass(name);
+                if (c == null) {
+                    c = defineClass(name, bytes, 0, bytes.length);
+                }
+                return c;
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Classes {
+        final Map<String, byte[]> legacy = new HashMap<>();
+        final Map<String, byte[]> compact = new HashMap<>();
+        IsolatingClassLoader legacyLoader;
+        IsolatingClassLoader compactLoader;
+
+        @Setup(Level.Trial)
+        public void load() throws IOException {
+            read(legacy, LegacyUSBVendorId.class);
+            read(legacy, LegacyUSBVendorId.VendorSparseArray.class);
+            read(compact, USBVendorId.class);
+            read(compact, COMPACT + "$Table");
+        }
+
+        /**
+         * 常驻内存不随运行次数变化，只在结束时输出一次
+         */
+        @TearDown(Level.Trial)
+        public void printRetainedSize() throws Exception {
+            newLoaders();
+            firstLookup(legacyLoader, LEGACY);
+            firstLookup(compactLoader, COMPACT);
+            System.out.println("retained bytes: legacy=" + retainedSize(legacyLoader.loadClass(LEGACY))
+                    + ", compact=" + retainedSize(compactLoader.loadClass(COMPACT + "$Table")));
+        }
+
+        @Setup(Level.Invocation)
+        public void newLoaders() {
+            legacyLoader = new IsolatingClassLoader(legacy);
+            compactLoader = new IsolatingClassLoader(compact);
+        }
+
+        private static void read(final Map<String, byte[]> map, final Class<?> clazz) throws IOException {
+            read(map, clazz.getName());
+        }
+
+        private static void read(final Map<String, byte[]> map, final String name) throws IOException {
+            final InputStream in = USBVendorIdBenchmark.class.getResourceAsStream(
+                    "/" + name.replace('.', '/') + ".class");
+            try {
+                final ByteArrayOutputStream out = new ByteArrayOutputStream();
+                final byte[] buffer = new byte[8192];
+                int count;
+                while ((count = in.read(buffer)) > 0) {
+                    out.write(buffer, 0, count);
+                }
+                map.put(name, out.toByteArray());
+            } finally {
+                in.close();
+            }
+        }
+    }
+
+    private static Class<?> initialize(final ClassLoader loader, final String name) throws Exception {
+        return Class.forName(name, true, loader);
+    }
+
+    private static Object firstLookup(final ClassLoader loader, final String name) throws Exception {
+        final Method vendorName = initialize(loader, name).getMethod("vendorName", int.class);
+        vendorName.setAccessible(true);
+        return vendorName.invoke(null, VENDOR_ID);
+    }
+
+    @Benchmark
+    public Class<?> legacyClassInit(final Classes classes) throws Exception {
+        return initialize(classes.legacyLoader, LEGACY);
+    }
+
+    @Benchmark
+    public Class<?> compactClassInit(final Classes classes) throws Exception {
+        return initialize(classes.compactLoader, COMPACT);
+    }
+
+    @Benchmark
+    public Object legacyFirstLookup(final Classes classes) throws Exception {
+        return firstLookup(classes.legacyLoader, LEGACY);
+    }
+
+    @Benchmark
+    public Object compactFirstLookup(final Classes classes) throws Exception {
+        return firstLookup(classes.compactLoader, COMPACT);
+    }
+
+    @Benchmark
+    public String legacyLookup() {
+        return LegacyUSBVendorId.vendorName(VENDOR_ID);
+    }
+
+    @Benchmark
+    public String compactLookup() {
+        return USBVendorId.vendorName(VENDOR_ID);
+    }
+
+    /**
+     * 从静态字段可达的对象的大小
+     * 对象头12字节，引用4字节，8字节对齐；String按Latin-1的compact string计算
+     */
+    static long retainedSize(final Class<?> clazz) throws IllegalAccessException {
+        final IdentityHashMap<Object, Boolean> visited = new IdentityHashMap<>();
+        long size = 0;
+        for (final Field field : clazz.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers()) && !field.getType().isPrimitive()) {
+                field.setAccessible(true);
+                size += sizeOf(field.get(null), visited);
+            }
+        }
+        return size;
+    }
+
+    private static long sizeOf(final Object obj, final IdentityHashMap<Object, Boolean> visited)
+            throws IllegalAccessException {
+        if ((obj == null) || (visited.put(obj, Boolean.TRUE) != null)) {
+            return 0;
+        }
+        final Class<?> clazz = obj.getClass();
+        if (obj instanceof String) {
+            // String(12 + hash 4 + coder 1 + value 4) + byte[]
+            return align(24) + align(16 + ((String) obj).length());
+        }
+        if (clazz.isArray()) {
+            final int length = Array.getLength(obj);
+            final Class<?> type = clazz.getComponentType();
+            long size = align(16 + (long) length * primitiveSize(type));
+            if (!type.isPrimitive()) {
+                for (int i = 0; i < length; i++) {
+                    size += sizeOf(Array.get(obj, i), visited);
+                }
+            }
+            return size;
+        }
+        long shallow = 12;
+        long deep = 0;
+        for (Class<?> c = clazz; c != null; c = c.getSuperclass()) {
+            for (final Field field : c.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                shallow += primitiveSize(field.getType());
+                if (!field.getType().isPrimitive()) {
+                    field.setAccessible(true);
+                    deep += sizeOf(field.get(obj), visited);
+                }
+            }
+        }
+        return align(shallow) + deep;
+    }
+
+    private static int primitiveSize(final Class<?> type) {
+        if ((type == long.class) || (type == double.class)) {
+            return 8;
+        } else if ((type == byte.class) || (type == boolean.class)) {
+            return 1;
+        } else if ((type == short.class) || (type == char.class)) {
+            return 2;
+        }
+        return 4;
+    }
+
+    private static long align(final long size) {
+        return (size + 7) & ~7L;
+    }
+}
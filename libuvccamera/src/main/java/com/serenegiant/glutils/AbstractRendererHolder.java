@@ -19,26 +19,22 @@ package com.serenegiant.glutils;
 */
 
 import android.annotation.SuppressLint;
-import android.graphics.Bitmap;
 import android.graphics.SurfaceTexture;
 import android.opengl.GLES20;
 import android.opengl.Matrix;
+import android.os.SystemClock;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.util.Log;
-import android.util.SparseArray;
 import android.view.Surface;
 import android.view.SurfaceHolder;
 
 import com.serenegiant.utils.BuildCheck;
+import com.serenegiant.utils.SnapshotSparseArray;
 
-import java.io.BufferedOutputStream;
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
-import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
+import java.util.ArrayDeque;
 
 import static com.serenegiant.glutils.ShaderConst.GL_TEXTURE_EXTERNAL_OES;
 
@@ -57,12 +53,26 @@ public abstract class AbstractRendererHolder implements IRendererHolder {
 	protected static final int REQUEST_CLEAR = 7;
 	protected static final int REQUEST_CLEAR_ALL = 8;
 
+	// 読み出し待ちの静止画撮影要求の最大数
+	private static final int MAX_PENDING_CAPTURE = 8;
+	// エンコード待ちのフレームの最大数
+	private static final int MAX_PENDING_ENCODE = 2;
+	// GL|ES3で非同期読み出しに使うPBOの数
+	private static final int CAPTURE_PBO_NUM = 2;
+	// 連写でSinkへの受け渡しを待つことができるフレーム数
+	private static final int BURST_RING_SIZE = 3;
+	// 連写時に新しいフレームを待つ最大時間[ミリ秒]
+	private static final long BURST_FRAME_TIMEOUT_MS = 100;
+
 	protected final Object mSync = new Object();
 	private final RenderHolderCallback mCallback;
 	protected volatile boolean isRunning;
 
-	private File mCaptureFile;
-	private int mCaptureCompression;
+	// 静止画撮影要求はmSyncとは別のロックで管理する
+	private final Object mCaptureSync = new Object();
+	private final ArrayDeque<CaptureRequest> mCaptureRequests = new ArrayDeque<CaptureRequest>();
+	private final StillCaptureEncoder mCaptureEncoder = new StillCaptureEncoder(MAX_PENDING_ENCODE);
+	private final BurstCapture mBurstCapture = new BurstCapture(BURST_RING_SIZE);
 	protected final RendererTask mRendererTask;
 
 	protected AbstractRendererHolder(final int width, final int height,
@@ -96,6 +106,9 @@ public abstract class AbstractRendererHolder implements IRendererHolder {
 			isRunning = false;
 			mSync.notifyAll();
 		}
+		synchronized (mCaptureSync) {
+			mCaptureSync.notifyAll();
+		}
 //		if (DEBUG) Log.v(TAG, "release:finished");
 	}
 
@@ -246,6 +259,17 @@ public abstract class AbstractRendererHolder implements IRendererHolder {
 		return mRendererTask.getCount();
 	}
 
+	/**
+	 * 分配描画用のSurfaceの描画統計情報を取得
+	 * @param id
+	 * @param stats
+	 * @return 指定したIDのSurfaceが無ければfalse
+	 */
+	@Override
+	public boolean getSurfaceStats(final int id, @NonNull final SurfaceStats stats) {
+		return mRendererTask.getSurfaceStats(id, stats);
+	}
+
 	/**
 	 * 静止画を撮影する
 	 * 撮影完了を待機しない
@@ -264,13 +288,22 @@ public abstract class AbstractRendererHolder implements IRendererHolder {
 	 */
 	@Override
 	public void captureStillAsync(final String path, final int captureCompression) {
+		captureStillAsync(path, captureCompression, null);
+	}
+
+	/**
+	 * 静止画を撮影する
+	 * 撮影完了を待機しない、複数の要求をキューに積むことができる
+	 * @param path
+	 * @param captureCompression
+	 * @param callback エンコードスレッド上で呼ばれる, nullでもよい
+	 */
+	@Override
+	public void captureStillAsync(final String path, final int captureCompression,
+		@Nullable final CaptureCallback callback) {
+
 //		if (DEBUG) Log.v(TAG, "captureStill:" + path);
-		final File file = new File(path);
-		synchronized (mSync) {
-			mCaptureFile = file;
-			mCaptureCompression = captureCompression;
-			mSync.notifyAll();
-		}
+		queueCapture(path, captureCompression, callback);
 	}
 
 	/**
@@ -291,21 +324,61 @@ public abstract class AbstractRendererHolder implements IRendererHolder {
 	@Override
 	public void captureStill(final String path, final int captureCompression) {
 //		if (DEBUG) Log.v(TAG, "captureStill:" + path);
-		final File file = new File(path);
-		synchronized (mSync) {
-			mCaptureFile = file;
-			mCaptureCompression = captureCompression;
-			mSync.notifyAll();
-			try {
-//				if (DEBUG) Log.v(TAG, "静止画撮影待ち");
-				mSync.wait();
-			} catch (final InterruptedException e) {
-				// ignore
-			}
+		final CaptureRequest request = queueCapture(path, captureCompression, null);
+		if (request != null) {
+//			if (DEBUG) Log.v(TAG, "静止画撮影待ち");
+			request.await();
 		}
 //		if (DEBUG) Log.v(TAG, "captureStill終了");
 	}
 
+	/**
+	 * 静止画撮影要求をキューに追加する
+	 * @return キューがいっぱいまたは終了済みの時はnull, コールバックには失敗が通知される
+	 */
+	private CaptureRequest queueCapture(final String path, final int captureCompression,
+		final CaptureCallback callback) {
+
+		int compression = captureCompression;
+		if ((compression <= 0) || (compression >= 100)) {
+			compression = 90;
+		}
+		return queueCapture(new CaptureRequest(new File(path), compression, callback));
+	}
+
+	/**
+	 * 連写する
+	 * 撮影完了を待機しない、フレームは描画スレッドとは別のスレッドで読み出して
+	 * あらかじめ確保したバッファ経由でSinkへ渡す
+	 * @param count 撮影するフレーム数
+	 * @param intervalMs フレームの間隔[ミリ秒], 0なら新しいフレームごと
+	 * @param sink Sink専用スレッド上で呼ばれる
+	 * @return 撮影要求を受け付けたかどうか, falseの時もSink#onFinishedは呼ばれる
+	 */
+	@Override
+	public boolean captureBurst(final int count, final int intervalMs,
+		@NonNull final BurstCapture.Sink sink) {
+
+//		if (DEBUG) Log.v(TAG, "captureBurst:" + count);
+		if ((count <= 0) || (intervalMs < 0)) {
+			throw new IllegalArgumentException("count should be positive and intervalMs should not be negative");
+		}
+		return queueCapture(new CaptureRequest(count, intervalMs, sink)) != null;
+	}
+
+	private CaptureRequest queueCapture(final CaptureRequest request) {
+		synchronized (mCaptureSync) {
+			if (isRunning && (mCaptureRequests.size() < MAX_PENDING_CAPTURE)) {
+				mCaptureRequests.addLast(request);
+				mCaptureSync.notifyAll();
+				return request;
+			}
+		}
+		Log.w(TAG, "queueCapture:too many pending capture or already released");
+		request.cancel();
+		return null;
+	}
+
 //--------------------------------------------------------------------------------
 	@NonNull
 	protected abstract RendererTask createRendererTask(final int width, final int height);
@@ -363,7 +436,11 @@ public abstract class AbstractRendererHolder implements IRendererHolder {
 //--------------------------------------------------------------------------------
 	protected abstract static class BaseRendererTask extends EglTask {
 		private final Object mClientSync = new Object();
-		private final SparseArray<RendererSurfaceRec> mClients = new SparseArray<RendererSurfaceRec>();
+		/**
+		 * 分配描画用Surface, 描画ループはロックせずに#snapshotを使う
+		 */
+		private final SnapshotSparseArray<RendererSurfaceRec> mClients
+			= new SnapshotSparseArray<RendererSurfaceRec>(new RendererSurfaceRec[0]);
 		private final AbstractRendererHolder mParent;
 		private int mVideoWidth, mVideoHeight;
 		final float[] mTexMatrix = new float[16];
@@ -556,18 +633,14 @@ public abstract class AbstractRendererHolder implements IRendererHolder {
 		}
 		
 		public boolean isEnabled(final int id) {
-			synchronized (mClientSync) {
-				final RendererSurfaceRec rec = mClients.get(id);
-				return rec != null && rec.isEnabled();
-			}
+			final RendererSurfaceRec rec = mClients.get(id);
+			return rec != null && rec.isEnabled();
 		}
 		
 		public void setEnabled(final int id, final boolean enable) {
-			synchronized (mClientSync) {
-				final RendererSurfaceRec rec = mClients.get(id);
-				if (rec != null) {
-					rec.setEnabled(enable);
-				}
+			final RendererSurfaceRec rec = mClients.get(id);
+			if (rec != null) {
+				rec.setEnabled(enable);
 			}
 		}
 	
@@ -576,9 +649,22 @@ public abstract class AbstractRendererHolder implements IRendererHolder {
 		 * @return
 		 */
 		public int getCount() {
-			synchronized (mClientSync) {
-				return mClients.size();
+			return mClients.size();
+		}
+
+		/**
+		 * 分配描画用のSurfaceの描画統計情報を取得
+		 * @param id
+		 * @param stats
+		 * @return
+		 */
+		public boolean getSurfaceStats(final int id, @NonNull final SurfaceStats stats) {
+			final RendererSurfaceRec rec = mClients.get(id);
+			if (rec != null) {
+				rec.getStats(stats);
+				return true;
 			}
+			return false;
 		}
 	
 		/**
@@ -593,6 +679,14 @@ public abstract class AbstractRendererHolder implements IRendererHolder {
 			}
 		}
 	
+		/**
+		 * マスターSurfaceを取得する, 有効かどうかのチェックはしない(ワーカースレッド上から呼ぶ用)
+		 * @return
+		 */
+		protected Surface getMasterSurface() {
+			return mMasterSurface;
+		}
+
 		protected int width() {
 			return mVideoWidth;
 		}
@@ -653,18 +747,16 @@ public abstract class AbstractRendererHolder implements IRendererHolder {
 			}
 			mParent.notifyCapture();
 			preprocess();
-			// 各Surfaceへ描画する
-			synchronized (mClientSync) {
-				final int n = mClients.size();
-				RendererSurfaceRec client;
-				for (int i = n - 1; i >= 0; i--) {
-					client = mClients.valueAt(i);
-					if ((client != null) && client.canDraw()) {
-						try {
-							onDrawClient(client, mTexId, mTexMatrix);
-						} catch (final Exception e) {
-							// removeSurfaceが呼ばれなかったかremoveSurfaceを呼ぶ前に破棄されてしまった
-							mClients.removeAt(i);
+			// 各Surfaceへ描画する, 追加・削除はワーカースレッド上でしか行わないのでロック不要
+			final RendererSurfaceRec[] clients = mClients.snapshot();
+			for (int i = clients.length - 1; i >= 0; i--) {
+				final RendererSurfaceRec client = clients[i];
+				if (client.canDraw()) {
+					try {
+						onDrawClient(client, mTexId, mTexMatrix);
+					} catch (final Exception e) {
+						// removeSurfaceが呼ばれなかったかremoveSurfaceを呼ぶ前に破棄されてしまった
+						if (mClients.removeValue(client)) {
 							client.release();
 						}
 					}
@@ -693,7 +785,7 @@ public abstract class AbstractRendererHolder implements IRendererHolder {
 					try {
 						client = RendererSurfaceRec.newInstance(getEgl(), surface, maxFps);
 						setMirror(client, mMirror);
-						mClients.append(id, client);
+						mClients.put(id, client);
 					} catch (final Exception e) {
 						Log.w(TAG, "invalid surface: surface=" + surface, e);
 					}
@@ -711,9 +803,8 @@ public abstract class AbstractRendererHolder implements IRendererHolder {
 		protected void handleRemoveSurface(final int id) {
 	//			if (DEBUG) Log.v(TAG, "handleRemoveSurface:id=" + id);
 			synchronized (mClientSync) {
-				final RendererSurfaceRec client = mClients.get(id);
+				final RendererSurfaceRec client = mClients.remove(id);
 				if (client != null) {
-					mClients.remove(id);
 					if (client.isValid()) {
 						client.clear(0);	// XXX 黒で塗りつぶし, 色指定できるようにする?
 					}
@@ -730,18 +821,12 @@ public abstract class AbstractRendererHolder implements IRendererHolder {
 		protected void handleRemoveAll() {
 	//			if (DEBUG) Log.v(TAG, "handleRemoveAll:");
 			synchronized (mClientSync) {
-				final int n = mClients.size();
-				RendererSurfaceRec client;
-				for (int i = 0; i < n; i++) {
-					client = mClients.valueAt(i);
-					if (client != null) {
-						if (client.isValid()) {
-							client.clear(0);	// XXX 黒で塗りつぶし, 色指定できるようにする?
-						}
-						client.release();
+				for (final RendererSurfaceRec client: mClients.clear()) {
+					if (client.isValid()) {
+						client.clear(0);	// XXX 黒で塗りつぶし, 色指定できるようにする?
 					}
+					client.release();
 				}
-				mClients.clear();
 			}
 	//			if (DEBUG) Log.v(TAG, "handleRemoveAll:finished");
 		}
@@ -752,14 +837,11 @@ public abstract class AbstractRendererHolder implements IRendererHolder {
 		protected void checkSurface() {
 	//			if (DEBUG) Log.v(TAG, "checkSurface");
 			synchronized (mClientSync) {
-				final int n = mClients.size();
-				for (int i = 0; i < n; i++) {
-					final RendererSurfaceRec client = mClients.valueAt(i);
-					if ((client != null) && !client.isValid()) {
-						final int id = mClients.keyAt(i);
-	//						if (DEBUG) Log.i(TAG, "checkSurface:found invalid surface:id=" + id);
-						mClients.valueAt(i).release();
-						mClients.remove(id);
+				for (final RendererSurfaceRec client: mClients.snapshot()) {
+					if (!client.isValid()) {
+	//						if (DEBUG) Log.i(TAG, "checkSurface:found invalid surface");
+						mClients.removeValue(client);
+						client.release();
 					}
 				}
 			}
@@ -772,11 +854,9 @@ public abstract class AbstractRendererHolder implements IRendererHolder {
 		 * @param color
 		 */
 		protected void handleClear(final int id, final int color) {
-			synchronized (mClientSync) {
-				final RendererSurfaceRec client = mClients.get(id);
-				if ((client != null) && client.isValid()) {
-					client.clear(color);
-				}
+			final RendererSurfaceRec client = mClients.get(id);
+			if ((client != null) && client.isValid()) {
+				client.clear(color);
 			}
 		}
 		
@@ -785,13 +865,9 @@ public abstract class AbstractRendererHolder implements IRendererHolder {
 		 * @param color
 		 */
 		protected void handleClearAll(final int color) {
-			synchronized (mClientSync) {
-				final int n = mClients.size();
-				for (int i = 0; i < n; i++) {
-					final RendererSurfaceRec client = mClients.valueAt(i);
-					if ((client != null) && client.isValid()) {
-						client.clear(color);
-					}
+			for (final RendererSurfaceRec client: mClients.snapshot()) {
+				if (client.isValid()) {
+					client.clear(color);
 				}
 			}
 		}
@@ -853,14 +929,8 @@ public abstract class AbstractRendererHolder implements IRendererHolder {
 		 */
 		protected void handleMirror(final int mirror) {
 			mMirror = mirror;
-			synchronized (mClientSync) {
-				final int n = mClients.size();
-				for (int i = 0; i < n; i++) {
-					final RendererSurfaceRec client = mClients.valueAt(i);
-					if (client != null) {
-						setMirror(client, mirror);
-					}
-				}
+			for (final RendererSurfaceRec client: mClients.snapshot()) {
+				setMirror(client, mirror);
 			}
 		}
 	
@@ -932,6 +1002,7 @@ public abstract class AbstractRendererHolder implements IRendererHolder {
     	EGLBase.IEglSurface captureSurface;
     	GLDrawer2D drawer;
 		final float[] mMvpMatrix = new float[16];
+		int width = -1, height = -1;
 
     	@Override
 		public void run() {
@@ -969,167 +1040,200 @@ public abstract class AbstractRendererHolder implements IRendererHolder {
 			setupCaptureDrawer(drawer);
 		}
 
+		/**
+		 * 描画スレッドのテクスチャをオフスクリーンへ描画してglReadPixelsで読み出す
+		 * 圧縮とファイル書き込みはStillCaptureEncoderへ任せるので、ここではロックを保持しない
+		 */
 		private final void captureLoopGLES2() {
-			int width = -1, height = -1;
-			ByteBuffer buf = null;
-			File captureFile = null;
-			int captureCompression = 90;
+			CaptureRequest request = null;
 //			if (DEBUG) Log.v(TAG, "captureTask loop");
-			for (; isRunning ;) {
-				synchronized (mSync) {
-					if (captureFile == null) {
-						if (mCaptureFile == null) {
-							try {
-								mSync.wait();
-							} catch (final InterruptedException e) {
-								break;
-							}
-						}
-						if (mCaptureFile != null) {
-//							if (DEBUG) Log.i(TAG, "静止画撮影要求を受け取った");
-							captureFile = mCaptureFile;
-							mCaptureFile = null;
-							captureCompression = mCaptureCompression;
-							if ((captureCompression <= 0) || (captureCompression >= 100)) {
-								captureCompression = 90;
-							}
-						}
+			try {
+				for (; isRunning ;) {
+					request = waitCaptureRequest(true);
+					if (request == null) break;
+//					if (DEBUG) Log.i(TAG, "静止画撮影要求を受け取った");
+					if (request.isBurst()) {
+						final CaptureRequest burst = request;
+						request = null;
+						captureBurst(burst);
 						continue;
 					}
-					if (buf == null | width != mRendererTask.width() || height != mRendererTask.height()) {
-						width = mRendererTask.width();
-						height = mRendererTask.height();
-						buf = ByteBuffer.allocateDirect(width * height * 4);
-				    	buf.order(ByteOrder.LITTLE_ENDIAN);
-				    	if (captureSurface != null) {
-				    		captureSurface.release();
-				    		captureSurface = null;
-				    	}
-				    	captureSurface = eglBase.createOffscreen(width, height);
-					}
-					if (isRunning) {
-						setMirror(mMvpMatrix, mRendererTask.mirror());
-						mMvpMatrix[5] *= -1.0f;	// flip up-side down
-						drawer.setMvpMatrix(mMvpMatrix, 0);
-						captureSurface.makeCurrent();
-						drawer.draw(mRendererTask.mTexId, mRendererTask.mTexMatrix, 0);
-						captureSurface.swap();
-				        buf.clear();
-				        GLES20.glReadPixels(0, 0, width, height, GLES20.GL_RGBA, GLES20.GL_UNSIGNED_BYTE, buf);
-//				        if (DEBUG) Log.v(TAG, "save pixels to file:" + captureFile);
-				        Bitmap.CompressFormat compressFormat = Bitmap.CompressFormat.PNG;
-				        if (captureFile.toString().endsWith(".jpg")) {
-				        	compressFormat = Bitmap.CompressFormat.JPEG;
-				        }
-				        BufferedOutputStream os = null;
-						try {
-					        try {
-					            os = new BufferedOutputStream(new FileOutputStream(captureFile));
-					            final Bitmap bmp = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
-						        buf.clear();
-					            bmp.copyPixelsFromBuffer(buf);
-					            bmp.compress(compressFormat, captureCompression, os);
-					            bmp.recycle();
-					            os.flush();
-					        } finally {
-					            if (os != null) os.close();
-					        }
-						} catch (final FileNotFoundException e) {
-							Log.w(TAG, "failed to save file", e);
-						} catch (final IOException e) {
-							Log.w(TAG, "failed to save file", e);
-						}
-					}
-//					if (DEBUG) Log.i(TAG, "静止画撮影終了");
-					captureFile = null;
-					mSync.notifyAll();
-				}	// end of synchronized (mSync)
-			}	// end of for (; isRunning ;)
-			synchronized (mSync) {
-				mSync.notifyAll();
+					drawCapture();
+					final ByteBuffer buf = mCaptureEncoder.obtainBuffer(width * height * 4);
+			        GLES20.glReadPixels(0, 0, width, height, GLES20.GL_RGBA, GLES20.GL_UNSIGNED_BYTE, buf);
+//			        if (DEBUG) Log.v(TAG, "save pixels to file:" + request.file);
+					final CaptureRequest encoding = request;
+					request = null;
+					mCaptureEncoder.encode(buf, width, height, encoding.file, encoding.compression, encoding);
+				}	// end of for (; isRunning ;)
+			} finally {
+				if (request != null) {
+					// 読み出し中に例外が発生した
+					request.cancel();
+				}
+				cancelCaptureRequests();
 			}
 		}
 
-		// FIXME これはGL|ES3のPBOとglMapBufferRange/glUnmapBufferを使うように変更する
+		/**
+		 * GL|ES3ではPBOを順番に使ってglReadPixelsを非同期に行う
+		 * 続けて撮影要求がある時は前のフレームの読み出しを待たずに次のフレームを描画する
+		 */
 		private final void captureLoopGLES3() {
-			int width = -1, height = -1;
-			ByteBuffer buf = null;
-			File captureFile = null;
-			int captureCompression = 90;
+			final PboReader<CaptureRequest> reader = new PboReader<CaptureRequest>(
+				new GLES3PboBinding(), CAPTURE_PBO_NUM, mOnPixels);
+			CaptureRequest request = null;
 //			if (DEBUG) Log.v(TAG, "captureTask loop");
-			for (; isRunning ;) {
-				synchronized (mSync) {
-					if (captureFile == null) {
-						if (mCaptureFile == null) {
-							try {
-								mSync.wait();
-							} catch (final InterruptedException e) {
-								break;
-							}
-						}
-						if (mCaptureFile != null) {
-//							if (DEBUG) Log.i(TAG, "静止画撮影要求を受け取った");
-							captureFile = mCaptureFile;
-							mCaptureFile = null;
-							captureCompression = mCaptureCompression;
-							if ((captureCompression <= 0) || (captureCompression >= 100)) {
-								captureCompression = 90;
-							}
+			try {
+				for (; isRunning ;) {
+					// 読み出し中のPBOがある時は待機せずに確認する
+					request = waitCaptureRequest(!reader.hasPending());
+					if (request == null) {
+						if (reader.hasPending()) {
+							reader.drain();
+							continue;
 						}
+						break;
+					}
+//					if (DEBUG) Log.i(TAG, "静止画撮影要求を受け取った");
+					if (request.isBurst()) {
+						// 連写は先に読み出し中の静止画を済ませてから行う
+						final CaptureRequest burst = request;
+						request = null;
+						reader.drain();
+						captureBurst(burst);
 						continue;
 					}
-					if (buf == null | width != mRendererTask.width() || height != mRendererTask.height()) {
-						width = mRendererTask.width();
-						height = mRendererTask.height();
-						buf = ByteBuffer.allocateDirect(width * height * 4);
-				    	buf.order(ByteOrder.LITTLE_ENDIAN);
-				    	if (captureSurface != null) {
-				    		captureSurface.release();
-				    		captureSurface = null;
-				    	}
-				    	captureSurface = eglBase.createOffscreen(width, height);
+					drawCapture();
+					// submitが例外を投げた時はrequestはPboReaderに渡っていないのでここでキャンセルする
+					reader.submit(width, height, request);
+					request = null;
+				}	// end of for (; isRunning ;)
+				reader.drain();
+			} catch (final Exception e) {
+				Log.w(TAG, e);
+			} finally {
+				if (request != null) {
+					request.cancel();
+				}
+				for (final CaptureRequest discarded : reader.release()) {
+					discarded.cancel();
+				}
+				cancelCaptureRequests();
+			}
+		}
+
+		/**
+		 * PBOからマップしたピクセルをエンコーダー用のバッファへコピーして渡す
+		 */
+		private final PboReader.Callback<CaptureRequest> mOnPixels
+			= new PboReader.Callback<CaptureRequest>() {
+			@Override
+			public void onPixels(final ByteBuffer pixels, final int width, final int height,
+				final CaptureRequest request) {
+
+				final ByteBuffer buf = mCaptureEncoder.obtainBuffer(width * height * 4);
+				buf.put(pixels);
+				mCaptureEncoder.encode(buf, width, height, request.file, request.compression, request);
+			}
+
+			@Override
+			public void onDiscard(final CaptureRequest request) {
+				request.cancel();
+			}
+		};
+
+		/**
+		 * 連写, キャプチャスレッド上でglReadPixelsしてBurstCaptureのリングバッファへ読み出す
+		 * 描画スレッドは待機しない
+		 */
+		private final void captureBurst(final CaptureRequest request) {
+			int captured = 0;
+			boolean begun = false;
+			try {
+				for (; isRunning && (captured < request.burstCount) ;) {
+					if (captured > 0) {
+						waitBurstInterval(request.burstIntervalMs);
+						if (!isRunning) break;
+					}
+					drawCapture();
+					if (!begun) {
+						// キャンセルと重複してSinkへ通知しないように先に権利を取る
+						if (!request.claim()) return;
+						if (!mBurstCapture.begin(request.burstSink, width, height)) {
+							request.notifyCanceled();
+							return;
+						}
+						begun = true;
+					} else if ((width != mBurstCapture.getWidth()) || (height != mBurstCapture.getHeight())) {
+						// 連写中に映像サイズが変わった
+						break;
 					}
-					if (isRunning) {
-						setMirror(mMvpMatrix, mRendererTask.mirror());
-						mMvpMatrix[5] *= -1.0f;	// flip up-side down
-						drawer.setMvpMatrix(mMvpMatrix, 0);
-						captureSurface.makeCurrent();
-						drawer.draw(mRendererTask.mTexId, mRendererTask.mTexMatrix, 0);
-						captureSurface.swap();
-				        buf.clear();
-				        GLES20.glReadPixels(0, 0, width, height, GLES20.GL_RGBA, GLES20.GL_UNSIGNED_BYTE, buf);
-//				        if (DEBUG) Log.v(TAG, "save pixels to file:" + captureFile);
-				        Bitmap.CompressFormat compressFormat = Bitmap.CompressFormat.PNG;
-				        if (captureFile.toString().endsWith(".jpg")) {
-				        	compressFormat = Bitmap.CompressFormat.JPEG;
-				        }
-				        BufferedOutputStream os = null;
+					final ByteBuffer buf = mBurstCapture.obtain();
+					if (buf == null) break;
+			        GLES20.glReadPixels(0, 0, width, height, GLES20.GL_RGBA, GLES20.GL_UNSIGNED_BYTE, buf);
+					mBurstCapture.publish(captured, System.nanoTime());
+					captured++;
+				}
+			} finally {
+				if (begun) {
+					// Sink#onFinishedはBurstCaptureから呼ばれる
+					mBurstCapture.end(captured == request.burstCount);
+					request.markFinished();
+				} else {
+					request.cancel();
+				}
+			}
+		}
+
+		/**
+		 * 連写の間隔だけ待機してから次のフレームが描画されるのを待つ
+		 */
+		private final void waitBurstInterval(final int intervalMs) {
+			if (intervalMs > 0) {
+				final long end = SystemClock.elapsedRealtime() + intervalMs;
+				synchronized (mCaptureSync) {
+					for (long now = SystemClock.elapsedRealtime(); isRunning && (now < end);
+						now = SystemClock.elapsedRealtime()) {
+
 						try {
-					        try {
-					            os = new BufferedOutputStream(new FileOutputStream(captureFile));
-					            final Bitmap bmp = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
-						        buf.clear();
-					            bmp.copyPixelsFromBuffer(buf);
-					            bmp.compress(compressFormat, captureCompression, os);
-					            bmp.recycle();
-					            os.flush();
-					        } finally {
-					            if (os != null) os.close();
-					        }
-						} catch (final FileNotFoundException e) {
-							Log.w(TAG, "failed to save file", e);
-						} catch (final IOException e) {
-							Log.w(TAG, "failed to save file", e);
+							mCaptureSync.wait(end - now);
+						} catch (final InterruptedException e) {
+							return;
 						}
 					}
-//					if (DEBUG) Log.i(TAG, "静止画撮影終了");
-					captureFile = null;
-					mSync.notifyAll();
-				}	// end of synchronized (mSync)
-			}	// end of for (; isRunning ;)
-			synchronized (mSync) {
-				mSync.notifyAll();
+				}
+			}
+			// #notifyCapture で新しいフレームが描画されたことが通知される
+			synchronized (this) {
+				try {
+					wait(BURST_FRAME_TIMEOUT_MS);
+				} catch (final InterruptedException e) {
+					// ignore
+				}
+			}
+		}
+
+		/**
+		 * 描画スレッドの最新のテクスチャをキャプチャ用のオフスクリーンへ描画する
+		 * 映像サイズが変わっていればオフスクリーンを作り直す
+		 */
+		private final void drawCapture() {
+			if (width != mRendererTask.width() || height != mRendererTask.height()) {
+				width = mRendererTask.width();
+				height = mRendererTask.height();
+		    	if (captureSurface != null) {
+		    		captureSurface.release();
+		    		captureSurface = null;
+		    	}
+		    	captureSurface = eglBase.createOffscreen(width, height);
 			}
+			setMirror(mMvpMatrix, mRendererTask.mirror());
+			mMvpMatrix[5] *= -1.0f;	// flip up-side down
+			drawer.setMvpMatrix(mMvpMatrix, 0);
+			captureSurface.makeCurrent();
+			drawer.draw(mRendererTask.mTexId, mRendererTask.mTexMatrix, 0);
+			captureSurface.swap();
 		}
 
 		private final void release() {
@@ -1149,9 +1253,160 @@ public abstract class AbstractRendererHolder implements IRendererHolder {
 				eglBase.release();
 				eglBase = null;
 			}
+			// キューに残っているエンコードと連写の受け渡しを終えてから終了する
+			mCaptureEncoder.release();
+			mBurstCapture.release();
 		}
 	};
 
+	/**
+	 * 静止画撮影要求を取得する
+	 * @param wait 要求がない時に待機するかどうか
+	 * @return 終了した時または待機しない時に要求がなければnull
+	 */
+	private CaptureRequest waitCaptureRequest(final boolean wait) {
+		synchronized (mCaptureSync) {
+			while (wait && isRunning && mCaptureRequests.isEmpty()) {
+				try {
+					mCaptureSync.wait();
+				} catch (final InterruptedException e) {
+					return null;
+				}
+			}
+			return isRunning ? mCaptureRequests.pollFirst() : null;
+		}
+	}
+
+	/**
+	 * 未処理の静止画撮影要求に失敗を通知する
+	 */
+	private void cancelCaptureRequests() {
+		final CaptureRequest[] requests;
+		synchronized (mCaptureSync) {
+			requests = mCaptureRequests.toArray(new CaptureRequest[mCaptureRequests.size()]);
+			mCaptureRequests.clear();
+		}
+		for (final CaptureRequest request : requests) {
+			request.cancel();
+		}
+	}
+
+	/**
+	 * 静止画撮影要求または連写要求
+	 * 静止画は完了時に呼び出し元のコールバックを呼んでから#awaitで待機しているスレッドを起こす
+	 */
+	private static final class CaptureRequest implements CaptureCallback {
+		private final File file;
+		private final int compression;
+		private final CaptureCallback mCallback;
+		private final int burstCount;
+		private final int burstIntervalMs;
+		private final BurstCapture.Sink burstSink;
+		/** 完了の通知を行うスレッドが決まった */
+		private boolean mClaimed;
+		/** 完了の通知が終わった */
+		private boolean mFinished;
+
+		private CaptureRequest(final File file, final int compression,
+			final CaptureCallback callback) {
+
+			this.file = file;
+			this.compression = compression;
+			mCallback = callback;
+			burstCount = burstIntervalMs = 0;
+			burstSink = null;
+		}
+
+		private CaptureRequest(final int count, final int intervalMs,
+			final BurstCapture.Sink sink) {
+
+			file = null;
+			compression = 0;
+			mCallback = null;
+			burstCount = count;
+			burstIntervalMs = intervalMs;
+			burstSink = sink;
+		}
+
+		private boolean isBurst() {
+			return burstSink != null;
+		}
+
+		/**
+		 * 完了を通知する権利を取る, キャンセルと通常の完了が競合しても通知は1回だけ
+		 * @return 既に他で完了を通知する(した)時はfalse
+		 */
+		private boolean claim() {
+			synchronized (this) {
+				if (mClaimed) return false;
+				mClaimed = true;
+				return true;
+			}
+		}
+
+		/**
+		 * 完了の通知が終わったので#awaitで待機しているスレッドを起こす
+		 */
+		private void markFinished() {
+			synchronized (this) {
+				mFinished = true;
+				notifyAll();
+			}
+		}
+
+		/**
+		 * 撮影できなかったことを通知する
+		 */
+		private void cancel() {
+			// 既に完了を通知済み
+			if (!claim()) return;
+			notifyCanceled();
+		}
+
+		/**
+		 * #claimで権利を取ってから呼ぶ
+		 */
+		private void notifyCanceled() {
+			try {
+				if (isBurst()) {
+					burstSink.onFinished(0, false);
+				} else if (mCallback != null) {
+					mCallback.onCaptureFinished(file.toString(), false, 0);
+				}
+			} catch (final Exception e) {
+				Log.w(TAG, e);
+			} finally {
+				markFinished();
+			}
+		}
+
+		@Override
+		public void onCaptureFinished(final String path, final boolean success, final long encodeTimeMs) {
+			if (!claim()) return;
+			try {
+				if (mCallback != null) {
+					mCallback.onCaptureFinished(path, success, encodeTimeMs);
+				}
+			} catch (final Exception e) {
+				Log.w(TAG, e);
+			} finally {
+				markFinished();
+			}
+		}
+
+		private void await() {
+			synchronized (this) {
+				while (!mFinished) {
+					try {
+						wait();
+					} catch (final InterruptedException e) {
+						break;
+					}
+				}
+			}
+		}
+	}
+
 //================================================================================
 	protected static void setMirror(final float[] mvp, final int mirror) {
 		switch (mirror) {
@@ -0,0 +1,250 @@
+package com.serenegiant.glutils;
+
+import android.util.Log;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Preallocated ring of direct buffers used for burst capture.
+ * The capture task reads pixels into the ring(#obtain/#publish) and a dedicated thread hands
+ * them to the Sink, so a slow Sink never stalls readback and no buffer is allocated per frame.
+ * Buffers are reused across bursts while the capture size does not change.
+ * Only one burst can be active at a time, #begin waits for the previous burst to be delivered.
+ */
+public class BurstCapture {
+//	private static final boolean DEBUG = false;	// FIXME 実働時はfalseにすること
+	private static final String TAG = BurstCapture.class.getSimpleName();
+	private static final String SINK_THREAD_NAME = "BurstSink";
+
+	/**
+	 * receiver of burst frames, all methods are called on the sink thread
+	 */
+	public interface Sink {
+		/**
+		 * @param index 0 based index in the burst
+		 * @param rgba RGBA pixels(up-side down is already corrected), only valid while this method is executing
+		 * @param width
+		 * @param height
+		 * @param timestampNs System#nanoTime when the frame was read back
+		 */
+		public void onFrame(final int index, final ByteBuffer rgba,
+			final int width, final int height, final long timestampNs);
+
+		/**
+		 * @param frames number of frames passed to #onFrame
+		 * @param completed false if the burst was interrupted(released or capture size changed)
+		 */
+		public void onFinished(final int frames, final boolean completed);
+	}
+
+	private final Object mSync = new Object();
+	private final int mRingSize;
+	private final ByteBuffer[] mBuffers;
+	private final int[] mIndices;
+	private final long[] mTimestamps;
+	private int mWidth, mHeight;
+	private int mHead, mQueued;
+	private Sink mSink;
+	private boolean mActive, mEnded, mCompleted;
+	private int mDelivered;
+	private volatile boolean mIsRunning;
+	private long mBursts, mFrames;
+
+	/**
+	 * @param ringSize number of frames that can wait for the Sink
+	 */
+	public BurstCapture(final int ringSize) {
+		if (ringSize <= 0) {
+			throw new IllegalArgumentException("ringSize should be positive");
+		}
+		mRingSize = ringSize;
+		mBuffers = new ByteBuffer[ringSize];
+		mIndices = new int[ringSize];
+		mTimestamps = new long[ringSize];
+		mIsRunning = true;
+		new Thread(mSinkTask, SINK_THREAD_NAME).start();
+	}
+
+	/**
+	 * deliver the frames of the current burst and then stop the sink thread
+	 */
+	public void release() {
+		synchronized (mSync) {
+			mIsRunning = false;
+			mSync.notifyAll();
+		}
+	}
+
+	/**
+	 * start new burst, waits until the previous burst is delivered
+	 * @param sink
+	 * @param width
+	 * @param height
+	 * @return false if already released
+	 */
+	public boolean begin(final Sink sink, final int width, final int height) {
+		synchronized (mSync) {
+			while (mIsRunning && mActive) {
+				try {
+					mSync.wait();
+				} catch (final InterruptedException e) {
+					return false;
+				}
+			}
+			if (!mIsRunning) return false;
+			if ((width != mWidth) || (height != mHeight)) {
+				// capture size changed, ring is empty here
+				// allocate all slots before the first frame so that nothing is allocated during the burst,
+				// size is cleared first so that the next #begin allocates again if this fails halfway
+				mWidth = mHeight = 0;
+				for (int i = 0; i < mRingSize; i++) {
+					mBuffers[i] = null;
+				}
+				for (int i = 0; i < mRingSize; i++) {
+					final ByteBuffer buf = ByteBuffer.allocateDirect(width * height * 4);
+					buf.order(ByteOrder.LITTLE_ENDIAN);
+					mBuffers[i] = buf;
+				}
+				mWidth = width;
+				mHeight = height;
+			}
+			mSink = sink;
+			mHead = mQueued = mDelivered = 0;
+			mActive = true;
+			mEnded = mCompleted = false;
+			mBursts++;
+			return true;
+		}
+	}
+
+	/**
+	 * get the next free buffer of the ring, waits while all buffers wait for the Sink
+	 * @return cleared direct buffer, null if released
+	 */
+	public ByteBuffer obtain() {
+		synchronized (mSync) {
+			while (mIsRunning && (mQueued >= mRingSize)) {
+				try {
+					mSync.wait();
+				} catch (final InterruptedException e) {
+					return null;
+				}
+			}
+			if (!mIsRunning || !mActive) return null;
+			final ByteBuffer buf = mBuffers[(mHead + mQueued) % mRingSize];
+			buf.clear();
+			return buf;
+		}
+	}
+
+	/**
+	 * hand the buffer obtained by #obtain to the Sink
+	 * @param index
+	 * @param timestampNs
+	 */
+	public void publish(final int index, final long timestampNs) {
+		synchronized (mSync) {
+			final int pos = (mHead + mQueued) % mRingSize;
+			mIndices[pos] = index;
+			mTimestamps[pos] = timestampNs;
+			mQueued++;
+			mFrames++;
+			mSync.notifyAll();
+		}
+	}
+
+	/**
+	 * end current burst, Sink#onFinished is called after all published frames are delivered
+	 * @param completed
+	 */
+	public void end(final boolean completed) {
+		synchronized (mSync) {
+			if (!mActive) return;
+			mEnded = true;
+			mCompleted = completed;
+			mSync.notifyAll();
+		}
+	}
+
+	public int getWidth() {
+		synchronized (mSync) {
+			return mWidth;
+		}
+	}
+
+	public int getHeight() {
+		synchronized (mSync) {
+			return mHeight;
+		}
+	}
+
+	private final Runnable mSinkTask = new Runnable() {
+		@Override
+		public void run() {
+			for ( ; ; ) {
+				final Sink sink;
+				ByteBuffer buf = null;
+				int index = 0, width = 0, height = 0;
+				long timestampNs = 0;
+				boolean finished = false, completed = false;
+				int delivered = 0;
+				synchronized (mSync) {
+					while (!(mActive && ((mQueued > 0) || mEnded)) && mIsRunning) {
+						try {
+							mSync.wait();
+						} catch (final InterruptedException e) {
+							// check mIsRunning
+						}
+					}
+					if (!mActive) break;	// released and no active burst
+					sink = mSink;
+					if (mQueued > 0) {
+						buf = mBuffers[mHead];
+						index = mIndices[mHead];
+						timestampNs = mTimestamps[mHead];
+						width = mWidth;
+						height = mHeight;
+					} else if (mEnded || !mIsRunning) {
+						finished = true;
+						completed = mCompleted && mEnded;
+						delivered = mDelivered;
+					}
+				}
+				if (buf != null) {
+					buf.clear();
+					try {
+						sink.onFrame(index, buf, width, height, timestampNs);
+					} catch (final Exception e) {
+						Log.w(TAG, e);
+					}
+					synchronized (mSync) {
+						mHead = (mHead + 1) % mRingSize;
+						mQueued--;
+						mDelivered++;
+						mSync.notifyAll();	// wake up #obtain
+					}
+				} else if (finished) {
+					try {
+						sink.onFinished(delivered, completed);
+					} catch (final Exception e) {
+						Log.w(TAG, e);
+					}
+					synchronized (mSync) {
+						mActive = false;
+						mSink = null;
+						mSync.notifyAll();	// wake up #begin
+					}
+				}
+			}
+		}
+	};
+
+	@Override
+	public String toString() {
+		synchronized (mSync) {
+			return TAG + "{ring=" + mRingSize + ",size=" + mWidth + "x" + mHeight
+				+ ",bursts=" + mBursts + ",frames=" + mFrames + "}";
+		}
+	}
+}
@@ -0,0 +1,14 @@
+package com.serenegiant.glutils;
+
+/**
+ * 静止画キャプチャの完了通知
+ * エンコードスレッド上で呼ばれるので時間のかかる処理をしないこと
+ */
+public interface CaptureCallback {
+	/**
+	 * @param path 保存先
+	 * @param success 保存できたかどうか
+	 * @param encodeTimeMs 圧縮とファイル書き込みにかかった時間[ミリ秒]
+	 */
+	public void onCaptureFinished(final String path, final boolean success, final long encodeTimeMs);
+}
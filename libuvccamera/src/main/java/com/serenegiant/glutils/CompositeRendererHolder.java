@@ -0,0 +1,350 @@
+package com.serenegiant.glutils;
+
+import android.annotation.SuppressLint;
+import android.graphics.SurfaceTexture;
+import android.opengl.GLES20;
+import android.support.annotation.IntDef;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.util.Log;
+import android.view.Surface;
+
+import com.serenegiant.utils.BuildCheck;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+import static com.serenegiant.glutils.ShaderConst.GL_TEXTURE_EXTERNAL_OES;
+
+/**
+ * 2つの入力映像(例えば近赤外と可視光カメラ)を1回のGL処理で1つの映像に合成するRendererHolder
+ * 合成した映像はマスター映像として扱うので、分配描画用Surface, captureStill, captureBurstは
+ * 合成結果に対して働き、両方の映像が時刻の揃った1フレームとして得られる
+ * 入力映像は#getInputSurface/#getInputSurfaceTextureで取得したSurfaceへ書き込む
+ */
+public class CompositeRendererHolder extends AbstractRendererHolder {
+//	private static final boolean DEBUG = false;	// FIXME 実働時はfalseにすること
+	private static final String TAG = CompositeRendererHolder.class.getSimpleName();
+
+	/**
+	 * 入力映像の数
+	 */
+	public static final int INPUT_NUM = 2;
+
+	/**
+	 * 左右に並べる, 入力0が左
+	 */
+	public static final int LAYOUT_SIDE_BY_SIDE = 0;
+	/**
+	 * 入力0を全面に, 入力1を小窓に表示する
+	 */
+	public static final int LAYOUT_PICTURE_IN_PICTURE = 1;
+
+	@IntDef({LAYOUT_SIDE_BY_SIDE, LAYOUT_PICTURE_IN_PICTURE})
+	@Retention(RetentionPolicy.SOURCE)
+	public @interface Layout {}
+
+	private static final int REQUEST_COMPOSITE = 100;
+	private static final int REQUEST_UPDATE_INPUT_SIZE = 101;
+
+	/**
+	 * @param width 合成後の映像の幅
+	 * @param height 合成後の映像の高さ
+	 * @param callback
+	 */
+	public CompositeRendererHolder(final int width, final int height,
+		@Nullable final RenderHolderCallback callback) {
+
+		super(width, height, callback);
+	}
+
+	@NonNull
+	@Override
+	protected RendererTask createRendererTask(final int width, final int height) {
+		return new CompositeRendererTask(this, width, height);
+	}
+
+	/**
+	 * 入力映像を受け取るためのSurfaceを取得
+	 * @param index 0または1
+	 * @return
+	 */
+	public Surface getInputSurface(final int index) {
+		return ((CompositeRendererTask)mRendererTask).mInputSurfaces[index];
+	}
+
+	/**
+	 * 入力映像を受け取るためのSurfaceTextureを取得
+	 * @param index 0または1
+	 * @return
+	 */
+	public SurfaceTexture getInputSurfaceTexture(final int index) {
+		return ((CompositeRendererTask)mRendererTask).mInputTextures[index];
+	}
+
+	/**
+	 * 入力映像のサイズを設定
+	 * @param index 0または1
+	 * @param width
+	 * @param height
+	 */
+	public void setInputSize(final int index, final int width, final int height) {
+		mRendererTask.offer(REQUEST_UPDATE_INPUT_SIZE, index, (width << 16) | (height & 0xffff));
+	}
+
+	/**
+	 * レイアウトを変更
+	 * @param layout
+	 */
+	public void setLayout(@Layout final int layout) {
+		((CompositeRendererTask)mRendererTask).mLayout = layout;
+	}
+
+	@Layout
+	public int getLayout() {
+		return ((CompositeRendererTask)mRendererTask).mLayout;
+	}
+
+	/**
+	 * LAYOUT_PICTURE_IN_PICTUREの時の小窓の位置とサイズを合成後の映像に対する比率で設定
+	 * 左上が原点
+	 * @param left
+	 * @param top
+	 * @param width
+	 * @param height
+	 */
+	public void setPipWindow(final float left, final float top, final float width, final float height) {
+		if ((left < 0) || (top < 0) || (width <= 0) || (height <= 0)
+			|| (left + width > 1.0f) || (top + height > 1.0f)) {
+
+			throw new IllegalArgumentException("pip window out of range");
+		}
+		final CompositeRendererTask task = (CompositeRendererTask)mRendererTask;
+		synchronized (task.mPipWindow) {
+			task.mPipWindow[0] = left;
+			task.mPipWindow[1] = top;
+			task.mPipWindow[2] = width;
+			task.mPipWindow[3] = height;
+		}
+	}
+
+	/**
+	 * 全面に表示する入力映像を入れ替える(LAYOUT_PICTURE_IN_PICTUREの時は小窓の映像も入れ替わる)
+	 * @param swap trueなら入力1を左または全面に表示する
+	 */
+	public void setSwapped(final boolean swap) {
+		((CompositeRendererTask)mRendererTask).mSwapped = swap;
+	}
+
+//================================================================================
+// 実装
+//================================================================================
+	/**
+	 * 入力映像を合成してマスターSurfaceへ書き込み, マスター映像を分配描画する
+	 */
+	private static final class CompositeRendererTask extends RendererTask {
+		private final int[] mInputTexIds = new int[INPUT_NUM];
+		private final SurfaceTexture[] mInputTextures = new SurfaceTexture[INPUT_NUM];
+		private final Surface[] mInputSurfaces = new Surface[INPUT_NUM];
+		private final float[][] mInputTexMatrix = new float[INPUT_NUM][16];
+		/**
+		 * 映像が来た入力, mCompositeSyncで同期する
+		 */
+		private final boolean[] mHasFrame = new boolean[INPUT_NUM];
+		/**
+		 * mHasFrameを合成開始時にコピーしたもの, 描画スレッドだけで使う
+		 */
+		private final boolean[] mDrawFrame = new boolean[INPUT_NUM];
+		private final float[] mPipWindow = { 0.65f, 0.05f, 0.3f, 0.3f };
+		private final float[] mPip = new float[4];
+		private volatile int mLayout = LAYOUT_SIDE_BY_SIDE;
+		private volatile boolean mSwapped;
+		private final Object mCompositeSync = new Object();
+		private boolean mCompositeRequested;
+		/**
+		 * マスターSurfaceへ描画するためのEGLSurface
+		 */
+		private EGLBase.IEglSurface mTarget;
+		private Surface mTargetSurface;
+		private GLDrawer2D mCompositeDrawer;
+
+		public CompositeRendererTask(final CompositeRendererHolder parent,
+			final int width, final int height) {
+
+			super(parent, width, height);
+		}
+
+		@SuppressLint("NewApi")
+		@Override
+		protected void internalOnStart() {
+			super.internalOnStart();
+			mCompositeDrawer = new GLDrawer2D(true);
+			for (int i = 0; i < INPUT_NUM; i++) {
+				mInputTexIds[i] = GLHelper.initTex(GL_TEXTURE_EXTERNAL_OES, GLES20.GL_LINEAR);
+				mInputTextures[i] = new SurfaceTexture(mInputTexIds[i]);
+				if (BuildCheck.isAndroid4_1()) {
+					mInputTextures[i].setDefaultBufferSize(width(), height());
+				}
+				mInputTextures[i].setOnFrameAvailableListener(mOnInputFrameAvailableListener);
+				mInputSurfaces[i] = new Surface(mInputTextures[i]);
+			}
+		}
+
+		@Override
+		protected void internalOnStop() {
+			releaseTarget();
+			for (int i = 0; i < INPUT_NUM; i++) {
+				if (mInputSurfaces[i] != null) {
+					mInputSurfaces[i].release();
+					mInputSurfaces[i] = null;
+				}
+				if (mInputTextures[i] != null) {
+					mInputTextures[i].setOnFrameAvailableListener(null);
+					mInputTextures[i].release();
+					mInputTextures[i] = null;
+				}
+				if (mInputTexIds[i] != 0) {
+					GLHelper.deleteTex(mInputTexIds[i]);
+					mInputTexIds[i] = 0;
+				}
+			}
+			if (mCompositeDrawer != null) {
+				mCompositeDrawer.release();
+				mCompositeDrawer = null;
+			}
+			super.internalOnStop();
+		}
+
+		@Override
+		protected Object processRequest(final int request, final int arg1, final int arg2, final Object obj) {
+			switch (request) {
+			case REQUEST_COMPOSITE:
+				handleComposite();
+				return null;
+			case REQUEST_UPDATE_INPUT_SIZE:
+				handleInputSize(arg1, arg2 >>> 16, arg2 & 0xffff);
+				return null;
+			default:
+				return super.processRequest(request, arg1, arg2, obj);
+			}
+		}
+
+		@SuppressLint("NewApi")
+		private void handleInputSize(final int index, final int width, final int height) {
+			if ((index >= 0) && (index < INPUT_NUM) && (mInputTextures[index] != null)
+				&& BuildCheck.isAndroid4_1()) {
+
+				mInputTextures[index].setDefaultBufferSize(width, height);
+			}
+		}
+
+		/**
+		 * 新しい入力映像を取り込んで合成し, マスターSurfaceへ書き込む
+		 */
+		private void handleComposite() {
+			synchronized (mCompositeSync) {
+				mCompositeRequested = false;
+				System.arraycopy(mHasFrame, 0, mDrawFrame, 0, INPUT_NUM);
+			}
+			makeCurrent();
+			for (int i = 0; i < INPUT_NUM; i++) {
+				try {
+					mInputTextures[i].updateTexImage();
+					mInputTextures[i].getTransformMatrix(mInputTexMatrix[i]);
+				} catch (final Exception e) {
+					Log.w(TAG, "handleComposite:updateTexImage", e);
+				}
+			}
+			if (!checkTarget()) return;
+			final int width = width();
+			final int height = height();
+			mTarget.makeCurrent();
+			GLES20.glViewport(0, 0, width, height);
+			GLES20.glClearColor(0, 0, 0, 1);
+			GLES20.glClear(GLES20.GL_COLOR_BUFFER_BIT);
+			final int main = mSwapped ? 1 : 0;
+			final int sub = 1 - main;
+			switch (mLayout) {
+			case LAYOUT_PICTURE_IN_PICTURE:
+				drawInput(main, 0, 0, width, height);
+				synchronized (mPipWindow) {
+					System.arraycopy(mPipWindow, 0, mPip, 0, 4);
+				}
+				// glViewportは左下が原点
+				final int w = (int)(width * mPip[2]);
+				final int h = (int)(height * mPip[3]);
+				final int x = (int)(width * mPip[0]);
+				final int y = height - (int)(height * mPip[1]) - h;
+				drawInput(sub, x, y, w, h);
+				break;
+			case LAYOUT_SIDE_BY_SIDE:
+			default:
+				final int half = width / 2;
+				drawInput(main, 0, 0, half, height);
+				drawInput(sub, half, 0, width - half, height);
+				break;
+			}
+			mTarget.swap();
+			makeCurrent();
+		}
+
+		private void drawInput(final int index, final int x, final int y, final int width, final int height) {
+			if (!mDrawFrame[index]) return;	// まだ映像が来ていない
+			GLES20.glViewport(x, y, width, height);
+			mCompositeDrawer.draw(mInputTexIds[index], mInputTexMatrix[index], 0);
+		}
+
+		/**
+		 * マスターSurfaceへ描画するためのEGLSurfaceを必要なら生成し直す
+		 * @return 描画可能ならtrue
+		 */
+		private boolean checkTarget() {
+			final Surface master = getMasterSurface();
+			if ((master == null) || !master.isValid()) {
+				releaseTarget();
+				return false;
+			}
+			if ((mTarget == null) || (mTargetSurface != master) || !mTarget.isValid()) {
+				releaseTarget();
+				try {
+					mTarget = getEgl().createFromSurface(master);
+					mTargetSurface = master;
+				} catch (final Exception e) {
+					Log.w(TAG, "checkTarget:failed to create target surface", e);
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private void releaseTarget() {
+			if (mTarget != null) {
+				mTarget.release();
+				mTarget = null;
+			}
+			mTargetSurface = null;
+		}
+
+		/**
+		 * 入力映像を受け取った時のコールバックリスナー, 合成要求はまとめて1回にする
+		 */
+		private final SurfaceTexture.OnFrameAvailableListener mOnInputFrameAvailableListener
+			= new SurfaceTexture.OnFrameAvailableListener() {
+
+			@Override
+			public void onFrameAvailable(final SurfaceTexture surfaceTexture) {
+				synchronized (mCompositeSync) {
+					for (int i = 0; i < INPUT_NUM; i++) {
+						if (mInputTextures[i] == surfaceTexture) {
+							mHasFrame[i] = true;
+						}
+					}
+					if (mCompositeRequested) return;
+					mCompositeRequested = true;
+				}
+				offer(REQUEST_COMPOSITE);
+			}
+		};
+	}
+
+}
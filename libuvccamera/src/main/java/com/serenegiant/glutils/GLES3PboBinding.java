@@ -0,0 +1,64 @@
+package com.serenegiant.glutils;
+
+import android.annotation.TargetApi;
+import android.opengl.GLES30;
+import android.os.Build;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * PboReader.GLBinding implementation with GL|ES3 pixel pack buffers and glMapBufferRange
+ */
+@TargetApi(Build.VERSION_CODES.JELLY_BEAN_MR2)
+public class GLES3PboBinding implements PboReader.GLBinding {
+	private final int[] mIds = new int[1];
+
+	@Override
+	public int createBuffer(final int size) {
+		GLES30.glGenBuffers(1, mIds, 0);
+		GLHelper.checkGlError("glGenBuffers");
+		final int buffer = mIds[0];
+		GLES30.glBindBuffer(GLES30.GL_PIXEL_PACK_BUFFER, buffer);
+		GLES30.glBufferData(GLES30.GL_PIXEL_PACK_BUFFER, size, null, GLES30.GL_STREAM_READ);
+		GLES30.glBindBuffer(GLES30.GL_PIXEL_PACK_BUFFER, 0);
+		GLHelper.checkGlError("glBufferData");
+		return buffer;
+	}
+
+	@Override
+	public void deleteBuffer(final int buffer) {
+		mIds[0] = buffer;
+		GLES30.glDeleteBuffers(1, mIds, 0);
+	}
+
+	@Override
+	public void readPixels(final int buffer, final int width, final int height) {
+		GLES30.glBindBuffer(GLES30.GL_PIXEL_PACK_BUFFER, buffer);
+		// with a pixel pack buffer bound, the last argument is the offset in the buffer
+		GLES30.glReadPixels(0, 0, width, height, GLES30.GL_RGBA, GLES30.GL_UNSIGNED_BYTE, 0);
+		GLES30.glBindBuffer(GLES30.GL_PIXEL_PACK_BUFFER, 0);
+		GLHelper.checkGlError("glReadPixels");
+	}
+
+	@Override
+	public ByteBuffer mapBuffer(final int buffer, final int size) {
+		GLES30.glBindBuffer(GLES30.GL_PIXEL_PACK_BUFFER, buffer);
+		final ByteBuffer result = (ByteBuffer)GLES30.glMapBufferRange(
+			GLES30.GL_PIXEL_PACK_BUFFER, 0, size, GLES30.GL_MAP_READ_BIT);
+		GLHelper.checkGlError("glMapBufferRange");
+		if (result == null) {
+			GLES30.glBindBuffer(GLES30.GL_PIXEL_PACK_BUFFER, 0);
+			throw new RuntimeException("glMapBufferRange failed");
+		}
+		result.order(ByteOrder.LITTLE_ENDIAN);
+		return result;
+	}
+
+	@Override
+	public void unmapBuffer(final int buffer) {
+		GLES30.glBindBuffer(GLES30.GL_PIXEL_PACK_BUFFER, buffer);
+		GLES30.glUnmapBuffer(GLES30.GL_PIXEL_PACK_BUFFER);
+		GLES30.glBindBuffer(GLES30.GL_PIXEL_PACK_BUFFER, 0);
+	}
+}
@@ -121,6 +121,14 @@ public interface IRendererHolder extends IRendererCommon {
 	 */
 	public int getCount();
 
+	/**
+	 * 分配描画用のSurfaceの描画統計情報(描画数, 最大フレームレート制限によるスキップ数, 遅延数, 描画時間)を取得
+	 * @param id
+	 * @param stats 結果を書き込むインスタンス
+	 * @return 指定したIDのSurfaceが無ければfalse
+	 */
+	public boolean getSurfaceStats(final int id, final SurfaceStats stats);
+
 	/**
 	 * 静止画を撮影する
 	 * 撮影完了を待機しない
@@ -136,6 +144,26 @@ public interface IRendererHolder extends IRendererCommon {
 	 */
 	public void captureStillAsync(final String path, final int captureCompression);
 
+	/**
+	 * 静止画を撮影する
+	 * 撮影完了を待機しない、複数の要求をキューに積むことができる
+	 * @param path
+	 * @param captureCompression JPEGの圧縮率, pngの時は無視
+	 * @param callback 保存完了時にエンコードスレッド上で呼ばれる, nullでもよい
+	 */
+	public void captureStillAsync(final String path, final int captureCompression,
+		final CaptureCallback callback);
+
+	/**
+	 * 連写する
+	 * 撮影完了を待機しない, フレームはあらかじめ確保したバッファ経由でSinkへ非同期に渡される
+	 * @param count 撮影するフレーム数
+	 * @param intervalMs フレームの間隔[ミリ秒], 0なら新しいフレームごと
+	 * @param sink
+	 * @return 撮影要求を受け付けたかどうか
+	 */
+	public boolean captureBurst(final int count, final int intervalMs, final BurstCapture.Sink sink);
+
 	/**
 	 * 静止画を撮影する
 	 * 撮影完了を待機する
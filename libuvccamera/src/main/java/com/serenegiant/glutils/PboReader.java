@@ -0,0 +1,187 @@
+package com.serenegiant.glutils;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Asynchronous glReadPixels through a ring of pixel pack buffer objects(PBO).
+ * #submit starts reading the current framebuffer into the next PBO and returns without waiting,
+ * the oldest PBO is mapped and handed to the Callback only when the ring is full or on #drain,
+ * so that readback of frame N overlaps rendering of frame N+1.
+ * All GL calls go through GLBinding so this class can be driven by a fake GL binding.
+ * This class is not thread safe, use it only on the thread that owns the GL context.
+ * @param <T> type of the tag that is passed through with each readback
+ */
+public class PboReader<T> {
+
+	/**
+	 * GL calls used by PboReader, see GLES3PboBinding for the real implementation
+	 */
+	public interface GLBinding {
+		/**
+		 * create a pixel pack buffer
+		 * @param size in bytes
+		 * @return buffer name
+		 */
+		public int createBuffer(final int size);
+		public void deleteBuffer(final int buffer);
+		/**
+		 * start reading RGBA pixels of the current framebuffer into the buffer
+		 */
+		public void readPixels(final int buffer, final int width, final int height);
+		/**
+		 * map the buffer for reading, this waits for the readback to finish
+		 * @return mapped memory, only valid until #unmapBuffer
+		 */
+		public ByteBuffer mapBuffer(final int buffer, final int size);
+		public void unmapBuffer(final int buffer);
+	}
+
+	public interface Callback<T> {
+		/**
+		 * @param pixels RGBA pixels, only valid while this method is executing
+		 * @param width
+		 * @param height
+		 * @param tag the one given to #submit
+		 */
+		public void onPixels(final ByteBuffer pixels, final int width, final int height, final T tag);
+
+		/**
+		 * called instead when #onPixels threw, the tag is not pending any more
+		 * and is not returned by #release, so the owner should finish it here
+		 * @param tag the one given to #submit
+		 */
+		public void onDiscard(final T tag);
+	}
+
+	private static final class Slot<T> {
+		int buffer;
+		int size;
+		int width, height;
+		T tag;
+	}
+
+	private final GLBinding mGL;
+	private final Callback<T> mCallback;
+	private final Slot<T>[] mSlots;
+	private int mHead;	// oldest pending slot
+	private int mPending;
+
+	/**
+	 * @param gl
+	 * @param count number of PBOs, 2 or 3 is enough in most case
+	 * @param callback
+	 */
+	@SuppressWarnings("unchecked")
+	public PboReader(final GLBinding gl, final int count, final Callback<T> callback) {
+		if (count <= 0) {
+			throw new IllegalArgumentException("count should be positive");
+		}
+		mGL = gl;
+		mCallback = callback;
+		mSlots = (Slot<T>[])new Slot<?>[count];
+		for (int i = 0; i < count; i++) {
+			mSlots[i] = new Slot<T>();
+		}
+	}
+
+	/**
+	 * @return number of readbacks not yet handed to the Callback
+	 */
+	public int getPendingCount() {
+		return mPending;
+	}
+
+	public boolean hasPending() {
+		return mPending > 0;
+	}
+
+	/**
+	 * start reading the current framebuffer
+	 * when all PBOs are in use, the oldest one is handed to the Callback first.
+	 * if this throws, the tag was not accepted and is still owned by the caller
+	 * @param width
+	 * @param height
+	 * @param tag
+	 */
+	public void submit(final int width, final int height, final T tag) {
+		if (mPending >= mSlots.length) {
+			completeOldest();
+		}
+		final Slot<T> slot = mSlots[(mHead + mPending) % mSlots.length];
+		final int size = width * height * 4;
+		if (slot.size != size) {
+			if (slot.size > 0) {
+				mGL.deleteBuffer(slot.buffer);
+				slot.size = 0;
+			}
+			slot.buffer = mGL.createBuffer(size);
+			slot.size = size;
+		}
+		mGL.readPixels(slot.buffer, width, height);
+		slot.width = width;
+		slot.height = height;
+		slot.tag = tag;
+		mPending++;
+	}
+
+	/**
+	 * hand the oldest readback to the Callback
+	 * @return false if there is no pending readback
+	 */
+	public boolean completeOldest() {
+		if (mPending <= 0) return false;
+		final Slot<T> slot = mSlots[mHead];
+		// map first, the slot stays pending(and is returned by #release) if this fails
+		final ByteBuffer pixels = mGL.mapBuffer(slot.buffer, slot.size);
+		final T tag = slot.tag;
+		slot.tag = null;
+		mHead = (mHead + 1) % mSlots.length;
+		mPending--;
+		try {
+			mCallback.onPixels(pixels, slot.width, slot.height, tag);
+		} catch (final RuntimeException e) {
+			mCallback.onDiscard(tag);
+			throw e;
+		} finally {
+			mGL.unmapBuffer(slot.buffer);
+		}
+		return true;
+	}
+
+	/**
+	 * hand all pending readbacks to the Callback in submitted order
+	 */
+	public void drain() {
+		while (completeOldest()) {
+			// do nothing
+		}
+	}
+
+	/**
+	 * delete all PBOs without handing pending readbacks to the Callback
+	 * @return tags of the readbacks that were discarded
+	 */
+	public List<T> release() {
+		final List<T> result = new ArrayList<T>(mPending);
+		for ( ; mPending > 0; mPending--) {
+			final Slot<T> slot = mSlots[mHead];
+			result.add(slot.tag);
+			slot.tag = null;
+			mHead = (mHead + 1) % mSlots.length;
+		}
+		for (final Slot<T> slot : mSlots) {
+			if (slot.size > 0) {
+				try {
+					mGL.deleteBuffer(slot.buffer);
+				} catch (final Exception e) {
+					// ignore, GL context may be already lost
+				}
+				slot.size = 0;
+			}
+		}
+		mHead = 0;
+		return result;
+	}
+}
@@ -15,7 +15,7 @@ class RendererSurfaceRec {
 	 * ファクトリーメソッド
 	 * @param egl
 	 * @param surface
-	 * @param maxFps 0以下なら最大描画フレームレート制限なし, あまり正確じゃない
+	 * @param maxFps 0以下なら最大描画フレームレート制限なし
 	 * @return
 	 */
 	static RendererSurfaceRec newInstance(final EGLBase egl, final Object surface, final int maxFps) {
@@ -30,6 +30,8 @@ class RendererSurfaceRec {
 	private EGLBase.IEglSurface mTargetSurface;
 	final float[] mMvpMatrix = new float[16];
 	protected volatile boolean mEnable = true;
+	/** 統計情報, 描画スレッドからのみ更新する */
+	protected volatile long mDrawn, mSkipped, mLate, mDrawTimeNs;
 
 	/**
 	 * コンストラクタ, ファクトリーメソッドの使用を強制するためprivate
@@ -89,14 +91,28 @@ class RendererSurfaceRec {
 
 	public void draw(final GLDrawer2D drawer, final int textId, final float[] texMatrix) {
 		if (mTargetSurface != null) {
+			final long start = Time.nanoTime();
 			mTargetSurface.makeCurrent();
 			// 本来は映像が全面に描画されるので#glClearでクリアする必要はないけどハングアップする機種があるのでクリアしとく
 			GLES20.glClear(GLES20.GL_COLOR_BUFFER_BIT);
 			drawer.setMvpMatrix(mMvpMatrix, 0);
 			drawer.draw(textId, texMatrix, 0);
 			mTargetSurface.swap();
+			mDrawTimeNs += Time.nanoTime() - start;
+			mDrawn++;
 		}
 	}
+
+	/**
+	 * 統計情報を取得
+	 * @param stats
+	 */
+	public void getStats(final SurfaceStats stats) {
+		stats.drawn = mDrawn;
+		stats.skipped = mSkipped;
+		stats.late = mLate;
+		stats.drawTimeNs = mDrawTimeNs;
+	}
 	
 	/**
 	 * 指定した色で全面を塗りつぶす
@@ -136,9 +152,18 @@ class RendererSurfaceRec {
 		mTargetSurface.swap();
 	}
 
+	/**
+	 * 最大フレームレートを制限するRendererSurfaceRec
+	 * 描画予定時刻を描画毎に1フレーム間隔ずつ進める(描画時刻基準で再設定しない)ので
+	 * 描画タイミングの揺らぎが蓄積せず平均すると指定したフレームレートになる
+	 */
 	private static class RendererSurfaceRecHasWait extends RendererSurfaceRec {
 		private long mNextDraw;
 		private final long mIntervalsNs;
+		/**
+		 * 映像の到着時刻の揺らぎで描画予定時刻の直前のフレームを取りこぼさないための許容量
+		 */
+		private final long mToleranceNs;
 
 		/**
 		 * コンストラクタ, ファクトリーメソッドの使用を強制するためprivate
@@ -149,17 +174,33 @@ class RendererSurfaceRec {
 		private RendererSurfaceRecHasWait(final EGLBase egl, final Object surface, final int maxFps) {
 			super(egl, surface);
 			mIntervalsNs = 1000000000L / maxFps;
-			mNextDraw = Time.nanoTime() + mIntervalsNs;
+			mToleranceNs = mIntervalsNs / 4;
+			mNextDraw = Time.nanoTime();
 		}
 
+		/**
+		 * 描画スレッドから毎フレーム呼ばれる, 描画しない時はスキップ数を加算する
+		 * @return
+		 */
 		@Override
 		public boolean canDraw() {
-			return mEnable && (Time.nanoTime() - mNextDraw > 0);
+			if (!mEnable) return false;
+			if (Time.nanoTime() - (mNextDraw - mToleranceNs) >= 0) {
+				return true;
+			}
+			mSkipped++;
+			return false;
 		}
 
 		@Override
 		public void draw(final GLDrawer2D drawer, final int textId, final float[] texMatrix) {
-			mNextDraw = Time.nanoTime() + mIntervalsNs;
+			final long now = Time.nanoTime();
+			mNextDraw += mIntervalsNs;
+			if (now - mNextDraw >= 0) {
+				// 1フレーム間隔以上遅れている時はまとめて描画しないように予定時刻を再設定する
+				mLate++;
+				mNextDraw = now + mIntervalsNs;
+			}
 			super.draw(drawer, textId, texMatrix);
 		}
 	}
@@ -0,0 +1,274 @@
+package com.serenegiant.glutils;
+
+import android.graphics.Bitmap;
+import android.os.SystemClock;
+import android.util.Log;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayDeque;
+
+/**
+ * Encodes RGBA pixels read back by the capture task into PNG/JPEG files on its own thread,
+ * so that Bitmap#compress and disk I/O never run on the GL thread or while holding its locks.
+ * The job queue is bounded, #encode blocks the caller(capture task) while the queue is full.
+ * Readback buffers are pooled and reused when the capture size does not change.
+ */
+public class StillCaptureEncoder {
+//	private static final boolean DEBUG = false;	// FIXME 実働時はfalseにすること
+	private static final String TAG = StillCaptureEncoder.class.getSimpleName();
+	private static final String ENCODER_THREAD_NAME = "CaptureEncoder";
+
+	private static final class Job {
+		final ByteBuffer pixels;
+		final int width, height;
+		final File file;
+		final int compression;
+		final CaptureCallback callback;
+
+		private Job(final ByteBuffer pixels, final int width, final int height,
+			final File file, final int compression, final CaptureCallback callback) {
+
+			this.pixels = pixels;
+			this.width = width;
+			this.height = height;
+			this.file = file;
+			this.compression = compression;
+			this.callback = callback;
+		}
+	}
+
+	private final Object mSync = new Object();
+	private final int mCapacity;
+	private final ArrayDeque<Job> mJobs;
+	private final ArrayDeque<ByteBuffer> mFreeBuffers;
+	private final Thread mEncoderThread;
+	private volatile boolean mIsRunning;
+	private long mEncoded, mFailed, mTotalEncodeTimeMs;
+
+	/**
+	 * @param capacity maximum number of readback frames waiting for encoding
+	 */
+	public StillCaptureEncoder(final int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("capacity should be positive");
+		}
+		mCapacity = capacity;
+		mJobs = new ArrayDeque<Job>(capacity);
+		// queued jobs + one in encoding + one in readback
+		mFreeBuffers = new ArrayDeque<ByteBuffer>(capacity + 2);
+		mIsRunning = true;
+		mEncoderThread = new Thread(mEncoderTask, ENCODER_THREAD_NAME);
+		mEncoderThread.start();
+	}
+
+	/**
+	 * encode queued jobs and then stop the encoder thread, this does not wait for it
+	 */
+	public void release() {
+		synchronized (mSync) {
+			mIsRunning = false;
+			mSync.notifyAll();
+		}
+	}
+
+	/**
+	 * get a direct buffer for glReadPixels
+	 * @param bytes
+	 * @return cleared little endian direct buffer, it's capacity is #bytes
+	 */
+	public ByteBuffer obtainBuffer(final int bytes) {
+		ByteBuffer result = null;
+		synchronized (mSync) {
+			while (!mFreeBuffers.isEmpty()) {
+				final ByteBuffer buf = mFreeBuffers.pollFirst();
+				if (buf.capacity() == bytes) {
+					result = buf;
+					break;
+				}
+				// capture size changed, drop this buffer
+			}
+		}
+		if (result == null) {
+			result = ByteBuffer.allocateDirect(bytes);
+			result.order(ByteOrder.LITTLE_ENDIAN);
+		}
+		result.clear();
+		return result;
+	}
+
+	private void recycleBuffer(final ByteBuffer buf) {
+		synchronized (mSync) {
+			if (mFreeBuffers.size() < mCapacity + 2) {
+				mFreeBuffers.addFirst(buf);
+			}
+		}
+	}
+
+	/**
+	 * queue encoding, blocks while the queue is full
+	 * @param pixels RGBA pixels obtained by #obtainBuffer, ownership moves to this instance
+	 * @param width
+	 * @param height
+	 * @param file png or jpg(by extension)
+	 * @param compression JPEG quality, ignored for png
+	 * @param callback called on the encoder thread, can be null
+	 * @return false if already released, callback is called with failure
+	 */
+	public boolean encode(final ByteBuffer pixels, final int width, final int height,
+		final File file, final int compression, final CaptureCallback callback) {
+
+		final Job job = new Job(pixels, width, height, file, compression, callback);
+		synchronized (mSync) {
+			while (mIsRunning && (mJobs.size() >= mCapacity)) {
+				try {
+					mSync.wait();
+				} catch (final InterruptedException e) {
+					break;
+				}
+			}
+			if (mIsRunning && (mJobs.size() < mCapacity)) {
+				mJobs.addLast(job);
+				mSync.notifyAll();
+				return true;
+			}
+			mFailed++;
+		}
+		recycleBuffer(pixels);
+		callOnFinished(job, false, 0);
+		return false;
+	}
+
+	private final Runnable mEncoderTask = new Runnable() {
+		private Bitmap mBitmap;
+
+		@Override
+		public void run() {
+//			if (DEBUG) Log.v(TAG, "encoder task start");
+			for ( ; ; ) {
+				final Job job;
+				synchronized (mSync) {
+					while (mIsRunning && mJobs.isEmpty()) {
+						try {
+							mSync.wait();
+						} catch (final InterruptedException e) {
+							// check mIsRunning
+						}
+					}
+					job = mJobs.pollFirst();
+					if (job == null) break;	// released and no more jobs
+					mSync.notifyAll();	// wake up #encode waiting for space
+				}
+				final long start = SystemClock.elapsedRealtime();
+				boolean success = false;
+				try {
+					success = save(job);
+				} finally {
+					// the buffer and the callback of the job should not be lost whatever happened
+					final long encodeTimeMs = SystemClock.elapsedRealtime() - start;
+					recycleBuffer(job.pixels);
+					synchronized (mSync) {
+						if (success) {
+							mEncoded++;
+							mTotalEncodeTimeMs += encodeTimeMs;
+						} else {
+							mFailed++;
+						}
+					}
+					callOnFinished(job, success, encodeTimeMs);
+				}
+			}
+			if (mBitmap != null) {
+				mBitmap.recycle();
+				mBitmap = null;
+			}
+//			if (DEBUG) Log.v(TAG, "encoder task finished");
+		}
+
+		/**
+		 * @param job
+		 * @return false if failed, this does not throw Exception so that the encoder thread keeps running
+		 */
+		private boolean save(final Job job) {
+			try {
+				if ((mBitmap == null) || (mBitmap.getWidth() != job.width) || (mBitmap.getHeight() != job.height)) {
+					if (mBitmap != null) {
+						mBitmap.recycle();
+						mBitmap = null;
+					}
+					mBitmap = Bitmap.createBitmap(job.width, job.height, Bitmap.Config.ARGB_8888);
+				}
+				job.pixels.clear();
+				mBitmap.copyPixelsFromBuffer(job.pixels);
+				final Bitmap.CompressFormat compressFormat = job.file.toString().endsWith(".jpg")
+					? Bitmap.CompressFormat.JPEG : Bitmap.CompressFormat.PNG;
+				BufferedOutputStream os = null;
+				final boolean compressed;
+				try {
+					os = new BufferedOutputStream(new FileOutputStream(job.file));
+					compressed = mBitmap.compress(compressFormat, job.compression, os);
+					os.flush();
+				} finally {
+					if (os != null) os.close();
+				}
+				return compressed;
+			} catch (final IOException e) {
+				Log.w(TAG, "failed to save file", e);
+			} catch (final RuntimeException e) {
+				// e.g. the buffer is smaller than the size of the job
+				Log.w(TAG, "failed to encode", e);
+			}
+			return false;
+		}
+	};
+
+	private static void callOnFinished(final Job job, final boolean success, final long encodeTimeMs) {
+		if (job.callback != null) {
+			try {
+				job.callback.onCaptureFinished(job.file.toString(), success, encodeTimeMs);
+			} catch (final Exception e) {
+				Log.w(TAG, e);
+			}
+		}
+	}
+
+	/**
+	 * @return number of files saved successfully
+	 */
+	public long getEncodedCount() {
+		synchronized (mSync) {
+			return mEncoded;
+		}
+	}
+
+	/**
+	 * @return number of captures that could not be saved
+	 */
+	public long getFailedCount() {
+		synchronized (mSync) {
+			return mFailed;
+		}
+	}
+
+	/**
+	 * @return average time[ms] of compression and file writing
+	 */
+	public long getAverageEncodeTimeMs() {
+		synchronized (mSync) {
+			return mEncoded > 0 ? mTotalEncodeTimeMs / mEncoded : 0;
+		}
+	}
+
+	@Override
+	public String toString() {
+		synchronized (mSync) {
+			return TAG + "{queued=" + mJobs.size() + "/" + mCapacity
+				+ ",encoded=" + mEncoded + ",failed=" + mFailed
+				+ ",avgEncodeTimeMs=" + (mEncoded > 0 ? mTotalEncodeTimeMs / mEncoded : 0) + "}";
+		}
+	}
+}
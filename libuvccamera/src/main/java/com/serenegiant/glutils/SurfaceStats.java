@@ -0,0 +1,38 @@
+package com.serenegiant.glutils;
+
+/**
+ * 分配描画用Surface毎の描画統計情報
+ * IRendererHolder#getSurfaceStatsで取得する, 値は追加されてからの累積値
+ */
+public class SurfaceStats {
+	/**
+	 * 描画したフレーム数
+	 */
+	public long drawn;
+	/**
+	 * 最大フレームレート制限のために描画しなかったフレーム数
+	 */
+	public long skipped;
+	/**
+	 * 描画予定時刻から1フレーム間隔以上遅れて描画したフレーム数
+	 */
+	public long late;
+	/**
+	 * 描画(makeCurrentからswapまで)に要した時間の合計[ナノ秒]
+	 */
+	public long drawTimeNs;
+
+	/**
+	 * 1フレームあたりの平均描画時間[ナノ秒]
+	 * @return
+	 */
+	public long getAverageDrawTimeNs() {
+		return drawn > 0 ? drawTimeNs / drawn : 0;
+	}
+
+	@Override
+	public String toString() {
+		return "SurfaceStats{drawn=" + drawn + ",skipped=" + skipped
+			+ ",late=" + late + ",avgDrawNs=" + getAverageDrawTimeNs() + "}";
+	}
+}
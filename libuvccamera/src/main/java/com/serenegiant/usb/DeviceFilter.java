@@ -390,6 +390,25 @@ public final class DeviceFilter {
 		return false;
 	}
 
+	/**
+	 * 指定したベンダーID・プロダクトID・デバイスクラス・サブクラス・プロトコルの機器が
+	 * このDeviceFilterにマッチするかどうかを返す, インターフェースはチェックしない
+	 * mExcludeフラグは別途#isExcludeか自前でチェックすること
+	 * @param vendorId
+	 * @param productId
+	 * @param clasz
+	 * @param subclass
+	 * @param protocol
+	 * @return
+	 */
+	public boolean matches(final int vendorId, final int productId,
+		final int clasz, final int subclass, final int protocol) {
+
+		return (mVendorId == -1 || vendorId == mVendorId)
+			&& (mProductId == -1 || productId == mProductId)
+			&& matches(clasz, subclass, protocol);
+	}
+
 	/**
 	 * このDeviceFilterに一致してかつmExcludeがtrueならtrueを返す
 	 * @param device
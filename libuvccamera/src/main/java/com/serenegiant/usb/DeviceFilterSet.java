@@ -0,0 +1,237 @@
+package com.serenegiant.usb;
+
+import android.hardware.usb.UsbDevice;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DeviceFilterのリストを索引化したもの
+ * USBMonitor#getDeviceListの線形探索(機器毎に全フィルターを比較)と同じ結果を返す、
+ * つまりリストの先頭から見て最初にマッチしたフィルターで判定し、それがisExcludeならマッチしない
+ * フィルターをベンダーID/プロダクトIDの組, ベンダーIDのみ, プロダクトIDのみ, デバイス(インターフェース)クラスで
+ * 振り分けておき、機器毎にその機器のIDとクラスに対応するフィルターだけを比較する
+ * 生成後は変更できない(スレッドセーフ)
+ */
+public final class DeviceFilterSet {
+
+	private final DeviceFilter[] mFilters;
+	/** ベンダーIDとプロダクトIDの両方を指定したフィルター */
+	private final IndexTable mByVendorProduct;
+	/** ベンダーIDのみ指定したフィルター */
+	private final IndexTable mByVendor;
+	/** プロダクトIDのみ指定したフィルター */
+	private final IndexTable mByProduct;
+	/** ベンダーID/プロダクトIDを指定せずクラスを指定したフィルター */
+	private final IndexTable mByClass;
+	/** ベンダーID/プロダクトID/クラスのいずれも指定していないフィルター */
+	private final int[] mOthers;
+
+	/**
+	 * @param filters nullまたは空なら全ての機器にマッチする, nullの要素は無視する
+	 */
+	public DeviceFilterSet(final List<DeviceFilter> filters) {
+		final int n = filters != null ? filters.size() : 0;
+		mFilters = new DeviceFilter[n];
+		final Map<Integer, List<Integer>> byVendorProduct = new LinkedHashMap<Integer, List<Integer>>();
+		final Map<Integer, List<Integer>> byVendor = new LinkedHashMap<Integer, List<Integer>>();
+		final Map<Integer, List<Integer>> byProduct = new LinkedHashMap<Integer, List<Integer>>();
+		final Map<Integer, List<Integer>> byClass = new LinkedHashMap<Integer, List<Integer>>();
+		final List<Integer> others = new ArrayList<Integer>();
+		for (int i = 0; i < n; i++) {
+			final DeviceFilter filter = filters.get(i);
+			mFilters[i] = filter;
+			if (filter == null) continue;
+			if ((filter.mVendorId != -1) && (filter.mProductId != -1)) {
+				add(byVendorProduct, vendorProductKey(filter.mVendorId, filter.mProductId), i);
+			} else if (filter.mVendorId != -1) {
+				add(byVendor, filter.mVendorId, i);
+			} else if (filter.mProductId != -1) {
+				add(byProduct, filter.mProductId, i);
+			} else if (filter.mClass != -1) {
+				add(byClass, filter.mClass, i);
+			} else {
+				others.add(i);
+			}
+		}
+		mByVendorProduct = new IndexTable(byVendorProduct);
+		mByVendor = new IndexTable(byVendor);
+		mByProduct = new IndexTable(byProduct);
+		mByClass = new IndexTable(byClass);
+		mOthers = toArray(others);
+	}
+
+	public int size() {
+		return mFilters.length;
+	}
+
+	public boolean isEmpty() {
+		return mFilters.length == 0;
+	}
+
+	/**
+	 * 指定したUsbDeviceがマッチするかどうか
+	 * @param device
+	 * @return 最初にマッチしたフィルターが除外フィルターでなければtrue, フィルターが空ならtrue
+	 */
+	public boolean matches(final UsbDevice device) {
+		if (mFilters.length == 0) return true;
+		int first = Integer.MAX_VALUE;
+		final int vendorId = device.getVendorId();
+		final int productId = device.getProductId();
+		first = findFirst(mByVendorProduct.get(vendorProductKey(vendorId, productId)), device, first);
+		first = findFirst(mByVendor.get(vendorId), device, first);
+		first = findFirst(mByProduct.get(productId), device, first);
+		// クラスだけのフィルターはインターフェースのクラスでもマッチする
+		first = findFirst(mByClass.get(device.getDeviceClass()), device, first);
+		final int count = device.getInterfaceCount();
+		for (int i = 0; i < count; i++) {
+			first = findFirst(mByClass.get(device.getInterface(i).getInterfaceClass()), device, first);
+		}
+		first = findFirst(mOthers, device, first);
+		return (first != Integer.MAX_VALUE) && !mFilters[first].isExclude;
+	}
+
+	/**
+	 * 指定したベンダーID・プロダクトID・デバイスクラス・サブクラス・プロトコルの機器がマッチするかどうか
+	 * インターフェースはチェックしない
+	 * @return 最初にマッチしたフィルターが除外フィルターでなければtrue, フィルターが空ならtrue
+	 */
+	public boolean matches(final int vendorId, final int productId,
+		final int clasz, final int subclass, final int protocol) {
+
+		if (mFilters.length == 0) return true;
+		int first = Integer.MAX_VALUE;
+		first = findFirst(mByVendorProduct.get(vendorProductKey(vendorId, productId)),
+			vendorId, productId, clasz, subclass, protocol, first);
+		first = findFirst(mByVendor.get(vendorId), vendorId, productId, clasz, subclass, protocol, first);
+		first = findFirst(mByProduct.get(productId), vendorId, productId, clasz, subclass, protocol, first);
+		first = findFirst(mByClass.get(clasz), vendorId, productId, clasz, subclass, protocol, first);
+		first = findFirst(mOthers, vendorId, productId, clasz, subclass, protocol, first);
+		return (first != Integer.MAX_VALUE) && !mFilters[first].isExclude;
+	}
+
+	/**
+	 * @param indices 昇順のフィルターのインデックス, null可
+	 * @param device
+	 * @param first これまでに見つかった最小のインデックス
+	 * @return マッチしたフィルターの最小のインデックス
+	 */
+	private int findFirst(final int[] indices, final UsbDevice device, final int first) {
+		if (indices != null) {
+			for (final int ix: indices) {
+				if (ix >= first) break;
+				if (mFilters[ix].matches(device)) {
+					return ix;
+				}
+			}
+		}
+		return first;
+	}
+
+	private int findFirst(final int[] indices, final int vendorId, final int productId,
+		final int clasz, final int subclass, final int protocol, final int first) {
+
+		if (indices != null) {
+			for (final int ix: indices) {
+				if (ix >= first) break;
+				if (mFilters[ix].matches(vendorId, productId, clasz, subclass, protocol)) {
+					return ix;
+				}
+			}
+		}
+		return first;
+	}
+
+	private static int vendorProductKey(final int vendorId, final int productId) {
+		return (vendorId << 16) | (productId & 0xffff);
+	}
+
+	private static void add(final Map<Integer, List<Integer>> map, final int key, final int index) {
+		List<Integer> list = map.get(key);
+		if (list == null) {
+			list = new ArrayList<Integer>();
+			map.put(key, list);
+		}
+		list.add(index);
+	}
+
+	private static int[] toArray(final List<Integer> list) {
+		final int n = list.size();
+		final int[] result = new int[n];
+		for (int i = 0; i < n; i++) {
+			result[i] = list.get(i);
+		}
+		return result;
+	}
+
+	/**
+	 * intのキーからフィルターのインデックスの配列を引くオープンアドレス法のハッシュテーブル
+	 * 参照時にボクシングしないようにHashMapの代わりに使う
+	 */
+	private static final class IndexTable {
+		private final int mMask;
+		private final int[] mKeys;
+		private final int[][] mValues;
+
+		private IndexTable(final Map<Integer, List<Integer>> map) {
+			int capacity = 2;
+			while (capacity < map.size() * 2) {
+				capacity <<= 1;
+			}
+			mMask = capacity - 1;
+			mKeys = new int[capacity];
+			mValues = new int[capacity][];
+			for (final Map.Entry<Integer, List<Integer>> entry: map.entrySet()) {
+				final int key = entry.getKey();
+				int pos = hash(key) & mMask;
+				while (mValues[pos] != null) {
+					pos = (pos + 1) & mMask;
+				}
+				mKeys[pos] = key;
+				mValues[pos] = toArray(entry.getValue());
+			}
+		}
+
+		/**
+		 * @param key
+		 * @return null if not found
+		 */
+		private int[] get(final int key) {
+			int pos = hash(key) & mMask;
+			int[] values;
+			while ((values = mValues[pos]) != null) {
+				if (mKeys[pos] == key) {
+					return values;
+				}
+				pos = (pos + 1) & mMask;
+			}
+			return null;
+		}
+
+		private static int hash(final int key) {
+			final int h = key * 0x9E3779B9;
+			return h ^ (h >>> 16);
+		}
+
+		@Override
+		public String toString() {
+			int n = 0;
+			for (final int[] values: mValues) {
+				if (values != null) n++;
+			}
+			return "IndexTable{keys=" + n + ",capacity=" + mKeys.length + "}";
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "DeviceFilterSet{filters=" + mFilters.length
+			+ ",vendorProduct=" + mByVendorProduct + ",vendor=" + mByVendor
+			+ ",product=" + mByProduct + ",class=" + mByClass
+			+ ",others=" + Arrays.toString(mOthers) + "}";
+	}
+}
@@ -0,0 +1,218 @@
+package com.serenegiant.usb;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * immutable index of the supported sizes of an opened camera, keyed by frame format and resolution.
+ * the supported size JSON is parsed only once when this is built,
+ * so lookups and #selectBestMode do not touch JSON and do not need exception-driven probing of setPreviewSize.
+ * this does not depend on the native library so that it can be used/benchmarked without camera.
+ */
+public final class SupportedSizeIndex {
+
+  /** same value as UVCCamera.FRAME_FORMAT_YUYV */
+  public static final int FRAME_FORMAT_YUYV = 0;
+  /** same value as UVCCamera.FRAME_FORMAT_MJPEG */
+  public static final int FRAME_FORMAT_MJPEG = 1;
+
+  /** UVC_VS_FORMAT_UNCOMPRESSED */
+  private static final int TYPE_UNCOMPRESSED = 4;
+  /** UVC_VS_FORMAT_MJPEG */
+  private static final int TYPE_MJPEG = 6;
+
+  /** YUYV(YUV422) is 2 bytes per pixel */
+  private static final float YUYV_BYTES_PER_PIXEL = 2.0f;
+  /** rough estimation of MJPEG, about 1/4 of YUYV */
+  private static final float MJPEG_BYTES_PER_PIXEL = 0.5f;
+
+  private static final Comparator<Size> SIZE_COMPARATOR = new Comparator<Size>() {
+    @Override
+    public int compare(final Size lhs, final Size rhs) {
+      return lhs.width != rhs.width ? (lhs.width < rhs.width ? -1 : 1)
+          : (lhs.height != rhs.height ? (lhs.height < rhs.height ? -1 : 1) : 0);
+    }
+  };
+
+  /**
+   * preview mode selected by #selectBestMode
+   */
+  public static final class Mode {
+    /** either FRAME_FORMAT_YUYV(0) or FRAME_FORMAT_MJPEG(1) */
+    public final int frameFormat;
+    public final int width;
+    public final int height;
+    public final int fps;
+    /** estimated bytes per second */
+    public final long bandwidth;
+
+    private Mode(final int frameFormat, final int width, final int height, final int fps) {
+      this.frameFormat = frameFormat;
+      this.width = width;
+      this.height = height;
+      this.fps = fps;
+      bandwidth = estimateBandwidth(frameFormat, width, height, fps);
+    }
+
+    @Override
+    public String toString() {
+      return "Mode{" + (frameFormat == FRAME_FORMAT_MJPEG ? "MJPEG" : "YUYV")
+          + "," + width + "x" + height + "@" + fps + ",bandwidth=" + bandwidth + "}";
+    }
+  }
+
+  /** sorted by width and height, index is frame format */
+  private final Size[][] mSizes = new Size[2][];
+  private final List<Size> mYuyvList;
+  private final List<Size> mMjpegList;
+
+  /**
+   * @param supportedSize JSON string from UVCCamera#getSupportedSize, can be null or empty
+   * @return
+   */
+  public static SupportedSizeIndex parse(final String supportedSize) {
+    return new SupportedSizeIndex(SupportedSizeParser.parse(-1, supportedSize));
+  }
+
+  private SupportedSizeIndex(final List<Size> sizes) {
+    final List<Size> yuyv = new ArrayList<Size>();
+    final List<Size> mjpeg = new ArrayList<Size>();
+    for (final Size size : sizes) {
+      if (size.type == TYPE_UNCOMPRESSED) {
+        yuyv.add(size);
+      } else if (size.type == TYPE_MJPEG) {
+        mjpeg.add(size);
+      }
+    }
+    mYuyvList = Collections.unmodifiableList(yuyv);
+    mMjpegList = Collections.unmodifiableList(mjpeg);
+    mSizes[FRAME_FORMAT_YUYV] = sorted(yuyv);
+    mSizes[FRAME_FORMAT_MJPEG] = sorted(mjpeg);
+  }
+
+  private static Size[] sorted(final List<Size> sizes) {
+    final Size[] result = sizes.toArray(new Size[sizes.size()]);
+    Arrays.sort(result, SIZE_COMPARATOR);
+    return result;
+  }
+
+  public boolean isEmpty() {
+    return (mSizes[FRAME_FORMAT_YUYV].length == 0) && (mSizes[FRAME_FORMAT_MJPEG].length == 0);
+  }
+
+  /**
+   * @param frameFormat either FRAME_FORMAT_YUYV(0) or FRAME_FORMAT_MJPEG(1)
+   * @return unmodifiable list in the order of the descriptors, Size in this list should not be modified
+   */
+  public List<Size> getSizes(final int frameFormat) {
+    return frameFormat == FRAME_FORMAT_MJPEG ? mMjpegList : mYuyvList;
+  }
+
+  /**
+   * @param frameFormat either FRAME_FORMAT_YUYV(0) or FRAME_FORMAT_MJPEG(1)
+   * @param width
+   * @param height
+   * @return Size of the descriptor, null if not supported
+   */
+  public Size find(final int frameFormat, final int width, final int height) {
+    if ((frameFormat != FRAME_FORMAT_YUYV) && (frameFormat != FRAME_FORMAT_MJPEG)) return null;
+    final Size[] sizes = mSizes[frameFormat];
+    int low = 0, high = sizes.length - 1;
+    while (low <= high) {
+      final int mid = (low + high) >>> 1;
+      final Size sz = sizes[mid];
+      final int cmp = sz.width != width ? (sz.width < width ? -1 : 1)
+          : (sz.height != height ? (sz.height < height ? -1 : 1) : 0);
+      if (cmp < 0) {
+        low = mid + 1;
+      } else if (cmp > 0) {
+        high = mid - 1;
+      } else {
+        return sz;
+      }
+    }
+    return null;
+  }
+
+  public boolean contains(final int frameFormat, final int width, final int height) {
+    return find(frameFormat, width, height) != null;
+  }
+
+  /**
+   * select the supported mode that fits the target best.
+   * the exact size is selected if supported, otherwise the smallest size that covers the target,
+   * otherwise the size that covers the target most. MJPEG is preferred over YUYV of the same size.
+   * modes whose estimated bandwidth exceeds maxBandwidth are not selected.
+   *
+   * @param targetW
+   * @param targetH
+   * @param fps          frame rate to request, sizes whose descriptor has frame intervals and can not reach it are skipped
+   * @param maxBandwidth maximum estimated bytes per second, 0 or negative for no limit
+   * @return null if no mode fits
+   */
+  public Mode selectBestMode(final int targetW, final int targetH, final int fps, final long maxBandwidth) {
+    if ((targetW <= 0) || (targetH <= 0) || (fps <= 0)) {
+      throw new IllegalArgumentException("invalid target:" + targetW + "x" + targetH + "@" + fps);
+    }
+    final long targetArea = (long) targetW * targetH;
+    Size best = null;
+    int bestFormat = -1;
+    long bestScore = Long.MAX_VALUE;
+    for (final int frameFormat : new int[] {FRAME_FORMAT_MJPEG, FRAME_FORMAT_YUYV}) {
+      for (final Size sz : mSizes[frameFormat]) {
+        if (!canReach(sz, fps)
+            || ((maxBandwidth > 0) && (estimateBandwidth(frameFormat, sz.width, sz.height, fps) > maxBandwidth))) {
+          continue;
+        }
+        final long score;
+        if ((sz.width >= targetW) && (sz.height >= targetH)) {
+          score = (long) sz.width * sz.height - targetArea;
+        } else {
+          // worse than any size that covers the target, larger overlap is better
+          score = (1L << 40) - (long) Math.min(sz.width, targetW) * Math.min(sz.height, targetH);
+        }
+        if (score < bestScore) {
+          best = sz;
+          bestFormat = frameFormat;
+          bestScore = score;
+        }
+      }
+    }
+    return best != null ? new Mode(bestFormat, best.width, best.height, fps) : null;
+  }
+
+  /**
+   * @param size
+   * @param fps
+   * @return true if the descriptor does not have frame intervals
+   */
+  private static boolean canReach(final Size size, final int fps) {
+    final float[] rates = size.fps;
+    if ((rates == null) || (rates.length == 0)) return true;
+    for (final float rate : rates) {
+      if (rate + 0.5f >= fps) return true;
+    }
+    return false;
+  }
+
+  /**
+   * @param frameFormat either FRAME_FORMAT_YUYV(0) or FRAME_FORMAT_MJPEG(1)
+   * @param width
+   * @param height
+   * @param fps
+   * @return estimated bytes per second
+   */
+  public static long estimateBandwidth(final int frameFormat, final int width, final int height, final int fps) {
+    final float bytesPerPixel = frameFormat == FRAME_FORMAT_MJPEG ? MJPEG_BYTES_PER_PIXEL : YUYV_BYTES_PER_PIXEL;
+    return (long) ((long) width * height * fps * bytesPerPixel);
+  }
+
+  @Override
+  public String toString() {
+    return "SupportedSizeIndex{yuyv=" + mSizes[FRAME_FORMAT_YUYV].length
+        + ",mjpeg=" + mSizes[FRAME_FORMAT_MJPEG].length + "}";
+  }
+}
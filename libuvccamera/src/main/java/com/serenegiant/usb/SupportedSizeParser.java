@@ -0,0 +1,60 @@
+package com.serenegiant.usb;
+
+import android.text.TextUtils;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * parser of the supported size JSON string that comes from UVCCamera#getSupportedSize.
+ * this does not depend on the native library so that it can be used/benchmarked without camera.
+ */
+public final class SupportedSizeParser {
+
+  private SupportedSizeParser() {
+  }
+
+  /**
+   * @param type          format type to collect, -1 for all formats
+   * @param supportedSize JSON string from UVCCamera#getSupportedSize
+   * @return
+   */
+  public static List<Size> parse(final int type, final String supportedSize) {
+    final List<Size> result = new ArrayList<Size>();
+    if (!TextUtils.isEmpty(supportedSize))
+      try {
+        final JSONObject json = new JSONObject(supportedSize);
+        final JSONArray formats = json.getJSONArray("formats");
+        final int format_nums = formats.length();
+        for (int i = 0; i < format_nums; i++) {
+          final JSONObject format = formats.getJSONObject(i);
+          if (format.has("type") && format.has("size")) {
+            final int format_type = format.getInt("type");
+            if ((format_type == type) || (type == -1)) {
+              addSize(format, format_type, 0, result);
+            }
+          }
+        }
+      } catch (final JSONException e) {
+        e.printStackTrace();
+      }
+    return result;
+  }
+
+  private static final void addSize(final JSONObject format, final int formatType, final int frameType, final List<Size> size_list) throws JSONException {
+    final JSONArray size = format.getJSONArray("size");
+    final int size_nums = size.length();
+    for (int j = 0; j < size_nums; j++) {
+      final String[] sz = size.getString(j).split("x");
+      try {
+        size_list.add(new Size(formatType, frameType, j, Integer.parseInt(sz[0]), Integer.parseInt(sz[1])));
+      } catch (final Exception e) {
+        break;
+      }
+    }
+  }
+}
@@ -40,6 +40,7 @@ import android.util.SparseArray;
 
 import com.serenegiant.utils.BuildCheck;
 import com.serenegiant.utils.HandlerThreadHandler;
+import com.serenegiant.utils.Time;
 
 import java.io.UnsupportedEncodingException;
 import java.lang.ref.WeakReference;
@@ -61,17 +62,35 @@ public final class USBMonitor {
 
 	public static final String ACTION_USB_DEVICE_ATTACHED = "android.hardware.usb.action.USB_DEVICE_ATTACHED";
 
+	/**
+	 * デフォルトの接続チェック間隔[ミリ秒]
+	 * 接続/取り外しはブロードキャストで検出するので
+	 * ACTION_USB_DEVICE_ATTACHEDが来ない機種のための保険として低頻度で確認する
+	 */
+	public static final long DEFAULT_POLL_INTERVAL_MS = 10000;
+
 	/**
 	 * openしているUsbControlBlock
 	 */
 	private final ConcurrentHashMap<UsbDevice, UsbControlBlock> mCtrlBlocks = new ConcurrentHashMap<UsbDevice, UsbControlBlock>();
 	private final SparseArray<WeakReference<UsbDevice>> mHasPermissions = new SparseArray<WeakReference<UsbDevice>>();
+	/**
+	 * 検出済みのUSB機器, UsbManager#getDeviceListと同じくデバイス名(/dev/bus/usb/xxx/yyy)をキーにする
+	 * (同じ製品を2台つなぐとデバイスキーが同じになることがあるのでデバイスキーは使わない)
+	 */
+	private final HashMap<String, KnownDevice> mKnownDevices = new HashMap<String, KnownDevice>();
+	private volatile long mPollIntervalMs = DEFAULT_POLL_INTERVAL_MS;
 
 	private final WeakReference<Context> mWeakContext;
 	private final UsbManager mUsbManager;
 	private final OnDeviceConnectListener mOnDeviceConnectListener;
 	private PendingIntent mPermissionIntent = null;
-	private List<DeviceFilter> mDeviceFilters = new ArrayList<DeviceFilter>();
+	private final List<DeviceFilter> mDeviceFilters = new ArrayList<DeviceFilter>();
+	/**
+	 * mDeviceFiltersを索引化したもの, mDeviceFiltersを変更したらnullにして次回使う時に生成し直す
+	 * mDeviceFiltersの変更とこのフィールドの更新はどちらもmDeviceFiltersで同期する
+	 */
+	private volatile DeviceFilterSet mDeviceFilterSet;
 
 	/**
 	 * コールバックをワーカースレッドで呼び出すためのハンドラー
@@ -169,13 +188,17 @@ public final class USBMonitor {
 			if (context != null) {
 				mPermissionIntent = PendingIntent.getBroadcast(context, 0, new Intent(ACTION_USB_PERMISSION), 0);
 				final IntentFilter filter = new IntentFilter(ACTION_USB_PERMISSION);
-				// ACTION_USB_DEVICE_ATTACHED never comes on some devices so it should not be added here
+				// ACTION_USB_DEVICE_ATTACHED never comes on some devices,
+				// so the low frequency connection check is also used as a safety net
+				filter.addAction(UsbManager.ACTION_USB_DEVICE_ATTACHED);
 				filter.addAction(UsbManager.ACTION_USB_DEVICE_DETACHED);
 				context.registerReceiver(mUsbReceiver, filter);
 			}
-			// start connection check
-			mDeviceCounts = 0;
-			mAsyncHandler.postDelayed(mDeviceCheckRunnable, 1000);
+			// start connection check, already connected devices are reported as attached again
+			synchronized (mKnownDevices) {
+				mKnownDevices.clear();
+			}
+			mAsyncHandler.post(mDeviceCheckRunnable);
 		}
 	}
 
@@ -185,9 +208,9 @@ public final class USBMonitor {
 	 */
 	public synchronized void unregister() throws IllegalStateException {
 		// 接続チェック用Runnableを削除
-		mDeviceCounts = 0;
 		if (!destroyed) {
 			mAsyncHandler.removeCallbacks(mDeviceCheckRunnable);
+			mAsyncHandler.removeCallbacks(mDevicePollRunnable);
 		}
 		if (mPermissionIntent != null) {
 //			if (DEBUG) Log.i(TAG, "unregister:");
@@ -207,6 +230,46 @@ public final class USBMonitor {
 		return !destroyed && (mPermissionIntent != null);
 	}
 
+	/**
+	 * 保険として定期的に接続済みのUSB機器を確認する間隔を設定
+	 * 通常の接続/取り外しの検出はブロードキャストで行う
+	 * 登録時の1回目の確認は取り消さず, 定期的な確認だけを再スケジュールする
+	 * @param intervalMs 0以下なら登録時の1回のみ確認して定期的な確認はしない
+	 */
+	public void setPollInterval(final long intervalMs) {
+		mPollIntervalMs = intervalMs;
+		if (!destroyed && isRegistered()) {
+			schedulePoll();
+		}
+	}
+
+	private void schedulePoll() {
+		mAsyncHandler.removeCallbacks(mDevicePollRunnable);
+		final long interval = mPollIntervalMs;
+		if (interval > 0) {
+			mAsyncHandler.postDelayed(mDevicePollRunnable, interval);
+		}
+	}
+
+	public long getPollInterval() {
+		return mPollIntervalMs;
+	}
+
+	/**
+	 * 接続(ACTION_USB_DEVICE_ATTACHEDまたは接続チェックでの検出)からonConnectを呼び出すまでの時間を取得
+	 * パーミッション要求でユーザーの操作待ちがあればその時間も含む
+	 * @param device
+	 * @return ミリ秒, まだonConnectを呼んでいなければ-1
+	 */
+	public long getConnectLatencyMs(final UsbDevice device) {
+		if (device == null) return -1;
+		synchronized (mKnownDevices) {
+			final KnownDevice known = mKnownDevices.get(device.getDeviceName());
+			return (known != null) && (known.connectLatencyNs >= 0)
+				? known.connectLatencyNs / 1000000L : -1;
+		}
+	}
+
 	/**
 	 * set device filter
 	 * @param filter
@@ -214,8 +277,11 @@ public final class USBMonitor {
 	 */
 	public void setDeviceFilter(final DeviceFilter filter) throws IllegalStateException {
 		if (destroyed) throw new IllegalStateException("already destroyed");
-		mDeviceFilters.clear();
-		mDeviceFilters.add(filter);
+		synchronized (mDeviceFilters) {
+			mDeviceFilters.clear();
+			mDeviceFilters.add(filter);
+			mDeviceFilterSet = null;
+		}
 	}
 
 	/**
@@ -225,7 +291,10 @@ public final class USBMonitor {
 	 */
 	public void addDeviceFilter(final DeviceFilter filter) throws IllegalStateException {
 		if (destroyed) throw new IllegalStateException("already destroyed");
-		mDeviceFilters.add(filter);
+		synchronized (mDeviceFilters) {
+			mDeviceFilters.add(filter);
+			mDeviceFilterSet = null;
+		}
 	}
 
 	/**
@@ -235,7 +304,10 @@ public final class USBMonitor {
 	 */
 	public void removeDeviceFilter(final DeviceFilter filter) throws IllegalStateException {
 		if (destroyed) throw new IllegalStateException("already destroyed");
-		mDeviceFilters.remove(filter);
+		synchronized (mDeviceFilters) {
+			mDeviceFilters.remove(filter);
+			mDeviceFilterSet = null;
+		}
 	}
 
 	/**
@@ -245,8 +317,11 @@ public final class USBMonitor {
 	 */
 	public void setDeviceFilter(final List<DeviceFilter> filters) throws IllegalStateException {
 		if (destroyed) throw new IllegalStateException("already destroyed");
-		mDeviceFilters.clear();
-		mDeviceFilters.addAll(filters);
+		synchronized (mDeviceFilters) {
+			mDeviceFilters.clear();
+			mDeviceFilters.addAll(filters);
+			mDeviceFilterSet = null;
+		}
 	}
 
 	/**
@@ -256,7 +331,10 @@ public final class USBMonitor {
 	 */
 	public void addDeviceFilter(final List<DeviceFilter> filters) throws IllegalStateException {
 		if (destroyed) throw new IllegalStateException("already destroyed");
-		mDeviceFilters.addAll(filters);
+		synchronized (mDeviceFilters) {
+			mDeviceFilters.addAll(filters);
+			mDeviceFilterSet = null;
+		}
 	}
 
 	/**
@@ -265,7 +343,10 @@ public final class USBMonitor {
 	 */
 	public void removeDeviceFilter(final List<DeviceFilter> filters) throws IllegalStateException {
 		if (destroyed) throw new IllegalStateException("already destroyed");
-		mDeviceFilters.removeAll(filters);
+		synchronized (mDeviceFilters) {
+			mDeviceFilters.removeAll(filters);
+			mDeviceFilterSet = null;
+		}
 	}
 
 	/**
@@ -285,7 +366,17 @@ public final class USBMonitor {
 	 */
 	public List<UsbDevice> getDeviceList() throws IllegalStateException {
 		if (destroyed) throw new IllegalStateException("already destroyed");
-		return getDeviceList(mDeviceFilters);
+		final HashMap<String, UsbDevice> deviceList = mUsbManager.getDeviceList();
+		final List<UsbDevice> result = new ArrayList<UsbDevice>();
+		if (deviceList != null) {
+			final DeviceFilterSet filters = getDeviceFilterSet();
+			for (final UsbDevice device: deviceList.values() ) {
+				if (filters.matches(device)) {
+					result.add(device);
+				}
+			}
+		}
+		return result;
 	}
 
 	/**
@@ -301,16 +392,18 @@ public final class USBMonitor {
 		if (deviceList != null) {
 			if ((filters == null) || filters.isEmpty()) {
 				result.addAll(deviceList.values());
+			} else if (filters == mDeviceFilters) {
+				final DeviceFilterSet filterSet = getDeviceFilterSet();
+				for (final UsbDevice device: deviceList.values() ) {
+					if (filterSet.matches(device)) {
+						result.add(device);
+					}
+				}
 			} else {
+				// 一時的なリストは索引化すると線形探索より遅いのでそのまま比較する
 				for (final UsbDevice device: deviceList.values() ) {
-					for (final DeviceFilter filter: filters) {
-						if ((filter != null) && filter.matches(device)) {
-							// when filter matches
-							if (!filter.isExclude) {
-								result.add(device);
-							}
-							break;
-						}
+					if (matches(device, filters)) {
+						result.add(device);
 					}
 				}
 			}
@@ -318,6 +411,42 @@ public final class USBMonitor {
 		return result;
 	}
 
+	/**
+	 * 指定したUSB機器がデバイスフィルターにマッチするかどうか
+	 * 最初にマッチしたフィルターが除外フィルターならfalse
+	 * @param device
+	 * @param filters
+	 * @return
+	 */
+	private static boolean matches(final UsbDevice device, final List<DeviceFilter> filters) {
+		for (final DeviceFilter filter: filters) {
+			if ((filter != null) && filter.matches(device)) {
+				// when filter matches
+				return !filter.isExclude;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 索引化したデバイスフィルターを取得, 必要なら生成する
+	 * @return
+	 */
+	private DeviceFilterSet getDeviceFilterSet() {
+		DeviceFilterSet result = mDeviceFilterSet;
+		if (result == null) {
+			// 生成中にフィルターが変更されて古い索引が残らないように変更と同じロックの中で生成する
+			synchronized (mDeviceFilters) {
+				result = mDeviceFilterSet;
+				if (result == null) {
+					result = new DeviceFilterSet(new ArrayList<DeviceFilter>(mDeviceFilters));
+					mDeviceFilterSet = result;
+				}
+			}
+		}
+		return result;
+	}
+
 	/**
 	 * return device list, return empty list if no device matched
 	 * @param filter
@@ -488,60 +617,114 @@ public final class USBMonitor {
 				}
 			} else if (UsbManager.ACTION_USB_DEVICE_ATTACHED.equals(action)) {
 				final UsbDevice device = intent.getParcelableExtra(UsbManager.EXTRA_DEVICE);
-				updatePermission(device, hasPermission(device));
-				processAttach(device);
+				if ((device != null) && getDeviceFilterSet().matches(device) && addKnownDevice(device)) {
+					updatePermission(device, hasPermission(device));
+					processAttach(device);
+				}
 			} else if (UsbManager.ACTION_USB_DEVICE_DETACHED.equals(action)) {
 				// when device removed
 				final UsbDevice device = intent.getParcelableExtra(UsbManager.EXTRA_DEVICE);
 				if (device != null) {
-					UsbControlBlock ctrlBlock = mCtrlBlocks.remove(device);
-					if (ctrlBlock != null) {
-						// cleanup
-						ctrlBlock.close();
+					synchronized (mKnownDevices) {
+						mKnownDevices.remove(device.getDeviceName());
 					}
-					mDeviceCounts = 0;
-					processDettach(device);
+					handleDetach(device);
 				}
 			}
 		}
 	};
 
-	/** number of connected & detected devices */
-	private volatile int mDeviceCounts = 0;
 	/**
-	 * periodically check connected devices and if it changed, call onAttach
+	 * 検出済みのUSB機器の情報
+	 */
+	private static final class KnownDevice {
+		private final UsbDevice device;
+		/** 検出した時刻, Time#nanoTime */
+		private final long attachNs;
+		/** 検出からonConnectまでの時間[ナノ秒], まだなら-1 */
+		private long connectLatencyNs = -1;
+
+		private KnownDevice(final UsbDevice device) {
+			this.device = device;
+			attachNs = Time.nanoTime();
+		}
+	}
+
+	/**
+	 * 検出済みのUSB機器として登録する
+	 * @param device
+	 * @return 新しく登録した時true, 既に登録済みならfalse
+	 */
+	private boolean addKnownDevice(final UsbDevice device) {
+		final String name = device.getDeviceName();
+		synchronized (mKnownDevices) {
+			if (mKnownDevices.containsKey(name)) return false;
+			mKnownDevices.put(name, new KnownDevice(device));
+			return true;
+		}
+	}
+
+	/**
+	 * USB機器が取り外された時の処理
+	 * @param device
+	 */
+	private void handleDetach(final UsbDevice device) {
+		final UsbControlBlock ctrlBlock = mCtrlBlocks.remove(device);
+		if (ctrlBlock != null) {
+			// cleanup
+			ctrlBlock.close();
+		}
+		updatePermission(device, false);
+		processDettach(device);
+	}
+
+	/**
+	 * 接続済みのUSB機器を確認して検出済みのUSB機器との差分だけonAttach/onDettachを呼ぶ
+	 * 登録時に1回実行し, 以降はブロードキャストが来なかった時の保険として低頻度で実行する
 	 */
 	private final Runnable mDeviceCheckRunnable = new Runnable() {
 		@Override
 		public void run() {
 			if (destroyed) return;
 			final List<UsbDevice> devices = getDeviceList();
-			final int n = devices.size();
-			final int hasPermissionCounts;
-			final int m;
-			synchronized (mHasPermissions) {
-				hasPermissionCounts = mHasPermissions.size();
-				mHasPermissions.clear();
-				for (final UsbDevice device: devices) {
-					hasPermission(device);
+			final List<UsbDevice> detached = new ArrayList<UsbDevice>();
+			synchronized (mKnownDevices) {
+				if (mKnownDevices.size() > 0) {
+					final HashMap<String, UsbDevice> current = new HashMap<String, UsbDevice>();
+					for (final UsbDevice device: devices) {
+						current.put(device.getDeviceName(), device);
+					}
+					final Iterator<KnownDevice> it = mKnownDevices.values().iterator();
+					while (it.hasNext()) {
+						final KnownDevice known = it.next();
+						if (!current.containsKey(known.device.getDeviceName())) {
+							detached.add(known.device);
+							it.remove();
+						}
+					}
 				}
-				m = mHasPermissions.size();
 			}
-			if ((n > mDeviceCounts) || (m > hasPermissionCounts)) {
-				mDeviceCounts = n;
-				if (mOnDeviceConnectListener != null) {
-					for (int i = 0; i < n; i++) {
-						final UsbDevice device = devices.get(i);
-						mAsyncHandler.post(new Runnable() {
-							@Override
-							public void run() {
-								mOnDeviceConnectListener.onAttach(device);
-							}
-						});
-					}
+			for (final UsbDevice device: detached) {
+				if (DEBUG) Log.i(TAG, "found detached device:" + device.getDeviceName());
+				handleDetach(device);
+			}
+			for (final UsbDevice device: devices) {
+				if (addKnownDevice(device)) {
+					updatePermission(device, hasPermission(device));
+					processAttach(device);
 				}
 			}
-			mAsyncHandler.postDelayed(this, 2000);	// confirm every 2 seconds
+			schedulePoll();
+		}
+	};
+
+	/**
+	 * 定期的な接続チェック, setPollIntervalで再スケジュールするのはこちらだけ
+	 */
+	private final Runnable mDevicePollRunnable = new Runnable() {
+		@Override
+		public void run() {
+			mDeviceCheckRunnable.run();
 		}
 	};
 
@@ -566,6 +749,14 @@ public final class USBMonitor {
 				} else {
 					createNew = false;
 				}
+				synchronized (mKnownDevices) {
+					final KnownDevice known = mKnownDevices.get(device.getDeviceName());
+					if ((known != null) && (known.connectLatencyNs < 0)) {
+						known.connectLatencyNs = Time.nanoTime() - known.attachNs;
+						if (DEBUG) Log.i(TAG, "processConnect:attach to connect latency="
+							+ (known.connectLatencyNs / 1000000L) + "ms");
+					}
+				}
 				if (mOnDeviceConnectListener != null) {
 					mOnDeviceConnectListener.onConnect(device, ctrlBlock, createNew);
 				}
@@ -23,837 +23,963 @@
 
 package com.serenegiant.usb;
 
-import android.util.SparseArray;
+import java.util.Arrays;
 
+/**
+ * USBのベンダーIDからベンダー名を取得するためのヘルパークラス
+ * ベンダーIDの昇順のint配列と全ベンダー名を1つにまとめた文字列だけを保持し、
+ * 最初にvendorNameを呼び出した時に読み込んで二分探索する
+ */
 public class USBVendorId {
-	private static final SparseArray<String> IDS = new SparseArray<String>();
 
+	/**
+	 * @param vendor_id
+	 * @return ベンダー名, 見つからなければnull
+	 */
 	public static String vendorName(final int vendor_id) {
-		return IDS.get(vendor_id);
+		return Table.find(vendor_id);
 	}
 
-	static {
-		IDS.put(10006, "YUEN DA ELECTRONIC PRODUCTS FACTORY");
-		IDS.put(10013, "Gionee Communication Equipment Co., Ltd. ShenZhen");
-		IDS.put(10022, "Universal Electronics Inc. (dba: TVIEW)");
-		IDS.put(1003, "Atmel Corporation");
-		IDS.put(1006, "Mitsumi");
-		IDS.put(1008, "HP Inc.");
-		IDS.put(10112, "M31 Technology Corp.");
-		IDS.put(10113, "Liteconn Co., Ltd.");
-		IDS.put(10121, "Suzhou WEIJU Electronics Technology Co., Ltd.");
-		IDS.put(10144, "Mondokey Limited");
-		IDS.put(10149, "Advantest Corporation");
-		IDS.put(10150, "iRobot Corporation");
-		IDS.put(1020, "Elitegroup Computer Systems");
-		IDS.put(1021, "Xilinx Inc.");
-		IDS.put(10226, "Sibridge Tech.");
-		IDS.put(1026, "ALi Corporation");
-		IDS.put(1027, "Future Technology Devices International Limited");
-		IDS.put(10275, "Dongguan Jiumutong Industry Co., Ltd.");
-		IDS.put(10289, "Power Integrations");
-		IDS.put(10291, "Oculus VR, Inc.");
-		IDS.put(10300, "HIGH TEK HARNESS ENTERPRISE CO., LTD.");
-		IDS.put(10316, "Full in Hope Co., Ltd.");
-		IDS.put(1032, "Quanta Computer Inc.");
-		IDS.put(10329, "Viconn Technology (HK) Co., Ltd.");
-		IDS.put(1033, "NEC Corporation");
-		IDS.put(1035, "Weltrend Semiconductor");
-		IDS.put(1037, "VIA Technologies, Inc.");
-		IDS.put(10374, "Seeed Technology Co., Ltd.");
-		IDS.put(10375, "Specwerkz");
-		IDS.put(1038, "MCCI Corporation");
-		IDS.put(10398, "Esselte Leitz GmbH & Co. KG");
-		IDS.put(10406, "E-SEEK Inc.");
-		IDS.put(1041, "BUFFALO INC.");
-		IDS.put(10423, "Pleora Technologies Inc.");
-		IDS.put(10431, "Vitetech Int'l Co., Ltd.");
-		IDS.put(1044, "Giga-Byte Technology Co., Ltd.");
-		IDS.put(10446, "Changzhou Shi Wujin Miqi East Electronic Co., Ltd.");
-		IDS.put(10457, "Shenzhen Ourconn Technology Co., Ltd.");
-		IDS.put(10458, "G.SKILL Int'l Enterprice Co., Ltd.");
-		IDS.put(1046, "Nuvoton Technology Corp.");
-		IDS.put(10466, "Surplus Electronic Technology Co., Ltd.");
-		IDS.put(10470, "BIAMP SYSTEMS");
-		IDS.put(10509, "IBCONN Technologies (Shenzhen) Co., Ltd.");
-		IDS.put(10510, "Fugoo Inc.");
-		IDS.put(10519, "Pan Xin Precision Electronics Co., Ltd.");
-		IDS.put(10530, "Dongguan Digi-in Digital Technology Co., Ltd.");
-		IDS.put(1054, "Creative Labs");
-		IDS.put(10540, "GENUSION, Inc.");
-		IDS.put(10544, "Ineda Systems Inc.");
-		IDS.put(10545, "Jolla Ltd.");
-		IDS.put(10546, "Peraso Technologies, Inc.");
-		IDS.put(10549, "Nanjing Magewell Electronics Co., Ltd.");
-		IDS.put(10560, "Shenzhen Yiwanda Electronics Co., Ltd.");
-		IDS.put(1057, "Nokia Corporation");
-		IDS.put(10575, "Dollar Connection Ltd.");
-		IDS.put(10595, "BIO-key International, Inc.");
-		IDS.put(1060, "Microchip-SMSC");
-		IDS.put(10603, "Xacti Corporation");
-		IDS.put(10615, "Shenzhen Zowee Technology Co., Ltd.");
-		IDS.put(10643, "ADPlaus Technology Limited");
-		IDS.put(10646, "Unwired Technology");
-		IDS.put(1065, "Cirrus Logic Inc.");
-		IDS.put(10657, "Union Electric Plug & Connector Corp.");
-		IDS.put(10674, "Canova Tech");
-		IDS.put(10685, "Silicon Works");
-		IDS.put(10695, "HANRICO ANFU ELECTRONICS CO., LTD.");
-		IDS.put(10700, "Kodak Alaris");
-		IDS.put(10702, "JGR Optics Inc.");
-		IDS.put(10703, "Richtek Technology Corporation");
-		IDS.put(10705, "Binatone Electronics Int. Ltd.");
-		IDS.put(1071, "Molex Inc.");
-		IDS.put(10715, "Shenzhen iBoard Technology Co., Ltd.");
-		IDS.put(10719, "SMIT(HK) Limited");
-		IDS.put(1072, "Fujitsu Component Limited");
-		IDS.put(10725, "Dongguan Kechenda Electronic Technology Co., Ltd.");
-		IDS.put(10726, "Fengshun Peiying Electro-Acoustic Co., Ltd.");
-		IDS.put(10744, "MD ELEKTRONIK GmbH");
-		IDS.put(10749, "Bad Elf, LLC");
-		IDS.put(10770, "Vreo Limited");
-		IDS.put(10772, "Kanex");
-		IDS.put(10781, "Oxford Nanopore Technologies");
-		IDS.put(10782, "Obsidian Technology");
-		IDS.put(10783, "Lucent Trans Electronics Co., Ltd.");
-		IDS.put(10784, "GUOGUANG GROUP CO., LTD.");
-		IDS.put(10788, "CNPLUS");
-		IDS.put(10789, "Fourstar Group");
-		IDS.put(10790, "Tragant International Co., Ltd.");
-		IDS.put(10791, "DongGuan LianGang Optoelectronic Technology Co., Ltd.");
-		IDS.put(10797, "Atrust Computer Corp.");
-		IDS.put(10798, "VIA Alliance Semiconductor Co., Ltd.");
-		IDS.put(10799, "BSUN Electronics Co., Ltd.");
-		IDS.put(1080, "Advanced Micro Devices");
-		IDS.put(10807, "RTD Embedded Technologies, Inc.");
-		IDS.put(10816, "Shenzhen Choseal Industrial Co., Ltd.");
-		IDS.put(10817, "Canyon Semiconductor");
-		IDS.put(10818, "Spectra7 Microsystems Corp.");
-		IDS.put(10821, "Meizu Technology Co., Ltd.");
-		IDS.put(10822, "Hubei Yingtong Telecommunication Cable Inc.");
-		IDS.put(10829, "Wilder Technologies");
-		IDS.put(10837, "Diodes Inc.");
-		IDS.put(10846, "DuPont");
-		IDS.put(1085, "Lexmark International Inc.");
-		IDS.put(10852, "Zhejiang Songcheng Electronics Co., Ltd.");
-		IDS.put(10859, "VSN Mobil");
-		IDS.put(10875, "Bellwether Electronic Corp.");
-		IDS.put(10878, "VAIO Corporation");
-		IDS.put(10879, "Perixx Computer GmbH");
-		IDS.put(10885, "HANK ELECTRONICS CO., LTD");
-		IDS.put(10892, "Sonnet Technologies, Inc.");
-		IDS.put(10893, "Keysight Technologies Inc.");
-		IDS.put(10895, "Manutronics Vietnam Joint Stock Company");
-		IDS.put(10900, "G2 Touch Co., Ltd.");
-		IDS.put(10902, "Micromax Informatics Ltd");
-		IDS.put(10910, "SEIKO SOLUTIONS Inc.");
-		IDS.put(10912, "Casco Products Corp.");
-		IDS.put(10922, "Virtium Technology, Inc.");
-		IDS.put(10923, "Field and Company LLC, dba Leef USA");
-		IDS.put(10928, "GM Global Technology Operations LLC");
-		IDS.put(10931, "Key Asic Inc.");
-		IDS.put(10943, "Revolabs, Inc.");
-		IDS.put(10945, "Lattice Semiconductor Corp");
-		IDS.put(10947, "Foshan Nanhai Saga Audio Equipment Co., Ltd.");
-		IDS.put(10957, "Silergy Corp.");
-		IDS.put(10963, "Shenzhen Hali-Power Industrial Co., Ltd.");
-		IDS.put(10971, "I-PEX (Dai-ichi Seiko)");
-		IDS.put(10973, "SEE-PLUS INDUSTRIAL LTD.");
-		IDS.put(10990, "Adapt-IP Company");
-		IDS.put(10997, "Libratone A/S");
-		IDS.put(10999, "Shenzhen Hazens Automotive Electronics (SZ) Co., Ltd.");
-		IDS.put(11000, "Jiangsu Toppower Automotive Electronics Co., Ltd.");
-		IDS.put(11001, "Drapho Electronics Technology Co., Ltd.");
-		IDS.put(1102, "Alps Electric Co., Ltd.");
-		IDS.put(11022, "Le Shi Zhi Xin Electronic Technology (Tian Jin) Limited");
-		IDS.put(11024, "Cardiac Insight, Inc.");
-		IDS.put(11028, "EverPro Technologies Company, Ltd.");
-		IDS.put(11029, "Rosenberger Hochfrequenztechnik");
-		IDS.put(11035, "Dongguan City Sanji Electronics Co., Ltd.");
-		IDS.put(11037, "Lintes Technology Co., Ltd.");
-		IDS.put(11039, "KinnexA, Inc.");
-		IDS.put(11042, "Metra Electronics Corp.");
-		IDS.put(11044, "KeepKey, LLC");
-		IDS.put(11047, "FluxData Incorporated");
-		IDS.put(1105, "Texas Instruments");
-		IDS.put(11061, "Assem Technology Co., Ltd.");
-		IDS.put(11062, "Dongguan City Jianghan Electronics Co., Ltd.");
-		IDS.put(11063, "Huizhou Desay SV Automotive Co., Ltd.");
-		IDS.put(11064, "Ningbo Rixing Electronics Co., Ltd.");
-		IDS.put(11069, "GuangDong YuanFeng Automotive Electroics Co., Ltd.");
-		IDS.put(11080, "Sounding Audio Industrial Limited");
-		IDS.put(11082, "Yueqing Huaxin Electronic Co., Ltd.");
-		IDS.put(11098, "Universal Audio, Inc.");
-		IDS.put(11111, "Lifesize, Inc.");
-		IDS.put(11123, "Pioneer DJ Corporation");
-		IDS.put(11124, "Embedded Intelligence, Inc.");
-		IDS.put(11125, "New Matter");
-		IDS.put(11126, "Shanghai Wingtech Electronic Technology Co., Ltd.");
-		IDS.put(11127, "Epiphan Systems Inc.");
-		IDS.put(11130, "Spin Master Far East Ltd.");
-		IDS.put(11131, "Gigaset Digital Technology (Shenzhen) Co., Ltd.");
-		IDS.put(11132, "Noveltek Semiconductor Corp.");
-		IDS.put(11139, "Silicon Line GmbH");
-		IDS.put(11140, "Ever Win International Corp.");
-		IDS.put(11144, "Socionext Inc.");
-		IDS.put(11145, "Ugreen Group Limited");
-		IDS.put(11146, "Shanghai Pateo Electronic Equipment Mfg. Co., Ltd.");
-		IDS.put(1115, "Renesas Electronics Corp.");
-		IDS.put(11154, "i-BLADES, Inc.");
-		IDS.put(11155, "Altia Systems Inc.");
-		IDS.put(11156, "ShenZhen Baoyuanda Electronics Co., Ltd.");
-		IDS.put(11157, "iST - Integrated Service Technology Inc.");
-		IDS.put(11158, "HYUNDAI MOBIS Co., Ltd.");
-		IDS.put(11161, "360fly, Inc.");
-		IDS.put(11162, "HUIZHOU CHENG SHUO HARDWARE PLASTIC CO., LTD.");
-		IDS.put(11163, "Zhongshan Aute Electronics Technology Co., Ltd.");
-		IDS.put(11164, "Guangdong King Link Industrial Co., Ltd.");
-		IDS.put(11167, "Scietera Technologies, Inc.");
-		IDS.put(11168, "InVue Security Products");
-		IDS.put(11169, "I-Sheng Electric Wire & Cable Co., Ltd.");
-		IDS.put(11170, "China Daheng Group Inc Beijing Image Vision Tech Branch");
-		IDS.put(11171, "Shenzhen FeiTianXia Technology Ltd.");
-		IDS.put(11172, "Shenzhen HengJia New Energy Auto Part Co., Ltd.");
-		IDS.put(11175, "77 Elektronika Kft.");
-		IDS.put(11176, "YUDU EASON ELECTRONIC CO., LTD.");
-		IDS.put(1118, "Microsoft Corporation");
-		IDS.put(11181, "XIN JI (SHENZHEN) COMPUTER PARTS CO., LTD.");
-		IDS.put(11189, "Silk ID Systems");
-		IDS.put(11190, "3D Imaging & Simulations Corp. (3DISC)");
-		IDS.put(11191, "Dongguan ChengXiang Industrial Co., Ltd.");
-		IDS.put(11192, "OCC (Zhuhai) Electronic Co., Ltd.");
-		IDS.put(11194, "Sinseader Electronic Co., Ltd.");
-		IDS.put(11195, "DONGGUAN YELLOWKNIFE Industrial Co., Ltd.");
-		IDS.put(11197, "RF Creations Ltd.");
-		IDS.put(11198, "Chengyi Semiconductors (Shanghai) Co., Ltd.");
-		IDS.put(11199, "Shenzhen Shinning Electronic Co., Ltd.");
-		IDS.put(11200, "Shenzhen WFD Electronics Co., Ltd.");
-		IDS.put(11201, "Dongguan Sino Syncs Industrial Co., Ltd.");
-		IDS.put(11202, "JNTC Co., Ltd.");
-		IDS.put(11208, "DONGGUAN POLIXIN ELECTRIC CO., LTD.");
-		IDS.put(11209, "Tama Electric (Suzhou) Co., Ltd.");
-		IDS.put(1121, "Primax Electronics");
-		IDS.put(11210, "Exvision, Inc.");
-		IDS.put(11216, "mophie, LLC");
-		IDS.put(11219, "Dongguan ULT-unite electronic technology co., LTD");
-		IDS.put(11220, "JL Audio, Inc.");
-		IDS.put(11221, "Cable Matters Inc.");
-		IDS.put(11222, "CoroWare, Inc.");
-		IDS.put(11229, "Charm Sciences Inc.");
-		IDS.put(1123, "EATON");
-		IDS.put(11230, "Pickering Interfaces Limited");
-		IDS.put(11231, "Hangzhou Hikvision Digital Technology Co., Ltd.");
-		IDS.put(11232, "FULLINK ELECTRONICS TECHNOLOGY (SZ) LTD");
-		IDS.put(11233, "AutoChips Inc.");
-		IDS.put(11234, "Electric Connector Technology Co., Ltd.");
-		IDS.put(11237, "LELTEK");
-		IDS.put(11238, "Dongguan KaiWin Electronics Co., Ltd.");
-		IDS.put(11239, "BEFS Co., Ltd.");
-		IDS.put(11240, "Archisite, Inc.");
-		IDS.put(11241, "Magneti Marelli S.p.A Electr BL");
-		IDS.put(11246, "Ventev Mobile");
-		IDS.put(11247, "Quanta Storage Inc.");
-		IDS.put(11248, "Tech-Top Technology Limited");
-		IDS.put(11253, "Shenzhen YOOBAO Technology Co., Ltd.");
-		IDS.put(11254, "Shenzhen Sinotek Technology Co., Ltd.");
-		IDS.put(11255, "KEYW");
-		IDS.put(11256, "Visual Land Inc.");
-		IDS.put(11264, "MEEM SL Ltd");
-		IDS.put(11265, "Dongguan Arin Electronics Technology Co., Ltd.");
-		IDS.put(11266, "DongGuan City JianNuo Electronics Co., Ltd.");
-		IDS.put(11268, "Shenzhen XOX Electronics Co., Ltd.");
-		IDS.put(11269, "Protop International Inc.");
-		IDS.put(11270, "Microsemi Semiconductor (US) Inc.");
-		IDS.put(11271, "Webcloak LLC");
-		IDS.put(11272, "INVECAS INC.");
-		IDS.put(11274, "ATANS Technology Inc.");
-		IDS.put(11275, "Triple Win Precision Technology Co., Ltd.");
-		IDS.put(11276, "IC Realtech");
-		IDS.put(11277, "Embrava Pty Ltd");
-		IDS.put(1128, "Wieson Technologies Co., Ltd.");
-		IDS.put(11280, "Sinotronics Co., Ltd.");
-		IDS.put(11281, "ALLBEST ELECTRONICS TECHNOLOGY CO., LTD.");
-		IDS.put(11282, "Shenzhen Xin Kai Feng Electronics Factory");
-		IDS.put(11283, "MOST WELL Technology Corp.");
-		IDS.put(11284, "Buffalo Memory Co., Ltd.");
-		IDS.put(11285, "Xentris Wireless");
-		IDS.put(11286, "Priferential Accessories Ltd");
-		IDS.put(11289, "Sunlike Technology Co., Ltd.");
-		IDS.put(11290, "Young Fast Optoelectronics Co., Ltd.");
-		IDS.put(11291, "ISAW Camera Inc");
-		IDS.put(11298, "Qanba USA, LLC");
-		IDS.put(11299, "Super Micro Computer Inc.");
-		IDS.put(11302, "Micromax International Corporation");
-		IDS.put(11304, "Granite River Labs Japan Ltd.");
-		IDS.put(11305, "Coagent Enterprise Limited");
-		IDS.put(11306, "LEIA Inc.");
-		IDS.put(11309, "Shenzhen Ebull Technology Limited");
-		IDS.put(1131, "American Megatrends");
-		IDS.put(11310, "Hualun Technology Co., Ltd.");
-		IDS.put(11311, "Sensel, Inc.");
-		IDS.put(11319, "Shenzhen Adition Audio Science & Technology Co., Ltd.");
-		IDS.put(11320, "Goldenconn Electronics Technology (Suzhou) Co., Ltd.");
-		IDS.put(11321, "JIB Electronics Technology Co., Ltd.");
-		IDS.put(11322, "Changzhou Shinco Automotive Electronics Co., Ltd.");
-		IDS.put(11323, "Shenzhen Hangsheng Electronics Corp., Ltd.");
-		IDS.put(11324, "Beartooth Radio, Inc.");
-		IDS.put(11325, "Audience, A Knowles Company");
-		IDS.put(11327, "Nextbit Systems, Inc.");
-		IDS.put(11328, "Leadtrend");
-		IDS.put(11329, "Adaptertek Technology Co., Ltd.");
-		IDS.put(1133, "Logitech Inc.");
-		IDS.put(11330, "Feature Integration Technology Inc.");
-		IDS.put(11331, "Avegant Corporation");
-		IDS.put(11335, "Chunghsin International Electronics Co., Ltd.");
-		IDS.put(11336, "Delphi Electrical Centers (Shanghai) Co., Ltd.");
-		IDS.put(11341, "VVETEK DOO");
-		IDS.put(11347, "Huizhou Foryou General Electronics Co., Ltd.");
-		IDS.put(11348, "LifeWatch Technologies Ltd.");
-		IDS.put(11349, "Magicleap");
-		IDS.put(11355, "Dongguan City Shenglan Electronics Co., LTD.");
-		IDS.put(11356, "Neusoft Corporation");
-		IDS.put(11357, "SIP Simya Electronics Technology Co., Ltd.");
-		IDS.put(11358, "GNSD Automotive Co., Ltd.");
-		IDS.put(11359, "YOODS Co., Ltd.");
-		IDS.put(11360, "Sirin Mobile Technologies AG");
-		IDS.put(11361, "Jadmam Corporation dba: Boytone");
-		IDS.put(11373, "Gibson Innovations");
-		IDS.put(11374, "Shen Zhen Xian Shuo Technology Co. LTD");
-		IDS.put(11375, "PST Eletronica LTDA");
-		IDS.put(11376, "PERI, Inc.");
-		IDS.put(11377, "Bozhou BoTong Information Technology Co., Ltd.");
-		IDS.put(11383, "Profindustry GmbH");
-		IDS.put(11384, "BRAGI GmbH");
-		IDS.put(11385, "WAWGD, Inc. (DBA: Foresight Sports)");
-		IDS.put(11390, "Dongguan Allpass Electronic Co., Ltd.");
-		IDS.put(11391, "SHENZHEN D-VITEC INDUSTRIAL CO., LTD.");
-		IDS.put(11392, "motomobile AG");
-		IDS.put(11393, "Indie Semiconductor");
-		IDS.put(11397, "Audientes");
-		IDS.put(11403, "Huizhou Dehong Technology Co., Ltd.");
-		IDS.put(11404, "PowerCenter Technology Limited");
-		IDS.put(11405, "Mizco International, Inc.");
-		IDS.put(11408, "I. AM. PLUS, LLC");
-		IDS.put(11409, "Corigine, Inc.");
-		IDS.put(11410, "Ningbo Yinzhou Shengke Electronics Co., Ltd.");
-		IDS.put(11417, "Prusa Research s.r.o.");
-		IDS.put(11423, "e-Smart Systems Pvt. Ltd.");
-		IDS.put(11424, "Leagtech Jiangxi Electronic Co., Ltd.");
-		IDS.put(11425, "Dongguan Yujia Electronics Technology Co., Ltd.");
-		IDS.put(11426, "GuangZhou MingPing Electronics Technology");
-		IDS.put(11427, "DJI Technology Co., Ltd.");
-		IDS.put(11428, "Shenzhen Alex Technology Co., Ltd.");
-		IDS.put(11433, "JITS TECHNOLOGY CO., LIMITED");
-		IDS.put(11434, "LIVV Brand llc");
-		IDS.put(11444, "Ava Enterprises, Inc. dba: Boss Audio Systems");
-		IDS.put(11448, "Shenzhen Sydixon Electronic Technology Co., Ltd.");
-		IDS.put(11449, "On-Bright Electronics (Shanghai) Co., Ltd.");
-		IDS.put(11450, "Dongguan Puxu Industrial Co., Ltd.");
-		IDS.put(11451, "Shenzhen Soling Indusrtial Co., Ltd.");
-		IDS.put(11453, "EGGCYTE, INC.");
-		IDS.put(11455, "Donggguan Yuhua Electronic Co., Ltd.");
-		IDS.put(11456, "Hangzhou Zero Zero Technology Co., Ltd.");
-		IDS.put(11462, "Prodigy Technovations Pvt Ltd");
-		IDS.put(11463, "EmergiTech, Inc");
-		IDS.put(11464, "Hewlett Packard Enterprise");
-		IDS.put(11465, "Monolithic Power Systems Inc.");
-		IDS.put(11467, "USB Memory Direct");
-		IDS.put(11468, "Silicon Mitus Inc.");
-		IDS.put(11472, "Technics Global Electronics & JCE Co., Ltd.");
-		IDS.put(11478, "Immersive Media");
-		IDS.put(11479, "Cosemi Technologies Inc.");
-		IDS.put(11481, "Cambrionix Ltd");
-		IDS.put(11482, "CXUN Co. Ltd.");
-		IDS.put(11483, "China Tsp Inc");
-		IDS.put(11490, "Yanfeng Visteon (Chongqing) Automotive Electronics Co");
-		IDS.put(11491, "Alcorlink Corp.");
-		IDS.put(11492, "ISBC Ltd.");
-		IDS.put(11493, "InX8 Inc dba: AKiTiO");
-		IDS.put(11494, "SDAN Tecchnology Co., Ltd.");
-		IDS.put(11495, "Lemobile Information Technology (Beijing) Co., Ltd.");
-		IDS.put(11496, "GongGuan HWX Electronic Technology Co., Ltd.");
-		IDS.put(11497, "Suzhu Jingshi Electronic Technology Co., Ltd.");
-		IDS.put(11498, "Zhong Shan City Richsound Electronic Industrial Ltd.");
-		IDS.put(11499, "Dongguang Kangbang Electronics Co., Ltd.");
-		IDS.put(1151, "Plantronics, Inc.");
-		IDS.put(1154, "Kyocera Corporation");
-		IDS.put(1155, "STMicroelectronics");
-		IDS.put(1161, "Foxconn / Hon Hai");
-		IDS.put(1165, "ITE Tech Inc.");
-		IDS.put(1177, "Yamaha Corporation");
-		IDS.put(1188, "Hitachi, Ltd.");
-		IDS.put(1191, "Visioneer");
-		IDS.put(1193, "Canon Inc.");
-		IDS.put(1200, "Nikon Corporation");
-		IDS.put(1201, "Pan International");
-		IDS.put(1204, "Cypress Semiconductor");
-		IDS.put(1205, "ROHM Co., Ltd.");
-		IDS.put(1207, "Compal Electronics, Inc.");
-		IDS.put(1208, "Seiko Epson Corp.");
-		IDS.put(1211, "I-O Data Device, Inc.");
-		IDS.put(1221, "Fujitsu Ltd.");
-		IDS.put(1227, "FUJIFILM Corporation");
-		IDS.put(1238, "Mentor Graphics");
-		IDS.put(1240, "Microchip Technology Inc.");
-		IDS.put(1241, "Holtek Semiconductor, Inc.");
-		IDS.put(1242, "Panasonic Corporation");
-		IDS.put(1245, "Sharp Corporation");
-		IDS.put(1250, "Exar Corporation");
-		IDS.put(1254, "Identiv, Inc.");
-		IDS.put(1256, "Samsung Electronics Co., Ltd.");
-		IDS.put(1260, "Tokyo Electron Device Limited");
-		IDS.put(1266, "Chicony Electronics Co., Ltd.");
-		IDS.put(1271, "Newnex Technology Corp.");
-		IDS.put(1273, "Brother Industries, Ltd.");
-		IDS.put(1276, "SUNPLUS TECHNOLOGY CO., LTD.");
-		IDS.put(1278, "PFU Limited");
-		IDS.put(1281, "Fujikura/DDK");
-		IDS.put(1282, "Acer, Inc.");
-		IDS.put(1287, "Hosiden Corporation");
-		IDS.put(1293, "Belkin International, Inc.");
-		IDS.put(1300, "FCI Electronics");
-		IDS.put(1302, "Longwell Electronics/Longwell Company");
-		IDS.put(1305, "Star Micronics Co., LTD");
-		IDS.put(1309, "American Power Conversion");
-		IDS.put(1314, "ACON, Advanced-Connectek, Inc.");
-		IDS.put(1343, "Synopsys, Inc.");
-		IDS.put(1356, "Sony Corporation");
-		IDS.put(1360, "Fuji Xerox Co., Ltd.");
-		IDS.put(1367, "ATEN International Co. Ltd.");
-		IDS.put(1369, "Cadence Design Systems, Inc.");
-		IDS.put(1386, "WACOM Co., Ltd.");
-		IDS.put(1389, "EIZO Corporation");
-		IDS.put(1390, "Elecom Co., Ltd.");
-		IDS.put(1394, "Conexant Systems, Inc.");
-		IDS.put(1398, "BAFO/Quality Computer Accessories");
-		IDS.put(1403, "Y-E Data, Inc.");
-		IDS.put(1404, "AVM GmbH");
-		IDS.put(1410, "Roland Corporation");
-		IDS.put(1412, "RATOC Systems, Inc.");
-		IDS.put(1419, "Infineon Technologies");
-		IDS.put(1423, "Alcor Micro, Corp.");
-		IDS.put(1424, "OMRON Corporation");
-		IDS.put(1447, "Bose Corporation");
-		IDS.put(1449, "OmniVision Technologies, Inc.");
-		IDS.put(1452, "Apple");
-		IDS.put(1453, "Y.C. Cable U.S.A., Inc");
-		IDS.put(14627, "National Instruments");
-		IDS.put(1470, "Tyco Electronics Corp., a TE Connectivity Ltd. company");
-		IDS.put(1473, "MegaChips Corporation");
-		IDS.put(1478, "Qualcomm, Inc");
-		IDS.put(1480, "Foxlink/Cheng Uei Precision Industry Co., Ltd.");
-		IDS.put(1482, "Ricoh Company Ltd.");
-		IDS.put(1498, "Microtek International Inc.");
-		IDS.put(1504, "Symbol Technologies");
-		IDS.put(1507, "Genesys Logic, Inc.");
-		IDS.put(1509, "Fuji Electric Co., Ltd.");
-		IDS.put(1525, "Unixtar Technology Inc.");
-		IDS.put(1529, "Datalogic ADC");
-		IDS.put(1535, "LeCroy Corporation");
-		IDS.put(1539, "Novatek Microelectronics Corp.");
-		IDS.put(1545, "SMK Manufacturing Inc.");
-		IDS.put(1551, "Joinsoon Electronics Mfg. Co., Ltd.");
-		IDS.put(1555, "TransAct Technologies Incorporated");
-		IDS.put(1561, "Seiko Instruments Inc.");
-		IDS.put(1582, "JPC/MAIN SUPER Inc.");
-		IDS.put(1583, "Sin Sheng Terminal & Machine Inc.");
-		IDS.put(1593, "Chrontel, Inc.");
-		IDS.put(1611, "Analog Devices, Inc. Development Tools");
-		IDS.put(1612, "Ji-Haw Industrial Co., Ltd");
-		IDS.put(1614, "Suyin Corporation");
-		IDS.put(1621, "Space Shuttle Hi-Tech Co.,Ltd.");
-		IDS.put(1622, "Glory Mark Electronic Ltd.");
-		IDS.put(1623, "Tekcon Electronics Corp.");
-		IDS.put(1624, "Sigma Designs, Inc.");
-		IDS.put(1631, "Good Way Technology Co., Ltd. & GWC technology Inc");
-		IDS.put(1632, "TSAY-E (BVI) International Inc.");
-		IDS.put(1633, "Hamamatsu Photonics K.K.");
-		IDS.put(1642, "Total Technologies, Ltd.");
-		IDS.put(1659, "Prolific Technology, Inc.");
-		IDS.put(16700, "Dell Inc.");
-		IDS.put(1680, "Golden Bridge Electech Inc.");
-		IDS.put(1689, "Tektronix, Inc.");
-		IDS.put(1690, "Askey Computer Corporation");
-		IDS.put(1709, "Greatland Electronics Taiwan Ltd.");
-		IDS.put(1710, "Eurofins Digital Testing Belgium");
-		IDS.put(1720, "Pixela Corporation");
-		IDS.put(1724, "Oki Data Corporation");
-		IDS.put(1727, "Leoco Corporation");
-		IDS.put(1732, "Bizlink Technology, Inc.");
-		IDS.put(1736, "SIIG, Inc.");
-		IDS.put(1747, "Mitsubishi Electric Corporation");
-		IDS.put(1758, "Heisei Technology Co., Ltd.");
-		IDS.put(1802, "Oki Electric Industry Co., Ltd.");
-		IDS.put(1805, "Comoss Electronic Co., Ltd.");
-		IDS.put(1809, "Magic Control Technology Corp.");
-		IDS.put(1816, "Imation Corp.");
-		IDS.put(1838, "Sunix Co., Ltd.");
-		IDS.put(1846, "Lorom Industrial Co., Ltd.");
-		IDS.put(1848, "Mad Catz, Inc.");
-		IDS.put(1899, "HID Global GmbH");
-		IDS.put(1901, "Denso Corporation");
-		IDS.put(1913, "Fairchild Semiconductor");
-		IDS.put(1921, "SanDisk Corporation");
-		IDS.put(1937, "Copartner Technology Corporation");
-		IDS.put(1954, "National Technical Systems");
-		IDS.put(1971, "Plustek, Inc.");
-		IDS.put(1972, "OLYMPUS CORPORATION");
-		IDS.put(1975, "TIME Interconnect Ltd.");
-		IDS.put(1994, "AVerMedia Technologies, Inc.");
-		IDS.put(1999, "Casio Computer Co., Ltd.");
-		IDS.put(2015, "David Electronics Company, Ltd.");
-		IDS.put(2039, "Century Corporation");
-		IDS.put(2058, "Evermuch Technology Co., Ltd.");
-		IDS.put(2101, "Action Star Enterprise Co., Ltd.");
-		IDS.put(2112, "Argosy Research Inc.");
-		IDS.put(2122, "Wipro Limited");
-		IDS.put(2159, "MEC IMEX INC/HPT");
-		IDS.put(2205, "Icron Technologies Corporation");
-		IDS.put(2247, "TAI TWUN ENTERPRISE CO., LTD.");
-		IDS.put(2276, "Pioneer Corporation");
-		IDS.put(2278, "Gemalto SA");
-		IDS.put(2310, "FARADAY Technology Corp.");
-		IDS.put(2313, "Audio-Technica Corp.");
-		IDS.put(2316, "Silicon Motion, Inc. - Taiwan");
-		IDS.put(2334, "Garmin International");
-		IDS.put(2352, "Toshiba Corporation");
-		IDS.put(2362, "Pixart Imaging, Inc.");
-		IDS.put(2363, "Plextor LLC");
-		IDS.put(2366, "J.S.T. Mfg. Co., Ltd.");
-		IDS.put(2385, "Kingston Technology Company");
-		IDS.put(2389, "NVIDIA");
-		IDS.put(2395, "Medialogic Corporation");
-		IDS.put(2397, "Polycom, Inc.");
-		IDS.put(2468, "Contech Research, Inc.");
-		IDS.put(2472, "Lin Shiung Enterprise Co., Ltd.");
-		IDS.put(2475, "Japan Cash Machine Co., Ltd.");
-		IDS.put(2498, "NISCA Corporation");
-		IDS.put(2511, "Electronics Testing Center, Taiwan");
-		IDS.put(2522, "A-FOUR TECH CO., LTD.");
-		IDS.put(2555, "Altera");
-		IDS.put(2578, "Cambridge Silicon Radio Ltd.");
-		IDS.put(2583, "HOYA Corporation");
-		IDS.put(2631, "Hirose Electric Co., Ltd.");
-		IDS.put(2636, "COMPUTEX Co., Ltd.");
-		IDS.put(2640, "Mimaki Engineering Co., Ltd.");
-		IDS.put(2652, "Broadcom Corp.");
-		IDS.put(2667, "Green House Co., Ltd.");
-		IDS.put(2702, "Japan Aviation Electronics Industry Ltd. (JAE)");
-		IDS.put(2727, "Wincor Nixdorf GmbH & Co KG");
-		IDS.put(2733, "Rohde & Schwarz GmbH & Co. KG");
-		IDS.put(2787, "Allion Labs, Inc.");
-		IDS.put(2821, "ASUSTek Computer Inc.");
-		IDS.put(2849, "Yokogawa Electric Corporation");
-		IDS.put(2851, "Pan-Asia Electronics Co., Ltd.");
-		IDS.put(2894, "Musical Electronics Ltd.");
-		IDS.put(2907, "Anritsu Corporation");
-		IDS.put(2922, "Maxim Integrated Products");
-		IDS.put(2965, "ASIX Electronics Corporation");
-		IDS.put(2967, "O2Micro, Inc.");
-		IDS.put(3010, "Seagate Technology LLC");
-		IDS.put(3034, "Realtek Semiconductor Corp.");
-		IDS.put(3035, "Ericsson AB");
-		IDS.put(3044, "Elka International Ltd.");
-		IDS.put(3056, "Pace Micro Technology PLC");
-		IDS.put(3108, "Taiyo Yuden Co., Ltd.");
-		IDS.put(3129, "Aeroflex");
-		IDS.put(3132, "Radius Co., Ltd.");
-		IDS.put(3141, "Sonix Technology Co., Ltd.");
-		IDS.put(3158, "Billion Bright (HK) Corporation Limited");
-		IDS.put(3161, "Dong Guan Shinko Wire Co., Ltd.");
-		IDS.put(3170, "Chant Sincere Co., Ltd");
-		IDS.put(3190, "Solid State System Co., Ltd.");
-		IDS.put(3209, "Honda Tsushin Kogyo Co., Ltd");
-		IDS.put(3245, "Motorola Solutions");
-		IDS.put(3255, "Singatron Enterprise Co. Ltd.");
-		IDS.put(3268, "emsys Embedded Systems GmbH");
-		IDS.put(32902, "Intel Corporation");
-		IDS.put(3294, "Z-Com INC.");
-		IDS.put(3313, "e-CONN ELECTRONIC CO., LTD.");
-		IDS.put(3314, "ENE Technology Inc.");
-		IDS.put(3351, "NALTEC, Inc.");
-		IDS.put(3402, "NF Corporation");
-		IDS.put(3403, "Grape Systems Inc.");
-		IDS.put(3409, "Volex (Asia) Pte Ltd");
-		IDS.put(3425, "MEILU ELECTRONICS (SHENZHEN) CO., LTD.");
-		IDS.put(3441, "Hirakawa Hewtech Corp.");
-		IDS.put(3452, "Taiwan Line Tek Electronic Co., Ltd.");
-		IDS.put(3463, "Dolby Laboratories Inc.");
-		IDS.put(3468, "C-MEDIA ELECTRONICS INC.");
-		IDS.put(3472, "Sure-Fire Electrical Corporation");
-		IDS.put(3495, "IOGEAR, Inc.");
-		IDS.put(3504, "Micro-Star International Co., Ltd.");
-		IDS.put(3537, "Contek Electronics Co., Ltd.");
-		IDS.put(3540, "Custom Engineering SPA");
-		IDS.put(3641, "Smart Modular Technologies, Inc.");
-		IDS.put(3658, "Shenzhen Bao Hing Electric Wire & Cable Mfr. Co.");
-		IDS.put(3673, "Bourns, Inc.");
-		IDS.put(3690, "Megawin Technology Co., Ltd.");
-		IDS.put(3698, "Hsi-Chin Electronics Co., Ltd.");
-		IDS.put(3714, "Ching Tai Electric Wire & Cable Co., Ltd.");
-		IDS.put(3724, "Well Force Electronic Co., Ltd");
-		IDS.put(3725, "MediaTek Inc.");
-		IDS.put(3728, "CRU");
-		IDS.put(3744, "Ours Technology Inc.");
-		IDS.put(3762, "Y-S ELECTRONIC CO., LTD.");
-		IDS.put(3778, "Sweetray Industrial Ltd.");
-		IDS.put(3779, "Axell Corporation");
-		IDS.put(3782, "InnoVISION Multimedia Limited");
-		IDS.put(3790, "TaiSol Electronics Co., Ltd.");
-		IDS.put(3812, "Sunrich Technology (H.K.) Ltd.");
-		IDS.put(3868, "Funai Electric Co., Ltd.");
-		IDS.put(3873, "IOI Technology Corporation");
-		IDS.put(3890, "YFC-BonEagle Electric Co., Ltd.");
-		IDS.put(3896, "Nien-Yi Industrial Corp.");
-		IDS.put(3916, "WORLDWIDE CABLE OPTO CORP.");
-		IDS.put(3923, "Taiyo Cable (Dongguan) Co. Ltd.");
-		IDS.put(3924, "Kawai Musical Instruments Mfg. Co., Ltd.");
-		IDS.put(3936, "GuangZhou Chief Tech Electronic Technology Co. Ltd.");
-		IDS.put(3944, "UQUEST, LTD.");
-		IDS.put(3991, "CviLux Corporation");
-		IDS.put(4003, "Chief Land Electronic Co., Ltd.");
-		IDS.put(4046, "Sony Mobile Communications");
-		IDS.put(4087, "CHI SHING COMPUTER ACCESSORIES CO., LTD.");
-		IDS.put(4096, "Speed Tech Corp.");
-		IDS.put(4100, "LG Electronics Inc.");
-		IDS.put(4101, "Apacer Technology Inc.");
-		IDS.put(4134, "Newly Corporation");
-		IDS.put(4168, "Targus Group International");
-		IDS.put(4172, "AMCO TEC International Inc.");
-		IDS.put(4183, "ON Semiconductor");
-		IDS.put(4184, "Western Digital Technologies, Inc.");
-		IDS.put(4227, "CANON ELECTRONICS INC.");
-		IDS.put(4235, "Grand-tek Technology Co., Ltd.");
-		IDS.put(4236, "Robert Bosch GmbH");
-		IDS.put(4238, "Lotes Co., Ltd.");
-		IDS.put(4266, "Cables To Go");
-		IDS.put(4267, "Universal Global Scientific Industrial Co., Ltd.");
-		IDS.put(4292, "Silicon Laboratories, Inc.");
-		IDS.put(4301, "Kycon Inc.");
-		IDS.put(4362, "Moxa Inc.");
-		IDS.put(4370, "Golden Bright (Sichuan) Electronic Technology Co Ltd");
-		IDS.put(4382, "VSO ELECTRONICS CO., LTD.");
-		IDS.put(4398, "Master Hill Electric Wire and Cable Co., Ltd.");
-		IDS.put(4477, "Santa Electronic Inc.");
-		IDS.put(4505, "Sierra Wireless Inc.");
-		IDS.put(4522, "GlobalMedia Group, LLC");
-		IDS.put(4528, "ATECH FLASH TECHNOLOGY");
-		IDS.put(4643, "SKYCABLE ENTERPRISE CO., LTD.");
-		IDS.put(4703, "ADATA Technology Co., Ltd.");
-		IDS.put(4716, "Aristocrat Technologies");
-		IDS.put(4717, "Bel Stewart");
-		IDS.put(4742, "MARVELL SEMICONDUCTOR, INC.");
-		IDS.put(4756, "RISO KAGAKU CORP.");
-		IDS.put(4792, "Zhejiang Xinya Electronic Technology Co., Ltd.");
-		IDS.put(4817, "Huawei Technologies Co., Ltd.");
-		IDS.put(4823, "Better Holdings (HK) Limited");
-		IDS.put(4907, "Konica Minolta, Inc.");
-		IDS.put(4925, "Jasco Products Company");
-		IDS.put(4989, "Pericom Semiconductor Corp.");
-		IDS.put(5008, "TomTom International B.V.");
-		IDS.put(5075, "AzureWave Technologies, Inc.");
-		IDS.put(5117, "Initio Corporation");
-		IDS.put(5118, "Phison Electronics Corp.");
-		IDS.put(5134, "Telechips, Inc.");
-		IDS.put(5145, "ABILITY ENTERPRISE CO., LTD.");
-		IDS.put(5148, "Leviton Manufacturing");
-		IDS.put(5271, "Panstrong Company Ltd.");
-		IDS.put(5293, "CTK Corporation");
-		IDS.put(5296, "StarTech.com Ltd.");
-		IDS.put(5376, "Ellisys");
-		IDS.put(5404, "VeriSilicon Holdings Co., Ltd.");
-		IDS.put(5421, "JMicron Technology Corp.");
-		IDS.put(5422, "HLDS (Hitachi-LG Data Storage, Inc.)");
-		IDS.put(5440, "Phihong Technology Co., Ltd.");
-		IDS.put(5451, "PNY Technologies Inc.");
-		IDS.put(5453, "Rapid Conn, Connect County Holdings Bhd");
-		IDS.put(5454, "D & M Holdings, Inc.");
-		IDS.put(5480, "Sunf Pu Technology Co., Ltd");
-		IDS.put(5488, "ALLTOP TECHNOLOGY CO., LTD.");
-		IDS.put(5510, "Palconn Technology Co., Ltd.");
-		IDS.put(5528, "Kunshan Guoji Electronics Co., Ltd.");
-		IDS.put(5546, "DongGuan Ya Lian Electronics Co., Ltd.");
-		IDS.put(5645, "Samtec");
-		IDS.put(5694, "HongLin Electronics Co., Ltd.");
-		IDS.put(5753, "Total Phase");
-		IDS.put(5766, "ZOOM Corporation");
-		IDS.put(5836, "silex technology, Inc.");
-		IDS.put(5946, "F. Hoffmann-La Roche AG");
-		IDS.put(5960, "MQP Electronics Ltd.");
-		IDS.put(5964, "ASMedia Technology Inc.");
-		IDS.put(5998, "UD electronic corp.");
-		IDS.put(6001, "Shenzhen Alex Connector Co., Ltd.");
-		IDS.put(6002, "System Level Solutions, Inc.");
-		IDS.put(6018, "Spreadtrum Hong Kong Limited");
-		IDS.put(6024, "ShenZhen Litkconn Technology Co., Ltd.");
-		IDS.put(6053, "Advanced Connection Technology Inc.");
-		IDS.put(6095, "Hip Hing Cable & Plug Mfy. Ltd.");
-		IDS.put(6121, "DisplayLink (UK) Ltd.");
-		IDS.put(6127, "Lenovo");
-		IDS.put(6133, "K.K. Rocky");
-		IDS.put(6160, "Wanshih Electronic Co., Ltd.");
-		IDS.put(6185, "Dongguan YuQiu Electronics Co., Ltd.");
-		IDS.put(6193, "Gwo Jinn Industries Co., Ltd.");
-		IDS.put(6297, "Linkiss Co., Ltd.");
-		IDS.put(6353, "Google Inc.");
-		IDS.put(6394, "Kuang Ying Computer Equipment Co., Ltd.");
-		IDS.put(6421, "Nordic Semiconductor ASA");
-		IDS.put(6448, "Shenzhen Xianhe Technology Co., Ltd.");
-		IDS.put(6449, "Ningbo Broad Telecommunication Co., Ltd.");
-		IDS.put(6470, "Irisguard UK Ltd");
-		IDS.put(6473, "Lab126");
-		IDS.put(6481, "Hyperstone GmbH");
-		IDS.put(6487, "BIOS Corporation");
-		IDS.put(6626, "Solomon Systech Limited");
-		IDS.put(6639, "Pak Heng Technology (Shenzhen) Co., Ltd.");
-		IDS.put(6655, "Best Buy China Ltd.");
-		IDS.put(6666, "USB-IF non-workshop");
-		IDS.put(6709, "Artesyn Technologies Inc.");
-		IDS.put(6720, "TERMINUS TECHNOLOGY INC.");
-		IDS.put(6766, "Global Unichip Corp.");
-		IDS.put(6786, "Proconn Technology Co., Ltd.");
-		IDS.put(6794, "Simula Technology Inc.");
-		IDS.put(6795, "SGS Taiwan Ltd.");
-		IDS.put(6830, "Johnson Component & Equipments Co., Ltd.");
-		IDS.put(6834, "Allied Vision Technologies GmbH");
-		IDS.put(6859, "Salcomp Plc");
-		IDS.put(6865, "Desan Wire Co., Ltd.");
-		IDS.put(6944, "MStar Semiconductor, Inc.");
-		IDS.put(6984, "Plastron Precision Co., Ltd.");
-		IDS.put(7013, "The Hong Kong Standards and Testing Centre Ltd.");
-		IDS.put(7048, "ShenMing Electron (Dong Guan) Co., Ltd.");
-		IDS.put(7086, "Vuzix Corporation");
-		IDS.put(7108, "Ford Motor Co.");
-		IDS.put(7118, "Contac Cable Industrial Limited");
-		IDS.put(7119, "Sunplus Innovation Technology Inc.");
-		IDS.put(7120, "Hangzhou Riyue Electronics Co., Ltd.");
-		IDS.put(7158, "Orient Semiconductor Electronics, Ltd.");
-		IDS.put(7207, "SHENZHEN DNS INDUSTRIES CO., LTD.");
-		IDS.put(7217, "LS Mtron Ltd.");
-		IDS.put(7229, "NONIN MEDICAL INC.");
-		IDS.put(7275, "Philips & Lite-ON Digital Solutions Corporation");
-		IDS.put(7310, "ASTRON INTERNATIONAL CORP.");
-		IDS.put(7320, "ALPINE ELECTRONICS, INC.");
-		IDS.put(7347, "Aces Electronics Co., Ltd.");
-		IDS.put(7348, "OPEX CORPORATION");
-		IDS.put(7390, "Telecommunications Technology Association (TTA)");
-		IDS.put(7434, "Visteon Corporation");
-		IDS.put(7465, "Horng Tong Enterprise Co., Ltd.");
-		IDS.put(7501, "Pegatron Corporation");
-		IDS.put(7516, "Fresco Logic Inc.");
-		IDS.put(7529, "Walta Electronic Co., Ltd.");
-		IDS.put(7543, "Yueqing Changling Electronic Instrument Corp., Ltd.");
-		IDS.put(7584, "Parade Technologies, Inc.");
-		IDS.put(7647, "L&T Technology Services");
-		IDS.put(7649, "Actions Microelectronics Co., Ltd.");
-		IDS.put(7666, "China Telecommunication Technology Labs - Terminals");
-		IDS.put(7668, "SHEN ZHEN FORMAN PRECISION INDUSTRY CO., LTD.");
-		IDS.put(7682, "GLOBEMASTER TECHNOLOGIES CO., LTD.");
-		IDS.put(7696, "Point Grey Research Inc.");
-		IDS.put(7751, "HUNG TA H.T.ENTERPRISE CO., LTD.");
-		IDS.put(7758, "Etron Technology, Inc.");
-		IDS.put(7795, "COMLINK ELECTRONICS CO., LTD.");
-		IDS.put(7818, "HIBEST Electronic (DongGuan) Co., Ltd.");
-		IDS.put(7825, "Other World Computing");
-		IDS.put(7863, "WIN WIN PRECISION INDUSTRIAL CO., LTD.");
-		IDS.put(7879, "Gefen Inc.");
-		IDS.put(7881, "MOSER BAER INDIA LIMITED");
-		IDS.put(7898, "AIRTIES WIRELESS NETWORKS");
-		IDS.put(7956, "Astoria Networks GmbH");
-		IDS.put(7969, "Scosche Industries");
-		IDS.put(7976, "Cal-Comp Electronics & Communications");
-		IDS.put(7977, "Analogix Semiconductor, Inc.");
-		IDS.put(7989, "Amphenol ShouhMin Industry (ShenZhen) Co., Ltd");
-		IDS.put(7996, "Chang Yang Electronics Company Ltd.");
-		IDS.put(8073, "Dongguan Goldconn Electronics Co., Ltd.");
-		IDS.put(8074, "Morning Star Industrial Co., Ltd.");
-		IDS.put(8117, "Unify Software and Solutions GmbH & Co. KG");
-		IDS.put(8137, "NXP Semiconductors");
-		IDS.put(8181, "Changzhou Wujin BEST Electronic Cables Co., Ltd.");
-		IDS.put(8205, "Belkin Electronic (Changzhou) Co., Ltd.");
-		IDS.put(8220, "Freeport Resources Enterprises Corp.");
-		IDS.put(8222, "Qingdao Haier Telecom Co., Ltd.");
-		IDS.put(8284, "Shenzhen Tronixin Electronics Co., Ltd.");
-		IDS.put(8294, "Unicorn Electronics Components Co., Ltd.");
-		IDS.put(8334, "Luxshare-ICT");
-		IDS.put(8341, "CE LINK LIMITED");
-		IDS.put(8342, "Microconn Electronic Co., Ltd.");
-		IDS.put(8367, "Shenzhen CARVE Electronics Co., Ltd.");
-		IDS.put(8382, "BURY GmbH & Co. KG");
-		IDS.put(8384, "FENGHUA KINGSUN CO., LTD.");
-		IDS.put(8386, "Sumitomo Electric Ind., Ltd., Optical Comm. R&D Lab");
-		IDS.put(8439, "XIMEA s.r.o.");
-		IDS.put(8457, "VIA Labs, Inc.");
-		IDS.put(8492, "Shenzhen Linoya Electronic Co., Ltd.");
-		IDS.put(8494, "Amphenol AssembleTech (Xiamen) Co., Ltd.");
-		IDS.put(8524, "Y Soft Corporation");
-		IDS.put(8550, "JVC KENWOOD Corporation");
-		IDS.put(8564, "Transcend Information, Inc.");
-		IDS.put(8566, "TMC/Allion Test Labs");
-		IDS.put(8613, "Genesis Technology USA, Inc.");
-		IDS.put(8627, "Dongguan Teconn Electronics Technology Co., Ltd.");
-		IDS.put(8644, "Netcom Technology (HK) Limited");
-		IDS.put(8659, "Compupack Technology Co., Ltd.");
-		IDS.put(8667, "G-Max Technology Co., Ltd.");
-		IDS.put(8679, "Sagemcom Broadband SAS");
-		IDS.put(8695, "Wuerth-Elektronik eiSos GmbH & Co. KG");
-		IDS.put(8707, "Shin Shin Co., Ltd.");
-		IDS.put(8709, "3eYamaichi Electronics Co., Ltd.");
-		IDS.put(8710, "Wiretek International Investment Ltd.");
-		IDS.put(8711, "Fuzhou Rockchip Electronics Co., Ltd.");
-		IDS.put(8752, "Plugable Technologies");
-		IDS.put(8756, "T-CONN PRECISION CORPORATION");
-		IDS.put(8831, "Granite River Labs");
-		IDS.put(8842, "Hotron Precision Electronic Ind. Corp.");
-		IDS.put(8875, "Trigence Semiconductor, Inc.");
-		IDS.put(8888, "Motorola Mobility Inc.");
-		IDS.put(8904, "Karming Electronic (Shenzhen) Co., Ltd.");
-		IDS.put(8981, "Avery Design Systems, Inc.");
-		IDS.put(8993, "iKingdom Corp. (d.b.a. iConnectivity)");
-		IDS.put(9051, "KangXiang Electronic Co., Ltd.");
-		IDS.put(9068, "ZheJiang Chunsheng Electronics Co., Ltd.");
-		IDS.put(9130, "DOK (HK) Trading Limited");
-		IDS.put(9132, "Marunix Electron Limited");
-		IDS.put(9165, "Avconn Precise Connector Co., Ltd.");
-		IDS.put(9184, "BitifEye Digital Test Solutions GmbH");
-		IDS.put(9205, "Speed Conn Co., Ltd.");
-		IDS.put(9222, "INSIDE Secure");
-		IDS.put(9292, "Minebea Co., Ltd.");
-		IDS.put(9299, "BAANTO");
-		IDS.put(9338, "Suzhou Jutze Technologies Co., Ltd");
-		IDS.put(9355, "DONGGUAN SYNCONN PRECISION INDUSTRY CO. LTD.");
-		IDS.put(9382, "Shenzhen Pangngai Industrial Co., Ltd.");
-		IDS.put(9422, "Shenzhen Deren Electronic Co., Ltd.");
-		IDS.put(9424, "Smith Micro Software, Inc.");
-		IDS.put(9453, "ZEN FACTORY GROUP (ASIA) LTD.");
-		IDS.put(9481, "Chain-In Electronic Co., Ltd.");
-		IDS.put(9514, "SUZHOU KELI TECHNOLOGY DEVELOPMENT CO., LTD.");
-		IDS.put(9515, "TOP Exactitude Industry (ShenZhen) Co., Ltd.");
-		IDS.put(9525, "ShenZhen Hogend Precision Technology Co., Ltd.");
-		IDS.put(9527, "Norel Systems Ltd.");
-		IDS.put(9556, "ASSA ABLOY AB");
-		IDS.put(9575, "DongGuan LongTao Electronic Co., Ltd.");
-		IDS.put(9577, "DongGuan City MingJi Electronics Co., Ltd.");
-		IDS.put(9589, "Weida Hi-Tech Co., Ltd.");
-		IDS.put(9593, "Dongguan Wisechamp Electronic Co., Ltd.");
-		IDS.put(9613, "Sequans Communications");
-		IDS.put(9636, "ALGOLTEK, INC.");
-		IDS.put(9651, "DongGuan Elinke Industrial Co., Ltd.");
-		IDS.put(9679, "Corning Optical Communications LLC");
-		IDS.put(9714, "Dongguan Jinyue Electronics Co., Ltd.");
-		IDS.put(9723, "RICOH IMAGING COMPANY, LTD.");
-		IDS.put(9742, "DongGuan HYX Industrial Co., Ltd.");
-		IDS.put(9753, "Advanced Silicon SA");
-		IDS.put(9756, "EISST Limited");
-		IDS.put(9771, "YTOP Electronics Technical (Kunshan) Co., Ltd.");
-		IDS.put(9841, "Innovative Logic");
-		IDS.put(9842, "GoPro");
-		IDS.put(9846, "Basler AG");
-		IDS.put(9851, "Palpilot International Corp.");
-		IDS.put(9896, "UNIREX CORPORATION");
-		IDS.put(9917, "Integral Memory Plc.");
-		IDS.put(9973, "Morning Star Digital Connector Co., Ltd.");
-		IDS.put(9984, "MITACHI CO., LTD.");
-		IDS.put(9999, "HGST, a Western Digital Company");
+	/**
+	 * ベンダーIDとベンダー名のテーブル
+	 * Initialization-on-demand holderなのでUSBVendorIdのクラス初期化時ではなく
+	 * 最初にvendorNameを呼び出した時に初期化される
+	 */
+	private static final class Table {
+		/** ベンダーID, 昇順 */
+		private static final int[] IDS = {
+			1003, 1006, 1008, 1020, 1021, 1026, 1027, 1032, 1033, 1035,
+			1037, 1038, 1041, 1044, 1046, 1054, 1057, 1060, 1065, 1071,
+			1072, 1080, 1085, 1102, 1105, 1115, 1118, 1121, 1123, 1128,
+			1131, 1133, 1151, 1154, 1155, 1161, 1165, 1177, 1188, 1191,
+			1193, 1200, 1201, 1204, 1205, 1207, 1208, 1211, 1221, 1227,
+			1238, 1240, 1241, 1242, 1245, 1250, 1254, 1256, 1260, 1266,
+			1271, 1273, 1276, 1278, 1281, 1282, 1287, 1293, 1300, 1302,
+			1305, 1309, 1314, 1343, 1356, 1360, 1367, 1369, 1386, 1389,
+			1390, 1394, 1398, 1403, 1404, 1410, 1412, 1419, 1423, 1424,
+			1447, 1449, 1452, 1453, 1470, 1473, 1478, 1480, 1482, 1498,
+			1504, 1507, 1509, 1525, 1529, 1535, 1539, 1545, 1551, 1555,
+			1561, 1582, 1583, 1593, 1611, 1612, 1614, 1621, 1622, 1623,
+			1624, 1631, 1632, 1633, 1642, 1659, 1680, 1689, 1690, 1709,
+			1710, 1720, 1724, 1727, 1732, 1736, 1747, 1758, 1802, 1805,
+			1809, 1816, 1838, 1846, 1848, 1899, 1901, 1913, 1921, 1937,
+			1954, 1971, 1972, 1975, 1994, 1999, 2015, 2039, 2058, 2101,
+			2112, 2122, 2159, 2205, 2247, 2276, 2278, 2310, 2313, 2316,
+			2334, 2352, 2362, 2363, 2366, 2385, 2389, 2395, 2397, 2468,
+			2472, 2475, 2498, 2511, 2522, 2555, 2578, 2583, 2631, 2636,
+			2640, 2652, 2667, 2702, 2727, 2733, 2787, 2821, 2849, 2851,
+			2894, 2907, 2922, 2965, 2967, 3010, 3034, 3035, 3044, 3056,
+			3108, 3129, 3132, 3141, 3158, 3161, 3170, 3190, 3209, 3245,
+			3255, 3268, 3294, 3313, 3314, 3351, 3402, 3403, 3409, 3425,
+			3441, 3452, 3463, 3468, 3472, 3495, 3504, 3537, 3540, 3641,
+			3658, 3673, 3690, 3698, 3714, 3724, 3725, 3728, 3744, 3762,
+			3778, 3779, 3782, 3790, 3812, 3868, 3873, 3890, 3896, 3916,
+			3923, 3924, 3936, 3944, 3991, 4003, 4046, 4087, 4096, 4100,
+			4101, 4134, 4168, 4172, 4183, 4184, 4227, 4235, 4236, 4238,
+			4266, 4267, 4292, 4301, 4362, 4370, 4382, 4398, 4477, 4505,
+			4522, 4528, 4643, 4703, 4716, 4717, 4742, 4756, 4792, 4817,
+			4823, 4907, 4925, 4989, 5008, 5075, 5117, 5118, 5134, 5145,
+			5148, 5271, 5293, 5296, 5376, 5404, 5421, 5422, 5440, 5451,
+			5453, 5454, 5480, 5488, 5510, 5528, 5546, 5645, 5694, 5753,
+			5766, 5836, 5946, 5960, 5964, 5998, 6001, 6002, 6018, 6024,
+			6053, 6095, 6121, 6127, 6133, 6160, 6185, 6193, 6297, 6353,
+			6394, 6421, 6448, 6449, 6470, 6473, 6481, 6487, 6626, 6639,
+			6655, 6666, 6709, 6720, 6766, 6786, 6794, 6795, 6830, 6834,
+			6859, 6865, 6944, 6984, 7013, 7048, 7086, 7108, 7118, 7119,
+			7120, 7158, 7207, 7217, 7229, 7275, 7310, 7320, 7347, 7348,
+			7390, 7434, 7465, 7501, 7516, 7529, 7543, 7584, 7647, 7649,
+			7666, 7668, 7682, 7696, 7751, 7758, 7795, 7818, 7825, 7863,
+			7879, 7881, 7898, 7956, 7969, 7976, 7977, 7989, 7996, 8073,
+			8074, 8117, 8137, 8181, 8205, 8220, 8222, 8284, 8294, 8334,
+			8341, 8342, 8367, 8382, 8384, 8386, 8439, 8457, 8492, 8494,
+			8524, 8550, 8564, 8566, 8613, 8627, 8644, 8659, 8667, 8679,
+			8695, 8707, 8709, 8710, 8711, 8752, 8756, 8831, 8842, 8875,
+			8888, 8904, 8981, 8993, 9051, 9068, 9130, 9132, 9165, 9184,
+			9205, 9222, 9292, 9299, 9338, 9355, 9382, 9422, 9424, 9453,
+			9481, 9514, 9515, 9525, 9527, 9556, 9575, 9577, 9589, 9593,
+			9613, 9636, 9651, 9679, 9714, 9723, 9742, 9753, 9756, 9771,
+			9841, 9842, 9846, 9851, 9896, 9917, 9973, 9984, 9999, 10006,
+			10013, 10022, 10112, 10113, 10121, 10144, 10149, 10150, 10226, 10275,
+			10289, 10291, 10300, 10316, 10329, 10374, 10375, 10398, 10406, 10423,
+			10431, 10446, 10457, 10458, 10466, 10470, 10509, 10510, 10519, 10530,
+			10540, 10544, 10545, 10546, 10549, 10560, 10575, 10595, 10603, 10615,
+			10643, 10646, 10657, 10674, 10685, 10695, 10700, 10702, 10703, 10705,
+			10715, 10719, 10725, 10726, 10744, 10749, 10770, 10772, 10781, 10782,
+			10783, 10784, 10788, 10789, 10790, 10791, 10797, 10798, 10799, 10807,
+			10816, 10817, 10818, 10821, 10822, 10829, 10837, 10846, 10852, 10859,
+			10875, 10878, 10879, 10885, 10892, 10893, 10895, 10900, 10902, 10910,
+			10912, 10922, 10923, 10928, 10931, 10943, 10945, 10947, 10957, 10963,
+			10971, 10973, 10990, 10997, 10999, 11000, 11001, 11022, 11024, 11028,
+			11029, 11035, 11037, 11039, 11042, 11044, 11047, 11061, 11062, 11063,
+			11064, 11069, 11080, 11082, 11098, 11111, 11123, 11124, 11125, 11126,
+			11127, 11130, 11131, 11132, 11139, 11140, 11144, 11145, 11146, 11154,
+			11155, 11156, 11157, 11158, 11161, 11162, 11163, 11164, 11167, 11168,
+			11169, 11170, 11171, 11172, 11175, 11176, 11181, 11189, 11190, 11191,
+			11192, 11194, 11195, 11197, 11198, 11199, 11200, 11201, 11202, 11208,
+			11209, 11210, 11216, 11219, 11220, 11221, 11222, 11229, 11230, 11231,
+			11232, 11233, 11234, 11237, 11238, 11239, 11240, 11241, 11246, 11247,
+			11248, 11253, 11254, 11255, 11256, 11264, 11265, 11266, 11268, 11269,
+			11270, 11271, 11272, 11274, 11275, 11276, 11277, 11280, 11281, 11282,
+			11283, 11284, 11285, 11286, 11289, 11290, 11291, 11298, 11299, 11302,
+			11304, 11305, 11306, 11309, 11310, 11311, 11319, 11320, 11321, 11322,
+			11323, 11324, 11325, 11327, 11328, 11329, 11330, 11331, 11335, 11336,
+			11341, 11347, 11348, 11349, 11355, 11356, 11357, 11358, 11359, 11360,
+			11361, 11373, 11374, 11375, 11376, 11377, 11383, 11384, 11385, 11390,
+			11391, 11392, 11393, 11397, 11403, 11404, 11405, 11408, 11409, 11410,
+			11417, 11423, 11424, 11425, 11426, 11427, 11428, 11433, 11434, 11444,
+			11448, 11449, 11450, 11451, 11453, 11455, 11456, 11462, 11463, 11464,
+			11465, 11467, 11468, 11472, 11478, 11479, 11481, 11482, 11483, 11490,
+			11491, 11492, 11493, 11494, 11495, 11496, 11497, 11498, 11499, 14627,
+			16700, 32902,
+		};
+		/**
+		 * IDSと同じ並びのベンダー名を改行で区切ってつなげたもの
+		 * 追加・削除する時はIDSとNAMESの同じ位置を変更すること
+		 */
+		private static final String NAMES =
+			"Atmel Corporation\n"
+			+ "Mitsumi\n"
+			+ "HP Inc.\n"
+			+ "Elitegroup Computer Systems\n"
+			+ "Xilinx Inc.\n"
+			+ "ALi Corporation\n"
+			+ "Future Technology Devices International Limited\n"
+			+ "Quanta Computer Inc.\n"
+			+ "NEC Corporation\n"
+			+ "Weltrend Semiconductor\n"
+			+ "VIA Technologies, Inc.\n"
+			+ "MCCI Corporation\n"
+			+ "BUFFALO INC.\n"
+			+ "Giga-Byte Technology Co., Ltd.\n"
+			+ "Nuvoton Technology Corp.\n"
+			+ "Creative Labs\n"
+			+ "Nokia Corporation\n"
+			+ "Microchip-SMSC\n"
+			+ "Cirrus Logic Inc.\n"
+			+ "Molex Inc.\n"
+			+ "Fujitsu Component Limited\n"
+			+ "Advanced Micro Devices\n"
+			+ "Lexmark International Inc.\n"
+			+ "Alps Electric Co., Ltd.\n"
+			+ "Texas Instruments\n"
+			+ "Renesas Electronics Corp.\n"
+			+ "Microsoft Corporation\n"
+			+ "Primax Electronics\n"
+			+ "EATON\n"
+			+ "Wieson Technologies Co., Ltd.\n"
+			+ "American Megatrends\n"
+			+ "Logitech Inc.\n"
+			+ "Plantronics, Inc.\n"
+			+ "Kyocera Corporation\n"
+			+ "STMicroelectronics\n"
+			+ "Foxconn / Hon Hai\n"
+			+ "ITE Tech Inc.\n"
+			+ "Yamaha Corporation\n"
+			+ "Hitachi, Ltd.\n"
+			+ "Visioneer\n"
+			+ "Canon Inc.\n"
+			+ "Nikon Corporation\n"
+			+ "Pan International\n"
+			+ "Cypress Semiconductor\n"
+			+ "ROHM Co., Ltd.\n"
+			+ "Compal Electronics, Inc.\n"
+			+ "Seiko Epson Corp.\n"
+			+ "I-O Data Device, Inc.\n"
+			+ "Fujitsu Ltd.\n"
+			+ "FUJIFILM Corporation\n"
+			+ "Mentor Graphics\n"
+			+ "Microchip Technology Inc.\n"
+			+ "Holtek Semiconductor, Inc.\n"
+			+ "Panasonic Corporation\n"
+			+ "Sharp Corporation\n"
+			+ "Exar Corporation\n"
+			+ "Identiv, Inc.\n"
+			+ "Samsung Electronics Co., Ltd.\n"
+			+ "Tokyo Electron Device Limited\n"
+			+ "Chicony Electronics Co., Ltd.\n"
+			+ "Newnex Technology Corp.\n"
+			+ "Brother Industries, Ltd.\n"
+			+ "SUNPLUS TECHNOLOGY CO., LTD.\n"
+			+ "PFU Limited\n"
+			+ "Fujikura/DDK\n"
+			+ "Acer, Inc.\n"
+			+ "Hosiden Corporation\n"
+			+ "Belkin International, Inc.\n"
+			+ "FCI Electronics\n"
+			+ "Longwell Electronics/Longwell Company\n"
+			+ "Star Micronics Co., LTD\n"
+			+ "American Power Conversion\n"
+			+ "ACON, Advanced-Connectek, Inc.\n"
+			+ "Synopsys, Inc.\n"
+			+ "Sony Corporation\n"
+			+ "Fuji Xerox Co., Ltd.\n"
+			+ "ATEN International Co. Ltd.\n"
+			+ "Cadence Design Systems, Inc.\n"
+			+ "WACOM Co., Ltd.\n"
+			+ "EIZO Corporation\n"
+			+ "Elecom Co., Ltd.\n"
+			+ "Conexant Systems, Inc.\n"
+			+ "BAFO/Quality Computer Accessories\n"
+			+ "Y-E Data, Inc.\n"
+			+ "AVM GmbH\n"
+			+ "Roland Corporation\n"
+			+ "RATOC Systems, Inc.\n"
+			+ "Infineon Technologies\n"
+			+ "Alcor Micro, Corp.\n"
+			+ "OMRON Corporation\n"
+			+ "Bose Corporation\n"
+			+ "OmniVision Technologies, Inc.\n"
+			+ "Apple\n"
+			+ "Y.C. Cable U.S.A., Inc\n"
+			+ "Tyco Electronics Corp., a TE Connectivity Ltd. company\n"
+			+ "MegaChips Corporation\n"
+			+ "Qualcomm, Inc\n"
+			+ "Foxlink/Cheng Uei Precision Industry Co., Ltd.\n"
+			+ "Ricoh Company Ltd.\n"
+			+ "Microtek International Inc.\n"
+			+ "Symbol Technologies\n"
+			+ "Genesys Logic, Inc.\n"
+			+ "Fuji Electric Co., Ltd.\n"
+			+ "Unixtar Technology Inc.\n"
+			+ "Datalogic ADC\n"
+			+ "LeCroy Corporation\n"
+			+ "Novatek Microelectronics Corp.\n"
+			+ "SMK Manufacturing Inc.\n"
+			+ "Joinsoon Electronics Mfg. Co., Ltd.\n"
+			+ "TransAct Technologies Incorporated\n"
+			+ "Seiko Instruments Inc.\n"
+			+ "JPC/MAIN SUPER Inc.\n"
+			+ "Sin Sheng Terminal & Machine Inc.\n"
+			+ "Chrontel, Inc.\n"
+			+ "Analog Devices, Inc. Development Tools\n"
+			+ "Ji-Haw Industrial Co., Ltd\n"
+			+ "Suyin Corporation\n"
+			+ "Space Shuttle Hi-Tech Co.,Ltd.\n"
+			+ "Glory Mark Electronic Ltd.\n"
+			+ "Tekcon Electronics Corp.\n"
+			+ "Sigma Designs, Inc.\n"
+			+ "Good Way Technology Co., Ltd. & GWC technology Inc\n"
+			+ "TSAY-E (BVI) International Inc.\n"
+			+ "Hamamatsu Photonics K.K.\n"
+			+ "Total Technologies, Ltd.\n"
+			+ "Prolific Technology, Inc.\n"
+			+ "Golden Bridge Electech Inc.\n"
+			+ "Tektronix, Inc.\n"
+			+ "Askey Computer Corporation\n"
+			+ "Greatland Electronics Taiwan Ltd.\n"
+			+ "Eurofins Digital Testing Belgium\n"
+			+ "Pixela Corporation\n"
+			+ "Oki Data Corporation\n"
+			+ "Leoco Corporation\n"
+			+ "Bizlink Technology, Inc.\n"
+			+ "SIIG, Inc.\n"
+			+ "Mitsubishi Electric Corporation\n"
+			+ "Heisei Technology Co., Ltd.\n"
+			+ "Oki Electric Industry Co., Ltd.\n"
+			+ "Comoss Electronic Co., Ltd.\n"
+			+ "Magic Control Technology Corp.\n"
+			+ "Imation Corp.\n"
+			+ "Sunix Co., Ltd.\n"
+			+ "Lorom Industrial Co., Ltd.\n"
+			+ "Mad Catz, Inc.\n"
+			+ "HID Global GmbH\n"
+			+ "Denso Corporation\n"
+			+ "Fairchild Semiconductor\n"
+			+ "SanDisk Corporation\n"
+			+ "Copartner Technology Corporation\n"
+			+ "National Technical Systems\n"
+			+ "Plustek, Inc.\n"
+			+ "OLYMPUS CORPORATION\n"
+			+ "TIME Interconnect Ltd.\n"
+			+ "AVerMedia Technologies, Inc.\n"
+			+ "Casio Computer Co., Ltd.\n"
+			+ "David Electronics Company, Ltd.\n"
+			+ "Century Corporation\n"
+			+ "Evermuch Technology Co., Ltd.\n"
+			+ "Action Star Enterprise Co., Ltd.\n"
+			+ "Argosy Research Inc.\n"
+			+ "Wipro Limited\n"
+			+ "MEC IMEX INC/HPT\n"
+			+ "Icron Technologies Corporation\n"
+			+ "TAI TWUN ENTERPRISE CO., LTD.\n"
+			+ "Pioneer Corporation\n"
+			+ "Gemalto SA\n"
+			+ "FARADAY Technology Corp.\n"
+			+ "Audio-Technica Corp.\n"
+			+ "Silicon Motion, Inc. - Taiwan\n"
+			+ "Garmin International\n"
+			+ "Toshiba Corporation\n"
+			+ "Pixart Imaging, Inc.\n"
+			+ "Plextor LLC\n"
+			+ "J.S.T. Mfg. Co., Ltd.\n"
+			+ "Kingston Technology Company\n"
+			+ "NVIDIA\n"
+			+ "Medialogic Corporation\n"
+			+ "Polycom, Inc.\n"
+			+ "Contech Research, Inc.\n"
+			+ "Lin Shiung Enterprise Co., Ltd.\n"
+			+ "Japan Cash Machine Co., Ltd.\n"
+			+ "NISCA Corporation\n"
+			+ "Electronics Testing Center, Taiwan\n"
+			+ "A-FOUR TECH CO., LTD.\n"
+			+ "Altera\n"
+			+ "Cambridge Silicon Radio Ltd.\n"
+			+ "HOYA Corporation\n"
+			+ "Hirose Electric Co., Ltd.\n"
+			+ "COMPUTEX Co., Ltd.\n"
+			+ "Mimaki Engineering Co., Ltd.\n"
+			+ "Broadcom Corp.\n"
+			+ "Green House Co., Ltd.\n"
+			+ "Japan Aviation Electronics Industry Ltd. (JAE)\n"
+			+ "Wincor Nixdorf GmbH & Co KG\n"
+			+ "Rohde & Schwarz GmbH & Co. KG\n"
+			+ "Allion Labs, Inc.\n"
+			+ "ASUSTek Computer Inc.\n"
+			+ "Yokogawa Electric Corporation\n"
+			+ "Pan-Asia Electronics Co., Ltd.\n"
+			+ "Musical Electronics Ltd.\n"
+			+ "Anritsu Corporation\n"
+			+ "Maxim Integrated Products\n"
+			+ "ASIX Electronics Corporation\n"
+			+ "O2Micro, Inc.\n"
+			+ "Seagate Technology LLC\n"
+			+ "Realtek Semiconductor Corp.\n"
+			+ "Ericsson AB\n"
+			+ "Elka International Ltd.\n"
+			+ "Pace Micro Technology PLC\n"
+			+ "Taiyo Yuden Co., Ltd.\n"
+			+ "Aeroflex\n"
+			+ "Radius Co., Ltd.\n"
+			+ "Sonix Technology Co., Ltd.\n"
+			+ "Billion Bright (HK) Corporation Limited\n"
+			+ "Dong Guan Shinko Wire Co., Ltd.\n"
+			+ "Chant Sincere Co., Ltd\n"
+			+ "Solid State System Co., Ltd.\n"
+			+ "Honda Tsushin Kogyo Co., Ltd\n"
+			+ "Motorola Solutions\n"
+			+ "Singatron Enterprise Co. Ltd.\n"
+			+ "emsys Embedded Systems GmbH\n"
+			+ "Z-Com INC.\n"
+			+ "e-CONN ELECTRONIC CO., LTD.\n"
+			+ "ENE Technology Inc.\n"
+			+ "NALTEC, Inc.\n"
+			+ "NF Corporation\n"
+			+ "Grape Systems Inc.\n"
+			+ "Volex (Asia) Pte Ltd\n"
+			+ "MEILU ELECTRONICS (SHENZHEN) CO., LTD.\n"
+			+ "Hirakawa Hewtech Corp.\n"
+			+ "Taiwan Line Tek Electronic Co., Ltd.\n"
+			+ "Dolby Laboratories Inc.\n"
+			+ "C-MEDIA ELECTRONICS INC.\n"
+			+ "Sure-Fire Electrical Corporation\n"
+			+ "IOGEAR, Inc.\n"
+			+ "Micro-Star International Co., Ltd.\n"
+			+ "Contek Electronics Co., Ltd.\n"
+			+ "Custom Engineering SPA\n"
+			+ "Smart Modular Technologies, Inc.\n"
+			+ "Shenzhen Bao Hing Electric Wire & Cable Mfr. Co.\n"
+			+ "Bourns, Inc.\n"
+			+ "Megawin Technology Co., Ltd.\n"
+			+ "Hsi-Chin Electronics Co., Ltd.\n"
+			+ "Ching Tai Electric Wire & Cable Co., Ltd.\n"
+			+ "Well Force Electronic Co., Ltd\n"
+			+ "MediaTek Inc.\n"
+			+ "CRU\n"
+			+ "Ours Technology Inc.\n"
+			+ "Y-S ELECTRONIC CO., LTD.\n"
+			+ "Sweetray Industrial Ltd.\n"
+			+ "Axell Corporation\n"
+			+ "InnoVISION Multimedia Limited\n"
+			+ "TaiSol Electronics Co., Ltd.\n"
+			+ "Sunrich Technology (H.K.) Ltd.\n"
+			+ "Funai Electric Co., Ltd.\n"
+			+ "IOI Technology Corporation\n"
+			+ "YFC-BonEagle Electric Co., Ltd.\n"
+			+ "Nien-Yi Industrial Corp.\n"
+			+ "WORLDWIDE CABLE OPTO CORP.\n"
+			+ "Taiyo Cable (Dongguan) Co. Ltd.\n"
+			+ "Kawai Musical Instruments Mfg. Co., Ltd.\n"
+			+ "GuangZhou Chief Tech Electronic Technology Co. Ltd.\n"
+			+ "UQUEST, LTD.\n"
+			+ "CviLux Corporation\n"
+			+ "Chief Land Electronic Co., Ltd.\n"
+			+ "Sony Mobile Communications\n"
+			+ "CHI SHING COMPUTER ACCESSORIES CO., LTD.\n"
+			+ "Speed Tech Corp.\n"
+			+ "LG Electronics Inc.\n"
+			+ "Apacer Technology Inc.\n"
+			+ "Newly Corporation\n"
+			+ "Targus Group International\n"
+			+ "AMCO TEC International Inc.\n"
+			+ "ON Semiconductor\n"
+			+ "Western Digital Technologies, Inc.\n"
+			+ "CANON ELECTRONICS INC.\n"
+			+ "Grand-tek Technology Co., Ltd.\n"
+			+ "Robert Bosch GmbH\n"
+			+ "Lotes Co., Ltd.\n"
+			+ "Cables To Go\n"
+			+ "Universal Global Scientific Industrial Co., Ltd.\n"
+			+ "Silicon Laboratories, Inc.\n"
+			+ "Kycon Inc.\n"
+			+ "Moxa Inc.\n"
+			+ "Golden Bright (Sichuan) Electronic Technology Co Ltd\n"
+			+ "VSO ELECTRONICS CO., LTD.\n"
+			+ "Master Hill Electric Wire and Cable Co., Ltd.\n"
+			+ "Santa Electronic Inc.\n"
+			+ "Sierra Wireless Inc.\n"
+			+ "GlobalMedia Group, LLC\n"
+			+ "ATECH FLASH TECHNOLOGY\n"
+			+ "SKYCABLE ENTERPRISE CO., LTD.\n"
+			+ "ADATA Technology Co., Ltd.\n"
+			+ "Aristocrat Technologies\n"
+			+ "Bel Stewart\n"
+			+ "MARVELL SEMICONDUCTOR, INC.\n"
+			+ "RISO KAGAKU CORP.\n"
+			+ "Zhejiang Xinya Electronic Technology Co., Ltd.\n"
+			+ "Huawei Technologies Co., Ltd.\n"
+			+ "Better Holdings (HK) Limited\n"
+			+ "Konica Minolta, Inc.\n"
+			+ "Jasco Products Company\n"
+			+ "Pericom Semiconductor Corp.\n"
+			+ "TomTom International B.V.\n"
+			+ "AzureWave Technologies, Inc.\n"
+			+ "Initio Corporation\n"
+			+ "Phison Electronics Corp.\n"
+			+ "Telechips, Inc.\n"
+			+ "ABILITY ENTERPRISE CO., LTD.\n"
+			+ "Leviton Manufacturing\n"
+			+ "Panstrong Company Ltd.\n"
+			+ "CTK Corporation\n"
+			+ "StarTech.com Ltd.\n"
+			+ "Ellisys\n"
+			+ "VeriSilicon Holdings Co., Ltd.\n"
+			+ "JMicron Technology Corp.\n"
+			+ "HLDS (Hitachi-LG Data Storage, Inc.)\n"
+			+ "Phihong Technology Co., Ltd.\n"
+			+ "PNY Technologies Inc.\n"
+			+ "Rapid Conn, Connect County Holdings Bhd\n"
+			+ "D & M Holdings, Inc.\n"
+			+ "Sunf Pu Technology Co., Ltd\n"
+			+ "ALLTOP TECHNOLOGY CO., LTD.\n"
+			+ "Palconn Technology Co., Ltd.\n"
+			+ "Kunshan Guoji Electronics Co., Ltd.\n"
+			+ "DongGuan Ya Lian Electronics Co., Ltd.\n"
+			+ "Samtec\n"
+			+ "HongLin Electronics Co., Ltd.\n"
+			+ "Total Phase\n"
+			+ "ZOOM Corporation\n"
+			+ "silex technology, Inc.\n"
+			+ "F. Hoffmann-La Roche AG\n"
+			+ "MQP Electronics Ltd.\n"
+			+ "ASMedia Technology Inc.\n"
+			+ "UD electronic corp.\n"
+			+ "Shenzhen Alex Connector Co., Ltd.\n"
+			+ "System Level Solutions, Inc.\n"
+			+ "Spreadtrum Hong Kong Limited\n"
+			+ "ShenZhen Litkconn Technology Co., Ltd.\n"
+			+ "Advanced Connection Technology Inc.\n"
+			+ "Hip Hing Cable & Plug Mfy. Ltd.\n"
+			+ "DisplayLink (UK) Ltd.\n"
+			+ "Lenovo\n"
+			+ "K.K. Rocky\n"
+			+ "Wanshih Electronic Co., Ltd.\n"
+			+ "Dongguan YuQiu Electronics Co., Ltd.\n"
+			+ "Gwo Jinn Industries Co., Ltd.\n"
+			+ "Linkiss Co., Ltd.\n"
+			+ "Google Inc.\n"
+			+ "Kuang Ying Computer Equipment Co., Ltd.\n"
+			+ "Nordic Semiconductor ASA\n"
+			+ "Shenzhen Xianhe Technology Co., Ltd.\n"
+			+ "Ningbo Broad Telecommunication Co., Ltd.\n"
+			+ "Irisguard UK Ltd\n"
+			+ "Lab126\n"
+			+ "Hyperstone GmbH\n"
+			+ "BIOS Corporation\n"
+			+ "Solomon Systech Limited\n"
+			+ "Pak Heng Technology (Shenzhen) Co., Ltd.\n"
+			+ "Best Buy China Ltd.\n"
+			+ "USB-IF non-workshop\n"
+			+ "Artesyn Technologies Inc.\n"
+			+ "TERMINUS TECHNOLOGY INC.\n"
+			+ "Global Unichip Corp.\n"
+			+ "Proconn Technology Co., Ltd.\n"
+			+ "Simula Technology Inc.\n"
+			+ "SGS Taiwan Ltd.\n"
+			+ "Johnson Component & Equipments Co., Ltd.\n"
+			+ "Allied Vision Technologies GmbH\n"
+			+ "Salcomp Plc\n"
+			+ "Desan Wire Co., Ltd.\n"
+			+ "MStar Semiconductor, Inc.\n"
+			+ "Plastron Precision Co., Ltd.\n"
+			+ "The Hong Kong Standards and Testing Centre Ltd.\n"
+			+ "ShenMing Electron (Dong Guan) Co., Ltd.\n"
+			+ "Vuzix Corporation\n"
+			+ "Ford Motor Co.\n"
+			+ "Contac Cable Industrial Limited\n"
+			+ "Sunplus Innovation Technology Inc.\n"
+			+ "Hangzhou Riyue Electronics Co., Ltd.\n"
+			+ "Orient Semiconductor Electronics, Ltd.\n"
+			+ "SHENZHEN DNS INDUSTRIES CO., LTD.\n"
+			+ "LS Mtron Ltd.\n"
+			+ "NONIN MEDICAL INC.\n"
+			+ "Philips & Lite-ON Digital Solutions Corporation\n"
+			+ "ASTRON INTERNATIONAL CORP.\n"
+			+ "ALPINE ELECTRONICS, INC.\n"
+			+ "Aces Electronics Co., Ltd.\n"
+			+ "OPEX CORPORATION\n"
+			+ "Telecommunications Technology Association (TTA)\n"
+			+ "Visteon Corporation\n"
+			+ "Horng Tong Enterprise Co., Ltd.\n"
+			+ "Pegatron Corporation\n"
+			+ "Fresco Logic Inc.\n"
+			+ "Walta Electronic Co., Ltd.\n"
+			+ "Yueqing Changling Electronic Instrument Corp., Ltd.\n"
+			+ "Parade Technologies, Inc.\n"
+			+ "L&T Technology Services\n"
+			+ "Actions Microelectronics Co., Ltd.\n"
+			+ "China Telecommunication Technology Labs - Terminals\n"
+			+ "SHEN ZHEN FORMAN PRECISION INDUSTRY CO., LTD.\n"
+			+ "GLOBEMASTER TECHNOLOGIES CO., LTD.\n"
+			+ "Point Grey Research Inc.\n"
+			+ "HUNG TA H.T.ENTERPRISE CO., LTD.\n"
+			+ "Etron Technology, Inc.\n"
+			+ "COMLINK ELECTRONICS CO., LTD.\n"
+			+ "HIBEST Electronic (DongGuan) Co., Ltd.\n"
+			+ "Other World Computing\n"
+			+ "WIN WIN PRECISION INDUSTRIAL CO., LTD.\n"
+			+ "Gefen Inc.\n"
+			+ "MOSER BAER INDIA LIMITED\n"
+			+ "AIRTIES WIRELESS NETWORKS\n"
+			+ "Astoria Networks GmbH\n"
+			+ "Scosche Industries\n"
+			+ "Cal-Comp Electronics & Communications\n"
+			+ "Analogix Semiconductor, Inc.\n"
+			+ "Amphenol ShouhMin Industry (ShenZhen) Co., Ltd\n"
+			+ "Chang Yang Electronics Company Ltd.\n"
+			+ "Dongguan Goldconn Electronics Co., Ltd.\n"
+			+ "Morning Star Industrial Co., Ltd.\n"
+			+ "Unify Software and Solutions GmbH & Co. KG\n"
+			+ "NXP Semiconductors\n"
+			+ "Changzhou Wujin BEST Electronic Cables Co., Ltd.\n"
+			+ "Belkin Electronic (Changzhou) Co., Ltd.\n"
+			+ "Freeport Resources Enterprises Corp.\n"
+			+ "Qingdao Haier Telecom Co., Ltd.\n"
+			+ "Shenzhen Tronixin Electronics Co., Ltd.\n"
+			+ "Unicorn Electronics Components Co., Ltd.\n"
+			+ "Luxshare-ICT\n"
+			+ "CE LINK LIMITED\n"
+			+ "Microconn Electronic Co., Ltd.\n"
+			+ "Shenzhen CARVE Electronics Co., Ltd.\n"
+			+ "BURY GmbH & Co. KG\n"
+			+ "FENGHUA KINGSUN CO., LTD.\n"
+			+ "Sumitomo Electric Ind., Ltd., Optical Comm. R&D Lab\n"
+			+ "XIMEA s.r.o.\n"
+			+ "VIA Labs, Inc.\n"
+			+ "Shenzhen Linoya Electronic Co., Ltd.\n"
+			+ "Amphenol AssembleTech (Xiamen) Co., Ltd.\n"
+			+ "Y Soft Corporation\n"
+			+ "JVC KENWOOD Corporation\n"
+			+ "Transcend Information, Inc.\n"
+			+ "TMC/Allion Test Labs\n"
+			+ "Genesis Technology USA, Inc.\n"
+			+ "Dongguan Teconn Electronics Technology Co., Ltd.\n"
+			+ "Netcom Technology (HK) Limited\n"
+			+ "Compupack Technology Co., Ltd.\n"
+			+ "G-Max Technology Co., Ltd.\n"
+			+ "Sagemcom Broadband SAS\n"
+			+ "Wuerth-Elektronik eiSos GmbH & Co. KG\n"
+			+ "Shin Shin Co., Ltd.\n"
+			+ "3eYamaichi Electronics Co., Ltd.\n"
+			+ "Wiretek International Investment Ltd.\n"
+			+ "Fuzhou Rockchip Electronics Co., Ltd.\n"
+			+ "Plugable Technologies\n"
+			+ "T-CONN PRECISION CORPORATION\n"
+			+ "Granite River Labs\n"
+			+ "Hotron Precision Electronic Ind. Corp.\n"
+			+ "Trigence Semiconductor, Inc.\n"
+			+ "Motorola Mobility Inc.\n"
+			+ "Karming Electronic (Shenzhen) Co., Ltd.\n"
+			+ "Avery Design Systems, Inc.\n"
+			+ "iKingdom Corp. (d.b.a. iConnectivity)\n"
+			+ "KangXiang Electronic Co., Ltd.\n"
+			+ "ZheJiang Chunsheng Electronics Co., Ltd.\n"
+			+ "DOK (HK) Trading Limited\n"
+			+ "Marunix Electron Limited\n"
+			+ "Avconn Precise Connector Co., Ltd.\n"
+			+ "BitifEye Digital Test Solutions GmbH\n"
+			+ "Speed Conn Co., Ltd.\n"
+			+ "INSIDE Secure\n"
+			+ "Minebea Co., Ltd.\n"
+			+ "BAANTO\n"
+			+ "Suzhou Jutze Technologies Co., Ltd\n"
+			+ "DONGGUAN SYNCONN PRECISION INDUSTRY CO. LTD.\n"
+			+ "Shenzhen Pangngai Industrial Co., Ltd.\n"
+			+ "Shenzhen Deren Electronic Co., Ltd.\n"
+			+ "Smith Micro Software, Inc.\n"
+			+ "ZEN FACTORY GROUP (ASIA) LTD.\n"
+			+ "Chain-In Electronic Co., Ltd.\n"
+			+ "SUZHOU KELI TECHNOLOGY DEVELOPMENT CO., LTD.\n"
+			+ "TOP Exactitude Industry (ShenZhen) Co., Ltd.\n"
+			+ "ShenZhen Hogend Precision Technology Co., Ltd.\n"
+			+ "Norel Systems Ltd.\n"
+			+ "ASSA ABLOY AB\n"
+			+ "DongGuan LongTao Electronic Co., Ltd.\n"
+			+ "DongGuan City MingJi Electronics Co., Ltd.\n"
+			+ "Weida Hi-Tech Co., Ltd.\n"
+			+ "Dongguan Wisechamp Electronic Co., Ltd.\n"
+			+ "Sequans Communications\n"
+			+ "ALGOLTEK, INC.\n"
+			+ "DongGuan Elinke Industrial Co., Ltd.\n"
+			+ "Corning Optical Communications LLC\n"
+			+ "Dongguan Jinyue Electronics Co., Ltd.\n"
+			+ "RICOH IMAGING COMPANY, LTD.\n"
+			+ "DongGuan HYX Industrial Co., Ltd.\n"
+			+ "Advanced Silicon SA\n"
+			+ "EISST Limited\n"
+			+ "YTOP Electronics Technical (Kunshan) Co., Ltd.\n"
+			+ "Innovative Logic\n"
+			+ "GoPro\n"
+			+ "Basler AG\n"
+			+ "Palpilot International Corp.\n"
+			+ "UNIREX CORPORATION\n"
+			+ "Integral Memory Plc.\n"
+			+ "Morning Star Digital Connector Co., Ltd.\n"
+			+ "MITACHI CO., LTD.\n"
+			+ "HGST, a Western Digital Company\n"
+			+ "YUEN DA ELECTRONIC PRODUCTS FACTORY\n"
+			+ "Gionee Communication Equipment Co., Ltd. ShenZhen\n"
+			+ "Universal Electronics Inc. (dba: TVIEW)\n"
+			+ "M31 Technology Corp.\n"
+			+ "Liteconn Co., Ltd.\n"
+			+ "Suzhou WEIJU Electronics Technology Co., Ltd.\n"
+			+ "Mondokey Limited\n"
+			+ "Advantest Corporation\n"
+			+ "iRobot Corporation\n"
+			+ "Sibridge Tech.\n"
+			+ "Dongguan Jiumutong Industry Co., Ltd.\n"
+			+ "Power Integrations\n"
+			+ "Oculus VR, Inc.\n"
+			+ "HIGH TEK HARNESS ENTERPRISE CO., LTD.\n"
+			+ "Full in Hope Co., Ltd.\n"
+			+ "Viconn Technology (HK) Co., Ltd.\n"
+			+ "Seeed Technology Co., Ltd.\n"
+			+ "Specwerkz\n"
+			+ "Esselte Leitz GmbH & Co. KG\n"
+			+ "E-SEEK Inc.\n"
+			+ "Pleora Technologies Inc.\n"
+			+ "Vitetech Int'l Co., Ltd.\n"
+			+ "Changzhou Shi Wujin Miqi East Electronic Co., Ltd.\n"
+			+ "Shenzhen Ourconn Technology Co., Ltd.\n"
+			+ "G.SKILL Int'l Enterprice Co., Ltd.\n"
+			+ "Surplus Electronic Technology Co., Ltd.\n"
+			+ "BIAMP SYSTEMS\n"
+			+ "IBCONN Technologies (Shenzhen) Co., Ltd.\n"
+			+ "Fugoo Inc.\n"
+			+ "Pan Xin Precision Electronics Co., Ltd.\n"
+			+ "Dongguan Digi-in Digital Technology Co., Ltd.\n"
+			+ "GENUSION, Inc.\n"
+			+ "Ineda Systems Inc.\n"
+			+ "Jolla Ltd.\n"
+			+ "Peraso Technologies, Inc.\n"
+			+ "Nanjing Magewell Electronics Co., Ltd.\n"
+			+ "Shenzhen Yiwanda Electronics Co., Ltd.\n"
+			+ "Dollar Connection Ltd.\n"
+			+ "BIO-key International, Inc.\n"
+			+ "Xacti Corporation\n"
+			+ "Shenzhen Zowee Technology Co., Ltd.\n"
+			+ "ADPlaus Technology Limited\n"
+			+ "Unwired Technology\n"
+			+ "Union Electric Plug & Connector Corp.\n"
+			+ "Canova Tech\n"
+			+ "Silicon Works\n"
+			+ "HANRICO ANFU ELECTRONICS CO., LTD.\n"
+			+ "Kodak Alaris\n"
+			+ "JGR Optics Inc.\n"
+			+ "Richtek Technology Corporation\n"
+			+ "Binatone Electronics Int. Ltd.\n"
+			+ "Shenzhen iBoard Technology Co., Ltd.\n"
+			+ "SMIT(HK) Limited\n"
+			+ "Dongguan Kechenda Electronic Technology Co., Ltd.\n"
+			+ "Fengshun Peiying Electro-Acoustic Co., Ltd.\n"
+			+ "MD ELEKTRONIK GmbH\n"
+			+ "Bad Elf, LLC\n"
+			+ "Vreo Limited\n"
+			+ "Kanex\n"
+			+ "Oxford Nanopore Technologies\n"
+			+ "Obsidian Technology\n"
+			+ "Lucent Trans Electronics Co., Ltd.\n"
+			+ "GUOGUANG GROUP CO., LTD.\n"
+			+ "CNPLUS\n"
+			+ "Fourstar Group\n"
+			+ "Tragant International Co., Ltd.\n"
+			+ "DongGuan LianGang Optoelectronic Technology Co., Ltd.\n"
+			+ "Atrust Computer Corp.\n"
+			+ "VIA Alliance Semiconductor Co., Ltd.\n"
+			+ "BSUN Electronics Co., Ltd.\n"
+			+ "RTD Embedded Technologies, Inc.\n"
+			+ "Shenzhen Choseal Industrial Co., Ltd.\n"
+			+ "Canyon Semiconductor\n"
+			+ "Spectra7 Microsystems Corp.\n"
+			+ "Meizu Technology Co., Ltd.\n"
+			+ "Hubei Yingtong Telecommunication Cable Inc.\n"
+			+ "Wilder Technologies\n"
+			+ "Diodes Inc.\n"
+			+ "DuPont\n"
+			+ "Zhejiang Songcheng Electronics Co., Ltd.\n"
+			+ "VSN Mobil\n"
+			+ "Bellwether Electronic Corp.\n"
+			+ "VAIO Corporation\n"
+			+ "Perixx Computer GmbH\n"
+			+ "HANK ELECTRONICS CO., LTD\n"
+			+ "Sonnet Technologies, Inc.\n"
+			+ "Keysight Technologies Inc.\n"
+			+ "Manutronics Vietnam Joint Stock Company\n"
+			+ "G2 Touch Co., Ltd.\n"
+			+ "Micromax Informatics Ltd\n"
+			+ "SEIKO SOLUTIONS Inc.\n"
+			+ "Casco Products Corp.\n"
+			+ "Virtium Technology, Inc.\n"
+			+ "Field and Company LLC, dba Leef USA\n"
+			+ "GM Global Technology Operations LLC\n"
+			+ "Key Asic Inc.\n"
+			+ "Revolabs, Inc.\n"
+			+ "Lattice Semiconductor Corp\n"
+			+ "Foshan Nanhai Saga Audio Equipment Co., Ltd.\n"
+			+ "Silergy Corp.\n"
+			+ "Shenzhen Hali-Power Industrial Co., Ltd.\n"
+			+ "I-PEX (Dai-ichi Seiko)\n"
+			+ "SEE-PLUS INDUSTRIAL LTD.\n"
+			+ "Adapt-IP Company\n"
+			+ "Libratone A/S\n"
+			+ "Shenzhen Hazens Automotive Electronics (SZ) Co., Ltd.\n"
+			+ "Jiangsu Toppower Automotive Electronics Co., Ltd.\n"
+			+ "Drapho Electronics Technology Co., Ltd.\n"
+			+ "Le Shi Zhi Xin Electronic Technology (Tian Jin) Limited\n"
+			+ "Cardiac Insight, Inc.\n"
+			+ "EverPro Technologies Company, Ltd.\n"
+			+ "Rosenberger Hochfrequenztechnik\n"
+			+ "Dongguan City Sanji Electronics Co., Ltd.\n"
+			+ "Lintes Technology Co., Ltd.\n"
+			+ "KinnexA, Inc.\n"
+			+ "Metra Electronics Corp.\n"
+			+ "KeepKey, LLC\n"
+			+ "FluxData Incorporated\n"
+			+ "Assem Technology Co., Ltd.\n"
+			+ "Dongguan City Jianghan Electronics Co., Ltd.\n"
+			+ "Huizhou Desay SV Automotive Co., Ltd.\n"
+			+ "Ningbo Rixing Electronics Co., Ltd.\n"
+			+ "GuangDong YuanFeng Automotive Electroics Co., Ltd.\n"
+			+ "Sounding Audio Industrial Limited\n"
+			+ "Yueqing Huaxin Electronic Co., Ltd.\n"
+			+ "Universal Audio, Inc.\n"
+			+ "Lifesize, Inc.\n"
+			+ "Pioneer DJ Corporation\n"
+			+ "Embedded Intelligence, Inc.\n"
+			+ "New Matter\n"
+			+ "Shanghai Wingtech Electronic Technology Co., Ltd.\n"
+			+ "Epiphan Systems Inc.\n"
+			+ "Spin Master Far East Ltd.\n"
+			+ "Gigaset Digital Technology (Shenzhen) Co., Ltd.\n"
+			+ "Noveltek Semiconductor Corp.\n"
+			+ "Silicon Line GmbH\n"
+			+ "Ever Win International Corp.\n"
+			+ "Socionext Inc.\n"
+			+ "Ugreen Group Limited\n"
+			+ "Shanghai Pateo Electronic Equipment Mfg. Co., Ltd.\n"
+			+ "i-BLADES, Inc.\n"
+			+ "Altia Systems Inc.\n"
+			+ "ShenZhen Baoyuanda Electronics Co., Ltd.\n"
+			+ "iST - Integrated Service Technology Inc.\n"
+			+ "HYUNDAI MOBIS Co., Ltd.\n"
+			+ "360fly, Inc.\n"
+			+ "HUIZHOU CHENG SHUO HARDWARE PLASTIC CO., LTD.\n"
+			+ "Zhongshan Aute Electronics Technology Co., Ltd.\n"
+			+ "Guangdong King Link Industrial Co., Ltd.\n"
+			+ "Scietera Technologies, Inc.\n"
+			+ "InVue Security Products\n"
+			+ "I-Sheng Electric Wire & Cable Co., Ltd.\n"
+			+ "China Daheng Group Inc Beijing Image Vision Tech Branch\n"
+			+ "Shenzhen FeiTianXia Technology Ltd.\n"
+			+ "Shenzhen HengJia New Energy Auto Part Co., Ltd.\n"
+			+ "77 Elektronika Kft.\n"
+			+ "YUDU EASON ELECTRONIC CO., LTD.\n"
+			+ "XIN JI (SHENZHEN) COMPUTER PARTS CO., LTD.\n"
+			+ "Silk ID Systems\n"
+			+ "3D Imaging & Simulations Corp. (3DISC)\n"
+			+ "Dongguan ChengXiang Industrial Co., Ltd.\n"
+			+ "OCC (Zhuhai) Electronic Co., Ltd.\n"
+			+ "Sinseader Electronic Co., Ltd.\n"
+			+ "DONGGUAN YELLOWKNIFE Industrial Co., Ltd.\n"
+			+ "RF Creations Ltd.\n"
+			+ "Chengyi Semiconductors (Shanghai) Co., Ltd.\n"
+			+ "Shenzhen Shinning Electronic Co., Ltd.\n"
+			+ "Shenzhen WFD Electronics Co., Ltd.\n"
+			+ "Dongguan Sino Syncs Industrial Co., Ltd.\n"
+			+ "JNTC Co., Ltd.\n"
+			+ "DONGGUAN POLIXIN ELECTRIC CO., LTD.\n"
+			+ "Tama Electric (Suzhou) Co., Ltd.\n"
+			+ "Exvision, Inc.\n"
+			+ "mophie, LLC\n"
+			+ "Dongguan ULT-unite electronic technology co., LTD\n"
+			+ "JL Audio, Inc.\n"
+			+ "Cable Matters Inc.\n"
+			+ "CoroWare, Inc.\n"
+			+ "Charm Sciences Inc.\n"
+			+ "Pickering Interfaces Limited\n"
+			+ "Hangzhou Hikvision Digital Technology Co., Ltd.\n"
+			+ "FULLINK ELECTRONICS TECHNOLOGY (SZ) LTD\n"
+			+ "AutoChips Inc.\n"
+			+ "Electric Connector Technology Co., Ltd.\n"
+			+ "LELTEK\n"
+			+ "Dongguan KaiWin Electronics Co., Ltd.\n"
+			+ "BEFS Co., Ltd.\n"
+			+ "Archisite, Inc.\n"
+			+ "Magneti Marelli S.p.A Electr BL\n"
+			+ "Ventev Mobile\n"
+			+ "Quanta Storage Inc.\n"
+			+ "Tech-Top Technology Limited\n"
+			+ "Shenzhen YOOBAO Technology Co., Ltd.\n"
+			+ "Shenzhen Sinotek Technology Co., Ltd.\n"
+			+ "KEYW\n"
+			+ "Visual Land Inc.\n"
+			+ "MEEM SL Ltd\n"
+			+ "Dongguan Arin Electronics Technology Co., Ltd.\n"
+			+ "DongGuan City JianNuo Electronics Co., Ltd.\n"
+			+ "Shenzhen XOX Electronics Co., Ltd.\n"
+			+ "Protop International Inc.\n"
+			+ "Microsemi Semiconductor (US) Inc.\n"
+			+ "Webcloak LLC\n"
+			+ "INVECAS INC.\n"
+			+ "ATANS Technology Inc.\n"
+			+ "Triple Win Precision Technology Co., Ltd.\n"
+			+ "IC Realtech\n"
+			+ "Embrava Pty Ltd\n"
+			+ "Sinotronics Co., Ltd.\n"
+			+ "ALLBEST ELECTRONICS TECHNOLOGY CO., LTD.\n"
+			+ "Shenzhen Xin Kai Feng Electronics Factory\n"
+			+ "MOST WELL Technology Corp.\n"
+			+ "Buffalo Memory Co., Ltd.\n"
+			+ "Xentris Wireless\n"
+			+ "Priferential Accessories Ltd\n"
+			+ "Sunlike Technology Co., Ltd.\n"
+			+ "Young Fast Optoelectronics Co., Ltd.\n"
+			+ "ISAW Camera Inc\n"
+			+ "Qanba USA, LLC\n"
+			+ "Super Micro Computer Inc.\n"
+			+ "Micromax International Corporation\n"
+			+ "Granite River Labs Japan Ltd.\n"
+			+ "Coagent Enterprise Limited\n"
+			+ "LEIA Inc.\n"
+			+ "Shenzhen Ebull Technology Limited\n"
+			+ "Hualun Technology Co., Ltd.\n"
+			+ "Sensel, Inc.\n"
+			+ "Shenzhen Adition Audio Science & Technology Co., Ltd.\n"
+			+ "Goldenconn Electronics Technology (Suzhou) Co., Ltd.\n"
+			+ "JIB Electronics Technology Co., Ltd.\n"
+			+ "Changzhou Shinco Automotive Electronics Co., Ltd.\n"
+			+ "Shenzhen Hangsheng Electronics Corp., Ltd.\n"
+			+ "Beartooth Radio, Inc.\n"
+			+ "Audience, A Knowles Company\n"
+			+ "Nextbit Systems, Inc.\n"
+			+ "Leadtrend\n"
+			+ "Adaptertek Technology Co., Ltd.\n"
+			+ "Feature Integration Technology Inc.\n"
+			+ "Avegant Corporation\n"
+			+ "Chunghsin International Electronics Co., Ltd.\n"
+			+ "Delphi Electrical Centers (Shanghai) Co., Ltd.\n"
+			+ "VVETEK DOO\n"
+			+ "Huizhou Foryou General Electronics Co., Ltd.\n"
+			+ "LifeWatch Technologies Ltd.\n"
+			+ "Magicleap\n"
+			+ "Dongguan City Shenglan Electronics Co., LTD.\n"
+			+ "Neusoft Corporation\n"
+			+ "SIP Simya Electronics Technology Co., Ltd.\n"
+			+ "GNSD Automotive Co., Ltd.\n"
+			+ "YOODS Co., Ltd.\n"
+			+ "Sirin Mobile Technologies AG\n"
+			+ "Jadmam Corporation dba: Boytone\n"
+			+ "Gibson Innovations\n"
+			+ "Shen Zhen Xian Shuo Technology Co. LTD\n"
+			+ "PST Eletronica LTDA\n"
+			+ "PERI, Inc.\n"
+			+ "Bozhou BoTong Information Technology Co., Ltd.\n"
+			+ "Profindustry GmbH\n"
+			+ "BRAGI GmbH\n"
+			+ "WAWGD, Inc. (DBA: Foresight Sports)\n"
+			+ "Dongguan Allpass Electronic Co., Ltd.\n"
+			+ "SHENZHEN D-VITEC INDUSTRIAL CO., LTD.\n"
+			+ "motomobile AG\n"
+			+ "Indie Semiconductor\n"
+			+ "Audientes\n"
+			+ "Huizhou Dehong Technology Co., Ltd.\n"
+			+ "PowerCenter Technology Limited\n"
+			+ "Mizco International, Inc.\n"
+			+ "I. AM. PLUS, LLC\n"
+			+ "Corigine, Inc.\n"
+			+ "Ningbo Yinzhou Shengke Electronics Co., Ltd.\n"
+			+ "Prusa Research s.r.o.\n"
+			+ "e-Smart Systems Pvt. Ltd.\n"
+			+ "Leagtech Jiangxi Electronic Co., Ltd.\n"
+			+ "Dongguan Yujia Electronics Technology Co., Ltd.\n"
+			+ "GuangZhou MingPing Electronics Technology\n"
+			+ "DJI Technology Co., Ltd.\n"
+			+ "Shenzhen Alex Technology Co., Ltd.\n"
+			+ "JITS TECHNOLOGY CO., LIMITED\n"
+			+ "LIVV Brand llc\n"
+			+ "Ava Enterprises, Inc. dba: Boss Audio Systems\n"
+			+ "Shenzhen Sydixon Electronic Technology Co., Ltd.\n"
+			+ "On-Bright Electronics (Shanghai) Co., Ltd.\n"
+			+ "Dongguan Puxu Industrial Co., Ltd.\n"
+			+ "Shenzhen Soling Indusrtial Co., Ltd.\n"
+			+ "EGGCYTE, INC.\n"
+			+ "Donggguan Yuhua Electronic Co., Ltd.\n"
+			+ "Hangzhou Zero Zero Technology Co., Ltd.\n"
+			+ "Prodigy Technovations Pvt Ltd\n"
+			+ "EmergiTech, Inc\n"
+			+ "Hewlett Packard Enterprise\n"
+			+ "Monolithic Power Systems Inc.\n"
+			+ "USB Memory Direct\n"
+			+ "Silicon Mitus Inc.\n"
+			+ "Technics Global Electronics & JCE Co., Ltd.\n"
+			+ "Immersive Media\n"
+			+ "Cosemi Technologies Inc.\n"
+			+ "Cambrionix Ltd\n"
+			+ "CXUN Co. Ltd.\n"
+			+ "China Tsp Inc\n"
+			+ "Yanfeng Visteon (Chongqing) Automotive Electronics Co\n"
+			+ "Alcorlink Corp.\n"
+			+ "ISBC Ltd.\n"
+			+ "InX8 Inc dba: AKiTiO\n"
+			+ "SDAN Tecchnology Co., Ltd.\n"
+			+ "Lemobile Information Technology (Beijing) Co., Ltd.\n"
+			+ "GongGuan HWX Electronic Technology Co., Ltd.\n"
+			+ "Suzhu Jingshi Electronic Technology Co., Ltd.\n"
+			+ "Zhong Shan City Richsound Electronic Industrial Ltd.\n"
+			+ "Dongguang Kangbang Electronics Co., Ltd.\n"
+			+ "National Instruments\n"
+			+ "Dell Inc.\n"
+			+ "Intel Corporation\n";
+		/** NAMES内の各ベンダー名の開始位置, 末尾にNAMESの長さを追加 */
+		private static final int[] OFFSETS;
+
+		static {
+			// 初期化中のクラスの静的フィールドへのアクセスはインタープリタで遅いのでローカル変数で処理する
+			final String names = NAMES;
+			final int n = IDS.length;
+			final int[] offsets = new int[n + 1];
+			int pos = 0;
+			for (int i = 0; i < n; i++) {
+				offsets[i] = pos;
+				pos = names.indexOf('\n', pos) + 1;
+			}
+			offsets[n] = pos;
+			OFFSETS = offsets;
+		}
+
+		private static String find(final int vendor_id) {
+			final int ix = Arrays.binarySearch(IDS, vendor_id);
+			if (ix < 0) return null;
+			return NAMES.substring(OFFSETS[ix], OFFSETS[ix + 1] - 1);
+		}
 	}
 }
@@ -32,10 +32,6 @@ import android.view.SurfaceHolder;
 
 import com.serenegiant.usb.USBMonitor.UsbControlBlock;
 
-import org.json.JSONArray;
-import org.json.JSONException;
-import org.json.JSONObject;
-
 import java.util.ArrayList;
 import java.util.List;
 
@@ -132,6 +128,7 @@ public class UVCCamera {
   protected int mCurrentWidth = DEFAULT_PREVIEW_WIDTH, mCurrentHeight = DEFAULT_PREVIEW_HEIGHT;
   protected float mCurrentBandwidthFactor = DEFAULT_BANDWIDTH;
   protected String mSupportedSize;
+  protected SupportedSizeIndex mSupportedSizeIndex;
   protected List<Size> mCurrentSizeList;
   // these fields from here are accessed from native code and do not change name and remove
   protected long mNativePtr;
@@ -209,6 +206,8 @@ public class UVCCamera {
     if (mNativePtr != 0 && TextUtils.isEmpty(mSupportedSize)) {
       mSupportedSize = nativeGetSupportedSize(mNativePtr);
     }
+    // descriptors do not change while opened, parse them only once
+    mSupportedSizeIndex = SupportedSizeIndex.parse(mSupportedSize);
     nativeSetPreviewSize(mNativePtr, DEFAULT_PREVIEW_WIDTH, DEFAULT_PREVIEW_HEIGHT,
         DEFAULT_PREVIEW_MIN_FPS, DEFAULT_PREVIEW_MAX_FPS, DEFAULT_PREVIEW_MODE, DEFAULT_BANDWIDTH);
   }
@@ -252,6 +251,7 @@ public class UVCCamera {
     mCurrentFrameFormat = -1;
     mCurrentBandwidthFactor = 0;
     mSupportedSize = null;
+    mSupportedSizeIndex = null;
     mCurrentSizeList = null;
     if (DEBUG) Log.v(TAG, "close:finished");
   }
@@ -272,6 +272,32 @@ public class UVCCamera {
     return !TextUtils.isEmpty(mSupportedSize) ? mSupportedSize : (mSupportedSize = nativeGetSupportedSize(mNativePtr));
   }
 
+  /**
+   * index of the supported sizes that is built once on #open
+   *
+   * @return
+   */
+  public synchronized SupportedSizeIndex getSupportedSizeIndex() {
+    if (mSupportedSizeIndex == null) {
+      mSupportedSizeIndex = SupportedSizeIndex.parse(getSupportedSize());
+    }
+    return mSupportedSizeIndex;
+  }
+
+  /**
+   * select the supported mode that fits the target best without calling setPreviewSize
+   *
+   * @param targetW
+   * @param targetH
+   * @param fps
+   * @param maxBandwidth maximum estimated bytes per second, 0 or negative for no limit
+   * @return null if no mode fits
+   * @see SupportedSizeIndex#selectBestMode(int, int, int, long)
+   */
+  public SupportedSizeIndex.Mode selectBestMode(final int targetW, final int targetH, final int fps, final long maxBandwidth) {
+    return getSupportedSizeIndex().selectBestMode(targetW, targetH, fps, maxBandwidth);
+  }
+
   public Size getPreviewSize() {
     Size result = null;
     final List<Size> list = getSupportedSizeList();
@@ -341,45 +367,30 @@ public class UVCCamera {
       mCurrentBandwidthFactor = bandwidthFactor;
     }
   }
-
-  public List<Size> getSupportedSizeList() {
-    final int type = (mCurrentFrameFormat > 0) ? 6 : 4;
-    return getSupportedSize(type, mSupportedSize);
+  /**
+   * Set preview size and preview mode that was selected by #selectBestMode
+   *
+   * @param mode
+   * @param bandwidthFactor
+   */
+  public void setPreviewMode(final SupportedSizeIndex.Mode mode, final float bandwidthFactor) {
+    setPreviewSize(mode.width, mode.height, DEFAULT_PREVIEW_MIN_FPS, mode.fps, mode.frameFormat, bandwidthFactor);
   }
 
-  public static List<Size> getSupportedSize(final int type, final String supportedSize) {
-    final List<Size> result = new ArrayList<Size>();
-    if (!TextUtils.isEmpty(supportedSize))
-      try {
-        final JSONObject json = new JSONObject(supportedSize);
-        final JSONArray formats = json.getJSONArray("formats");
-        final int format_nums = formats.length();
-        for (int i = 0; i < format_nums; i++) {
-          final JSONObject format = formats.getJSONObject(i);
-          if (format.has("type") && format.has("size")) {
-            final int format_type = format.getInt("type");
-            if ((format_type == type) || (type == -1)) {
-              addSize(format, format_type, 0, result);
-            }
-          }
-        }
-      } catch (final JSONException e) {
-        e.printStackTrace();
-      }
+
+  public List<Size> getSupportedSizeList() {
+    final List<Size> sizes = getSupportedSizeIndex().getSizes(
+        mCurrentFrameFormat > 0 ? FRAME_FORMAT_MJPEG : FRAME_FORMAT_YUYV);
+    // copy so that callers can modify them as before
+    final List<Size> result = new ArrayList<Size>(sizes.size());
+    for (final Size sz : sizes) {
+      result.add(new Size(sz));
+    }
     return result;
   }
 
-  private static final void addSize(final JSONObject format, final int formatType, final int frameType, final List<Size> size_list) throws JSONException {
-    final JSONArray size = format.getJSONArray("size");
-    final int size_nums = size.length();
-    for (int j = 0; j < size_nums; j++) {
-      final String[] sz = size.getString(j).split("x");
-      try {
-        size_list.add(new Size(formatType, frameType, j, Integer.parseInt(sz[0]), Integer.parseInt(sz[1])));
-      } catch (final Exception e) {
-        break;
-      }
-    }
+  public static List<Size> getSupportedSize(final int type, final String supportedSize) {
+    return SupportedSizeParser.parse(type, supportedSize);
   }
 
   /**
@@ -34,8 +34,10 @@ import android.view.Surface;
 import android.view.SurfaceHolder;
 
 import com.serenegiant.usb.IFrameCallback;
+import com.serenegiant.usb.SupportedSizeIndex;
 import com.serenegiant.usb.USBMonitor;
 import com.serenegiant.usb.UVCCamera;
+import com.serenegiant.utils.FramePool;
 import com.serenegiant.widget.CameraViewInterface;
 
 import java.lang.ref.WeakReference;
@@ -61,6 +63,10 @@ abstract class AbstractUVCCameraHandler extends Handler {
 
     public void onError(final Exception e);
 
+    /**
+     * @param data pooled frame buffer, this is only valid while this method is executing.
+     *             copy it if you need to keep its content after returning.
+     */
     public void onFrame(byte[] data, int width, int height);
   }
 
@@ -288,6 +294,10 @@ abstract class AbstractUVCCameraHandler extends Handler {
 
   static final class CameraThread extends Thread {
     private static final String TAG_THREAD = "CameraThread";
+    /**
+     * latest frame + frame that is being received + frame that is being dispatched to callbacks
+     */
+    private static final int MAX_POOLED_FRAMES = 3;
     private final Object mSync = new Object();
     private final Class<? extends AbstractUVCCameraHandler> mHandlerClass;
     private final WeakReference<Activity> mWeakParent;
@@ -328,7 +338,11 @@ abstract class AbstractUVCCameraHandler extends Handler {
       mWeakCameraView = new WeakReference<CameraViewInterface>(cameraView);
     }
 
-    private byte[] mYuvBytes;
+    private final FramePool mFramePool = new FramePool(MAX_POOLED_FRAMES, 0);
+    /**
+     * latest frame, guarded by mFramePool
+     */
+    private FramePool.Frame mCurrentFrame;
 
     @Override
     protected void finalize() throws Throwable {
@@ -417,16 +431,17 @@ abstract class AbstractUVCCameraHandler extends Handler {
     public void handleStartPreview(final Object surface) {
       if (DEBUG) Log.v(TAG_THREAD, "handleStartPreview:");
       if ((mUVCCamera == null) || mIsPreviewing) return;
+      int previewMode = mPreviewMode;
+      final SupportedSizeIndex index = mUVCCamera.getSupportedSizeIndex();
+      if (!index.isEmpty() && !index.contains(previewMode, mWidth, mHeight)) {
+        // fallback to YUV mode
+        previewMode = UVCCamera.DEFAULT_PREVIEW_MODE;
+      }
       try {
-        mUVCCamera.setPreviewSize(mWidth, mHeight, 1, 31, mPreviewMode, mBandwidthFactor);
+        mUVCCamera.setPreviewSize(mWidth, mHeight, 1, 31, previewMode, mBandwidthFactor);
       } catch (final IllegalArgumentException e) {
-        try {
-          // fallback to YUV mode
-          mUVCCamera.setPreviewSize(mWidth, mHeight, 1, 31, UVCCamera.DEFAULT_PREVIEW_MODE, mBandwidthFactor);
-        } catch (final IllegalArgumentException e1) {
-          callOnError(e1);
-          return;
-        }
+        callOnError(e);
+        return;
       }
       if (surface instanceof SurfaceHolder) {
         mUVCCamera.setPreviewDisplay((SurfaceHolder) surface);
@@ -455,6 +470,7 @@ abstract class AbstractUVCCameraHandler extends Handler {
           mIsPreviewing = false;
           mSync.notifyAll();
         }
+        setCurrentFrame(null);
         callOnStopPreview();
       }
       if (DEBUG) Log.v(TAG_THREAD, "handleStopPreview:finished");
@@ -463,25 +479,60 @@ abstract class AbstractUVCCameraHandler extends Handler {
     public void handleStopRecording() {
     }
 
+    /**
+     * @return copy of the latest frame, null if not previewing
+     */
     public byte[] getFrameBytes() {
-      if (DEBUG) Log.v(TAG_THREAD, "handleStopPreview:");
+      if (DEBUG) Log.v(TAG_THREAD, "getFrameBytes:");
       if (mIsPreviewing) {
         if (mUVCCamera != null) {
-          return mYuvBytes;
+          final FramePool.Frame frame = acquireCurrentFrame();
+          if (frame != null) {
+            try {
+              final byte[] result = new byte[frame.size];
+              System.arraycopy(frame.data, 0, result, 0, frame.size);
+              return result;
+            } finally {
+              frame.release();
+            }
+          }
         }
       }
       return null;
     }
 
+    public FramePool getFramePool() {
+      return mFramePool;
+    }
+
+    /**
+     * @return latest frame with an additional reference, caller should release it
+     */
+    private FramePool.Frame acquireCurrentFrame() {
+      synchronized (mFramePool) {
+        return mCurrentFrame != null ? mCurrentFrame.retain() : null;
+      }
+    }
+
+    private void setCurrentFrame(final FramePool.Frame frame) {
+      final FramePool.Frame prev;
+      synchronized (mFramePool) {
+        prev = mCurrentFrame;
+        mCurrentFrame = frame;
+      }
+      if (prev != null) {
+        prev.release();
+      }
+    }
+
     private final IFrameCallback mIFrameCallback = new IFrameCallback() {
       @Override
       public void onFrame(final ByteBuffer frame) {
-        byte[] arrayOfByte;
-        if (frame.limit() > 0) {
-          arrayOfByte = new byte[frame.limit()];
-          frame.get(arrayOfByte);
-          mYuvBytes = arrayOfByte;
+        final FramePool.Frame pooled = mFramePool.copyFrom(frame);
+        if (pooled != null) {
+          setCurrentFrame(pooled);
         }
+        // otherwise all buffers are in use and keep the previous frame
       }
     };
 
@@ -489,6 +540,8 @@ abstract class AbstractUVCCameraHandler extends Handler {
       if (DEBUG) Log.v(TAG_THREAD, "handleRelease:mIsRecording=");
       handleClose();
       mCallbacks.clear();
+      setCurrentFrame(null);
+      mFramePool.clear();
       mHandler.mReleased = true;
       Looper.myLooper().quit();
       if (DEBUG) Log.v(TAG_THREAD, "handleRelease:finished");
@@ -584,13 +637,19 @@ abstract class AbstractUVCCameraHandler extends Handler {
 
     private void callOnFrame() {
       if ((mUVCCamera == null) || !mIsPreviewing) return;
-      for (final CameraCallback callback : mCallbacks) {
-        try {
-          callback.onFrame(mYuvBytes, getWidth(), getHeight());
-        } catch (final Exception e1) {
-          mCallbacks.remove(callback);
-          Log.w(TAG, e1);
+      final FramePool.Frame frame = acquireCurrentFrame();
+      if (frame == null) return;
+      try {
+        for (final CameraCallback callback : mCallbacks) {
+          try {
+            callback.onFrame(frame.data, getWidth(), getHeight());
+          } catch (final Exception e1) {
+            mCallbacks.remove(callback);
+            Log.w(TAG, e1);
+          }
         }
+      } finally {
+        frame.release();
       }
     }
   }
@@ -0,0 +1,312 @@
+package com.serenegiant.usbcameracommon;
+
+import com.serenegiant.usb.Size;
+import com.serenegiant.usb.SupportedSizeIndex;
+import com.serenegiant.usb.UVCCamera;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Plans the isochronous bandwidth of several UVCCameras that share one USB bus.
+ * The estimated bandwidth of each camera comes from its size, fps and frame format.
+ * When the cameras do not fit in the budget, the camera that uses the most bandwidth is degraded step by step,
+ * first from YUYV to MJPEG and then to lower fps, until all of them fit or nothing can be degraded any more.
+ * The budget is shared in proportion to the estimated bandwidth and converted to bandwidth factors.
+ * libuvc multiplies dwMaxPayloadTransferSize of the camera by the factor to select the alternate setting,
+ * and for MJPEG that is usually the whole endpoint(3 x 1024 bytes per micro frame), so the factor is
+ * normalized against USB2_MAX_ENDPOINT_BANDWIDTH, the worst case. The bandwidth claimed this way
+ * by all cameras does not exceed the budget.
+ */
+public class BandwidthPlanner {
+
+	/** 80% of USB 2.0 high speed(480Mbps) can be used for periodic transfers, bytes per second */
+	public static final long USB2_PERIODIC_BANDWIDTH = 48000000L;
+	/** 3 transactions x 1024 bytes per micro frame, bytes per second */
+	public static final long USB2_MAX_ENDPOINT_BANDWIDTH = 3 * 1024 * 8000L;
+	/** frame rates that are tried in this order when degrading */
+	private static final int[] FPS_STEPS = {30, 25, 20, 15, 10, 5};
+
+	/**
+	 * what a camera wants
+	 */
+	public static class Request {
+		public final Object tag;
+		public final int width, height;
+		public final int fps;
+		/** either UVCCamera.FRAME_FORMAT_YUYV(0) or UVCCamera.FRAME_FORMAT_MJPEG(1) */
+		public final int frameFormat;
+		private SupportedSizeIndex mSupportedSizes;
+
+		/**
+		 * @param tag identifies the camera
+		 * @param size
+		 * @param fps
+		 * @param frameFormat either UVCCamera.FRAME_FORMAT_YUYV(0) or UVCCamera.FRAME_FORMAT_MJPEG(1)
+		 */
+		public Request(final Object tag, final Size size, final int fps, final int frameFormat) {
+			this(tag, size.width, size.height, fps, frameFormat);
+		}
+
+		public Request(final Object tag, final int width, final int height, final int fps, final int frameFormat) {
+			if ((tag == null) || (width <= 0) || (height <= 0) || (fps <= 0)) {
+				throw new IllegalArgumentException("invalid request:" + tag + "," + width + "x" + height + "@" + fps);
+			}
+			this.tag = tag;
+			this.width = width;
+			this.height = height;
+			this.fps = fps;
+			this.frameFormat = frameFormat;
+		}
+
+		/**
+		 * descriptors of the camera if it was opened before, MJPEG fallback is used only if it supports the size
+		 * @param supportedSizes can be null
+		 * @return
+		 */
+		public Request setSupportedSizes(final SupportedSizeIndex supportedSizes) {
+			mSupportedSizes = supportedSizes;
+			return this;
+		}
+
+		private boolean canUseMjpeg() {
+			return (mSupportedSizes == null) || mSupportedSizes.isEmpty()
+				|| mSupportedSizes.contains(UVCCamera.FRAME_FORMAT_MJPEG, width, height);
+		}
+	}
+
+	/**
+	 * planned mode and bandwidth factor of a camera
+	 */
+	public static class Allocation {
+		public final Request request;
+		/** either UVCCamera.FRAME_FORMAT_YUYV(0) or UVCCamera.FRAME_FORMAT_MJPEG(1) */
+		public final int frameFormat;
+		public final int fps;
+		/** estimated bytes per second */
+		public final long bandwidth;
+		public final float bandwidthFactor;
+		/** bytes per second that the camera claims with the factor in the worst case */
+		public final long claimedBandwidth;
+		/** cameras should start streaming in ascending order */
+		public final int order;
+
+		private Allocation(final Request request, final int frameFormat, final int fps,
+			final float bandwidthFactor, final int order) {
+
+			this.request = request;
+			this.frameFormat = frameFormat;
+			this.fps = fps;
+			bandwidth = SupportedSizeIndex.estimateBandwidth(frameFormat, request.width, request.height, fps);
+			this.bandwidthFactor = bandwidthFactor;
+			claimedBandwidth = claimedBandwidth(bandwidthFactor);
+			this.order = order;
+		}
+
+		/**
+		 * @return true if the frame format or the fps is not the requested one
+		 */
+		public boolean isDegraded() {
+			return (frameFormat != request.frameFormat) || (fps != request.fps);
+		}
+
+		@Override
+		public String toString() {
+			return "Allocation{tag=" + request.tag + ",order=" + order + ","
+				+ (frameFormat == UVCCamera.FRAME_FORMAT_MJPEG ? "MJPEG" : "YUYV")
+				+ "," + request.width + "x" + request.height + "@" + fps
+				+ ",bandwidth=" + bandwidth + ",factor=" + bandwidthFactor + ",claimed=" + claimedBandwidth
+				+ (isDegraded() ? ",degraded" : "") + "}";
+		}
+	}
+
+	/**
+	 * result of #plan
+	 */
+	public static class Plan {
+		/** in the order of Allocation#order */
+		public final Allocation[] allocations;
+		/** estimated bytes per second of all cameras */
+		public final long totalBandwidth;
+		/** bytes per second claimed by all cameras with their factors */
+		public final long claimedBandwidth;
+		/** bytes per second that can be used by the cameras */
+		public final long budget;
+
+		private Plan(final Allocation[] allocations, final long totalBandwidth, final long budget) {
+			this.allocations = allocations;
+			this.totalBandwidth = totalBandwidth;
+			long claimed = 0;
+			for (final Allocation allocation: allocations) {
+				claimed += allocation.claimedBandwidth;
+			}
+			claimedBandwidth = claimed;
+			this.budget = budget;
+		}
+
+		/**
+		 * @return false if the cameras still do not fit after degrading all of them as far as possible,
+		 * 	they are planned with the lowest modes and factors shared within the budget, and may drop frames
+		 */
+		public boolean fits() {
+			if ((totalBandwidth > budget) || (claimedBandwidth > budget)) return false;
+			for (final Allocation allocation: allocations) {
+				if (allocation.bandwidth > USB2_MAX_ENDPOINT_BANDWIDTH) return false;
+			}
+			return true;
+		}
+
+		/**
+		 * @param tag
+		 * @return null if not found
+		 */
+		public Allocation get(final Object tag) {
+			for (final Allocation allocation: allocations) {
+				if (allocation.request.tag.equals(tag)) {
+					return allocation;
+				}
+			}
+			return null;
+		}
+
+		@Override
+		public String toString() {
+			return "Plan{fits=" + fits() + ",total=" + totalBandwidth + ",claimed=" + claimedBandwidth + ",budget=" + budget
+				+ "," + Arrays.toString(allocations) + "}";
+		}
+	}
+
+	private final long mBusBandwidth;
+	private volatile long mReservedBandwidth;
+
+	/**
+	 * @param busBandwidth bytes per second that can be used for periodic transfers of the bus,
+	 * 	e.g. USB2_PERIODIC_BANDWIDTH
+	 */
+	public BandwidthPlanner(final long busBandwidth) {
+		if (busBandwidth <= 0) {
+			throw new IllegalArgumentException("busBandwidth should be positive");
+		}
+		mBusBandwidth = busBandwidth;
+	}
+
+	/**
+	 * bandwidth used by other devices on the same bus(hub) that is not available for the cameras
+	 * @param reservedBandwidth bytes per second
+	 */
+	public void setReservedBandwidth(final long reservedBandwidth) {
+		mReservedBandwidth = reservedBandwidth;
+	}
+
+	public long getReservedBandwidth() {
+		return mReservedBandwidth;
+	}
+
+	/**
+	 * @param requests cameras on the bus, tags should be unique
+	 * @return
+	 */
+	public Plan plan(final List<Request> requests) {
+		final long budget = Math.max(mBusBandwidth - mReservedBandwidth, 0);
+		final int n = requests.size();
+		final int[] formats = new int[n];
+		final int[] fps = new int[n];
+		final long[] bandwidths = new long[n];
+		long total = 0;
+		for (int i = 0; i < n; i++) {
+			final Request request = requests.get(i);
+			formats[i] = request.frameFormat;
+			fps[i] = request.fps;
+			bandwidths[i] = SupportedSizeIndex.estimateBandwidth(formats[i], request.width, request.height, fps[i]);
+			total += bandwidths[i];
+		}
+		// degrade the camera that uses the most bandwidth one step at a time
+		for ( ; ; ) {
+			int target = -1;
+			for (int i = 0; i < n; i++) {
+				if ((bandwidths[i] > USB2_MAX_ENDPOINT_BANDWIDTH)
+					&& canDegrade(requests.get(i), formats[i], fps[i])) {
+
+					// this camera can not stream even alone
+					target = i;
+					break;
+				}
+			}
+			if ((target < 0) && (total > budget)) {
+				for (int i = 0; i < n; i++) {
+					if (canDegrade(requests.get(i), formats[i], fps[i])
+						&& ((target < 0) || (bandwidths[i] > bandwidths[target]))) {
+
+						target = i;
+					}
+				}
+			}
+			if (target < 0) break;
+			final Request request = requests.get(target);
+			if ((formats[target] != UVCCamera.FRAME_FORMAT_MJPEG) && request.canUseMjpeg()) {
+				formats[target] = UVCCamera.FRAME_FORMAT_MJPEG;
+			} else {
+				fps[target] = lowerFps(fps[target]);
+			}
+			total -= bandwidths[target];
+			bandwidths[target] = SupportedSizeIndex.estimateBandwidth(
+				formats[target], request.width, request.height, fps[target]);
+			total += bandwidths[target];
+		}
+		// share the budget in proportion to the estimated bandwidth
+		final double scale = total > 0 ? budget / (double) total : 1.0;
+		final Integer[] order = new Integer[n];
+		for (int i = 0; i < n; i++) {
+			order[i] = i;
+		}
+		// cameras that need more bandwidth start first so that they can get a large alternate setting
+		Arrays.sort(order, new Comparator<Integer>() {
+			@Override
+			public int compare(final Integer lhs, final Integer rhs) {
+				final long l = bandwidths[lhs], r = bandwidths[rhs];
+				return l != r ? (l > r ? -1 : 1) : lhs.compareTo(rhs);
+			}
+		});
+		final Allocation[] allocations = new Allocation[n];
+		for (int i = 0; i < n; i++) {
+			final int ix = order[i];
+			final Request request = requests.get(ix);
+			final long share = Math.min(USB2_MAX_ENDPOINT_BANDWIDTH, (long) (bandwidths[ix] * scale));
+			allocations[i] = new Allocation(request, formats[ix], fps[ix], toFactor(share), i);
+		}
+		return new Plan(allocations, total, budget);
+	}
+
+	/**
+	 * @param share bytes per second, USB2_MAX_ENDPOINT_BANDWIDTH at most
+	 * @return the largest factor whose claimed bandwidth does not exceed the share
+	 */
+	private static float toFactor(final long share) {
+		float factor = share / (float) USB2_MAX_ENDPOINT_BANDWIDTH;
+		while ((factor > 0) && (claimedBandwidth(factor) > share)) {
+			factor = Math.nextAfter(factor, 0.0);
+		}
+		return factor;
+	}
+
+	private static long claimedBandwidth(final float bandwidthFactor) {
+		return (long) (bandwidthFactor * (double) USB2_MAX_ENDPOINT_BANDWIDTH);
+	}
+
+	private static boolean canDegrade(final Request request, final int frameFormat, final int fps) {
+		return ((frameFormat != UVCCamera.FRAME_FORMAT_MJPEG) && request.canUseMjpeg())
+			|| (lowerFps(fps) < fps);
+	}
+
+	/**
+	 * @param fps
+	 * @return the next lower step, fps itself if it is the lowest
+	 */
+	private static int lowerFps(final int fps) {
+		for (final int step: FPS_STEPS) {
+			if (step < fps) return step;
+		}
+		return fps;
+	}
+}
@@ -0,0 +1,551 @@
+package com.serenegiant.usbcameracommon;
+
+import android.os.Handler;
+import android.util.Log;
+import android.view.Surface;
+
+import com.serenegiant.usb.IFrameCallback;
+import com.serenegiant.usb.SupportedSizeIndex;
+import com.serenegiant.usb.USBMonitor.UsbControlBlock;
+import com.serenegiant.usb.UVCCamera;
+import com.serenegiant.utils.HandlerThreadHandler;
+import com.serenegiant.utils.Time;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Opens several UVCCameras concurrently on a bounded thread pool and reports once when all of them are streaming.
+ * Each step(open, setPreviewSize, startPreview) has its own timeout.
+ * Native calls can not be interrupted, so a camera whose step timed out is reported as failed immediately
+ * and is destroyed when the blocked call returns.
+ * A session expects a fixed number of cameras, requests can be added as their USB permission is granted.
+ * Requests made from a BandwidthPlanner.Allocation start streaming in the planned order.
+ * All callbacks are called on the coordinator's own thread.
+ */
+public class CameraOpenCoordinator {
+	private static final boolean DEBUG = false;	// TODO set false on release
+	private static final String TAG = CameraOpenCoordinator.class.getSimpleName();
+
+	public static final long DEFAULT_OPEN_TIMEOUT_MS = 3000;
+	public static final long DEFAULT_PREVIEW_SIZE_TIMEOUT_MS = 2000;
+	public static final long DEFAULT_START_PREVIEW_TIMEOUT_MS = 2000;
+
+	public static final int STEP_OPEN = 0;
+	public static final int STEP_PREVIEW_SIZE = 1;
+	public static final int STEP_START_PREVIEW = 2;
+	public static final int STEP_LIVE = 3;
+
+	public interface Callback {
+		/**
+		 * called for each camera when it started streaming or failed
+		 * @param result
+		 */
+		public void onCameraResult(CameraResult result);
+
+		/**
+		 * called once when all cameras of the session are streaming
+		 * @param results in the order of the requests
+		 */
+		public void onAllStreamsLive(CameraResult[] results);
+
+		/**
+		 * called once when all cameras of the session finished and at least one of them failed,
+		 * cameras that are streaming are not closed
+		 * @param results in the order of the requests
+		 */
+		public void onFailed(CameraResult[] results);
+	}
+
+	/**
+	 * what to open and how to start its preview
+	 */
+	public static class CameraRequest {
+		public final UsbControlBlock ctrlBlock;
+		public final Object tag;
+		private final int mWidth, mHeight;
+		private final float mBandwidthFactor;
+		private final int mFps;
+		private final long mMaxBandwidth;
+		private final int mStartOrder;
+		private boolean mExactSize;
+		private Surface mPreviewSurface;
+		private IFrameCallback mFrameCallback;
+		private int mPixelFormat;
+
+		/**
+		 * the supported mode closest to the size is selected, MJPEG is preferred over YUV of the same size
+		 * @param ctrlBlock
+		 * @param tag identifies the camera, a request with the same tag as a pending request is rejected
+		 * @param width
+		 * @param height
+		 * @param bandwidthFactor
+		 */
+		public CameraRequest(final UsbControlBlock ctrlBlock, final Object tag,
+			final int width, final int height, final float bandwidthFactor) {
+
+			if ((ctrlBlock == null) || (tag == null)) {
+				throw new IllegalArgumentException("ctrlBlock and tag should not be null");
+			}
+			this.ctrlBlock = ctrlBlock;
+			this.tag = tag;
+			mWidth = width;
+			mHeight = height;
+			mBandwidthFactor = bandwidthFactor;
+			mFps = UVCCamera.DEFAULT_PREVIEW_MAX_FPS;
+			mMaxBandwidth = 0;
+			mStartOrder = -1;
+		}
+
+		/**
+		 * open with the mode and the bandwidth factor planned by BandwidthPlanner.
+		 * modes within the planned bandwidth are preferred, but the requested size is not given up for it,
+		 * e.g. a camera that supports only YUYV uses YUYV of the size even if MJPEG was planned.
+		 * startPreview waits for cameras of the session with a smaller Allocation#order
+		 * @param ctrlBlock
+		 * @param allocation tag of the request of the allocation is used
+		 */
+		public CameraRequest(final UsbControlBlock ctrlBlock, final BandwidthPlanner.Allocation allocation) {
+			if ((ctrlBlock == null) || (allocation == null)) {
+				throw new IllegalArgumentException("ctrlBlock and allocation should not be null");
+			}
+			this.ctrlBlock = ctrlBlock;
+			tag = allocation.request.tag;
+			mWidth = allocation.request.width;
+			mHeight = allocation.request.height;
+			mBandwidthFactor = allocation.bandwidthFactor;
+			mFps = allocation.fps;
+			mMaxBandwidth = allocation.bandwidth;
+			mStartOrder = allocation.order;
+		}
+
+		/**
+		 * fail instead of selecting another size when the camera does not support the requested size,
+		 * for callers whose buffers are allocated for that size
+		 * @param exactSize
+		 * @return
+		 */
+		public CameraRequest setExactSize(final boolean exactSize) {
+			mExactSize = exactSize;
+			return this;
+		}
+
+		private boolean isRequestedSize(final SupportedSizeIndex.Mode mode) {
+			return (mode != null) && (mode.width == mWidth) && (mode.height == mHeight);
+		}
+
+		public CameraRequest setPreviewSurface(final Surface surface) {
+			mPreviewSurface = surface;
+			return this;
+		}
+
+		public CameraRequest setFrameCallback(final IFrameCallback callback, final int pixelFormat) {
+			mFrameCallback = callback;
+			mPixelFormat = pixelFormat;
+			return this;
+		}
+	}
+
+	/**
+	 * result and latency of each camera, latencies are -1 when the step did not finish
+	 */
+	public static class CameraResult {
+		public final CameraRequest request;
+		/**
+		 * streaming camera, null if failed
+		 */
+		public UVCCamera camera;
+		/**
+		 * mode selected for the preview, null if it was not selected yet.
+		 * the size can differ from the requested size unless CameraRequest#setExactSize was set
+		 */
+		public SupportedSizeIndex.Mode mode;
+		public long openMs = -1;
+		public long previewSizeMs = -1;
+		public long startPreviewMs = -1;
+		/**
+		 * from the request to the end of startPreview or to the failure
+		 */
+		public long totalMs = -1;
+		/**
+		 * the step that failed, STEP_LIVE if succeeded
+		 */
+		public int step = STEP_OPEN;
+		public Exception error;
+		private final long mStartNs;
+		private long mStepStartNs;
+		private boolean mFinished;
+		private Runnable mWatchdog;
+
+		private CameraResult(final CameraRequest request) {
+			this.request = request;
+			mStartNs = mStepStartNs = Time.nanoTime();
+		}
+
+		public boolean isLive() {
+			return step == STEP_LIVE;
+		}
+
+		@Override
+		public String toString() {
+			return "CameraResult{tag=" + request.tag + ",live=" + isLive() + ",step=" + step
+				+ ",mode=" + mode + ",open=" + openMs + "ms,size=" + previewSizeMs + "ms,start=" + startPreviewMs
+				+ "ms,total=" + totalMs + "ms,error=" + error + "}";
+		}
+	}
+
+	private final Object mSync = new Object();
+	private final ExecutorService mExecutor;
+	private final Handler mHandler;
+	private volatile long mOpenTimeoutMs = DEFAULT_OPEN_TIMEOUT_MS;
+	private volatile long mPreviewSizeTimeoutMs = DEFAULT_PREVIEW_SIZE_TIMEOUT_MS;
+	private volatile long mStartPreviewTimeoutMs = DEFAULT_START_PREVIEW_TIMEOUT_MS;
+	private final List<CameraResult> mResults = new ArrayList<CameraResult>();
+	private Callback mCallback;
+	private int mExpected;
+	private int mFinished;
+	private boolean mReleased;
+
+	/**
+	 * @param maxParallel maximum number of cameras opened at the same time
+	 */
+	public CameraOpenCoordinator(final int maxParallel) {
+		if (maxParallel <= 0) {
+			throw new IllegalArgumentException("maxParallel should be positive");
+		}
+		mExecutor = Executors.newFixedThreadPool(maxParallel, new ThreadFactory() {
+			private int mCount;
+			@Override
+			public Thread newThread(final Runnable r) {
+				return new Thread(r, TAG + "-" + (mCount++));
+			}
+		});
+		mHandler = HandlerThreadHandler.createHandler(TAG);
+	}
+
+	/**
+	 * cameras that are opening when this method is called are destroyed when their step returns,
+	 * cameras that are already reported as live are not closed
+	 */
+	public void release() {
+		synchronized (mSync) {
+			if (mReleased) return;
+			mReleased = true;
+			mCallback = null;
+			mResults.clear();
+			mSync.notifyAll();
+		}
+		mExecutor.shutdown();
+		mHandler.removeCallbacksAndMessages(null);
+		mHandler.getLooper().quit();
+	}
+
+	public void setTimeouts(final long openMs, final long previewSizeMs, final long startPreviewMs) {
+		mOpenTimeoutMs = openMs;
+		mPreviewSizeTimeoutMs = previewSizeMs;
+		mStartPreviewTimeoutMs = startPreviewMs;
+	}
+
+	/**
+	 * start a new session, results of the previous session are discarded
+	 * @param expected number of cameras of the session
+	 * @param callback
+	 */
+	public void start(final int expected, final Callback callback) {
+		if (expected <= 0) {
+			throw new IllegalArgumentException("expected should be positive");
+		}
+		synchronized (mSync) {
+			if (mReleased) throw new IllegalStateException("already released");
+			mExpected = expected;
+			mFinished = 0;
+			mCallback = callback;
+			mResults.clear();
+			mSync.notifyAll();
+		}
+	}
+
+	/**
+	 * start a session and open all cameras
+	 * @param callback
+	 * @param requests
+	 */
+	public void openAll(final Callback callback, final CameraRequest... requests) {
+		start(requests.length, callback);
+		for (final CameraRequest request: requests) {
+			open(request);
+		}
+	}
+
+	/**
+	 * whether the current session is waiting for more requests or for cameras being opened
+	 * @return
+	 */
+	public boolean isActive() {
+		synchronized (mSync) {
+			return !mReleased && (mCallback != null) && (mFinished < mExpected);
+		}
+	}
+
+	/**
+	 * add the camera to the current session and open it.
+	 * a request with the same tag as a camera of the session that already failed replaces it(retry),
+	 * the session expects the same number of cameras
+	 * @param request
+	 * @return false if there is no active session, the session is full
+	 * 	or a request with the same tag is opening or streaming in the session
+	 */
+	public boolean open(final CameraRequest request) {
+		final CameraResult result = new CameraResult(request);
+		synchronized (mSync) {
+			if (mReleased || (mCallback == null)) {
+				return false;
+			}
+			int retry = -1;
+			final int n = mResults.size();
+			for (int i = 0; i < n; i++) {
+				final CameraResult r = mResults.get(i);
+				if (r.request.tag.equals(request.tag)) {
+					if (!r.mFinished || r.isLive()) {
+						if (DEBUG) Log.v(TAG, "open:already requested " + request.tag);
+						return false;
+					}
+					retry = i;
+					break;
+				}
+			}
+			if (retry >= 0) {
+				if (DEBUG) Log.v(TAG, "open:retry " + request.tag);
+				mResults.set(retry, result);
+				mFinished--;
+			} else if (n >= mExpected) {
+				return false;
+			} else {
+				mResults.add(result);
+			}
+			startStepLocked(result, STEP_OPEN);
+		}
+		mExecutor.execute(new Runnable() {
+			@Override
+			public void run() {
+				openCamera(result);
+			}
+		});
+		return true;
+	}
+
+	/**
+	 * executed on a worker thread
+	 * @param result
+	 */
+	private void openCamera(final CameraResult result) {
+		final CameraRequest request = result.request;
+		UVCCamera camera = null;
+		try {
+			camera = new UVCCamera();
+			camera.open(request.ctrlBlock);
+			if (!finishStep(result, STEP_OPEN, STEP_PREVIEW_SIZE, camera)) return;
+			SupportedSizeIndex.Mode mode = camera.selectBestMode(
+				request.mWidth, request.mHeight, request.mFps, request.mMaxBandwidth);
+			if ((request.mMaxBandwidth > 0) && !request.isRequestedSize(mode)) {
+				// the planned bandwidth is only a preference
+				final SupportedSizeIndex.Mode any = camera.selectBestMode(
+					request.mWidth, request.mHeight, request.mFps, 0);
+				if (request.isRequestedSize(any)) {
+					mode = any;
+				}
+			}
+			if ((mode == null) || (request.mExactSize && !request.isRequestedSize(mode))) {
+
+				throw new IllegalArgumentException("no supported size for " + request.mWidth + "x" + request.mHeight
+					+ "@" + request.mFps + ":" + camera.getSupportedSize());
+			}
+			result.mode = mode;
+			if (DEBUG) Log.v(TAG, "openCamera:" + request.tag + "," + mode);
+			camera.setPreviewMode(mode, request.mBandwidthFactor);
+			if (!finishStep(result, STEP_PREVIEW_SIZE, STEP_START_PREVIEW, camera)) return;
+			awaitStartTurn(result);
+			if (request.mPreviewSurface != null) {
+				camera.setPreviewDisplay(request.mPreviewSurface);
+			}
+			if (request.mFrameCallback != null) {
+				camera.setFrameCallback(request.mFrameCallback, request.mPixelFormat);
+			}
+			camera.startPreview();
+			finishStep(result, STEP_START_PREVIEW, STEP_LIVE, camera);
+		} catch (final Exception e) {
+			Log.w(TAG, "openCamera:" + request.tag, e);
+			fail(result, e);
+			destroy(camera);
+		}
+	}
+
+	/**
+	 * wait until the cameras of the session with a smaller start order finished,
+	 * the bandwidth is allocated on startPreview so the planned order should be kept.
+	 * this waits at most half of the startPreview timeout so that a camera that will never come
+	 * or is waiting for a worker thread does not block this camera
+	 * @param result
+	 */
+	private void awaitStartTurn(final CameraResult result) {
+		final int order = result.request.mStartOrder;
+		if (order < 0) return;
+		final long deadline = Time.nanoTime() + mStartPreviewTimeoutMs * 1000000L / 2;
+		synchronized (mSync) {
+			for ( ; ; ) {
+				if (!isPendingLocked(result)) return;
+				boolean waiting = false;
+				for (final CameraResult r: mResults) {
+					final int o = r.request.mStartOrder;
+					if (!r.mFinished && (o >= 0) && (o < order)) {
+						waiting = true;
+						break;
+					}
+				}
+				final long remainingMs = (deadline - Time.nanoTime()) / 1000000L;
+				if (!waiting || (remainingMs <= 0)) return;
+				if (DEBUG) Log.v(TAG, "awaitStartTurn:" + result.request.tag);
+				try {
+					mSync.wait(remainingMs);
+				} catch (final InterruptedException e) {
+					return;
+				}
+			}
+		}
+	}
+
+	/**
+	 * record the time of the step and start the watchdog of the next step
+	 * @return false if the step already timed out, the session was replaced
+	 * 	or this coordinator was released, the camera is destroyed
+	 */
+	private boolean finishStep(final CameraResult result, final int step, final int next, final UVCCamera camera) {
+		synchronized (mSync) {
+			mHandler.removeCallbacks(result.mWatchdog);
+			if (isPendingLocked(result) && (result.step == step)) {
+				final long now = Time.nanoTime();
+				final long ms = (now - result.mStepStartNs) / 1000000L;
+				switch (step) {
+				case STEP_OPEN:				result.openMs = ms;	break;
+				case STEP_PREVIEW_SIZE:		result.previewSizeMs = ms;	break;
+				case STEP_START_PREVIEW:	result.startPreviewMs = ms;	break;
+				}
+				result.mStepStartNs = now;
+				if (next == STEP_LIVE) {
+					result.step = STEP_LIVE;
+					result.camera = camera;
+					finishLocked(result);
+					return true;
+				}
+				startStepLocked(result, next);
+				return true;
+			}
+		}
+		if (DEBUG) Log.v(TAG, "finishStep:discard " + result.request.tag);
+		destroy(camera);
+		return false;
+	}
+
+	private void fail(final CameraResult result, final Exception error) {
+		synchronized (mSync) {
+			mHandler.removeCallbacks(result.mWatchdog);
+			if (isPendingLocked(result)) {
+				result.error = error;
+				finishLocked(result);
+			}
+		}
+	}
+
+	private void startStepLocked(final CameraResult result, final int step) {
+		result.step = step;
+		final long timeoutMs;
+		switch (step) {
+		case STEP_OPEN:				timeoutMs = mOpenTimeoutMs;	break;
+		case STEP_PREVIEW_SIZE:		timeoutMs = mPreviewSizeTimeoutMs;	break;
+		default:					timeoutMs = mStartPreviewTimeoutMs;	break;
+		}
+		result.mWatchdog = new Runnable() {
+			@Override
+			public void run() {
+				Log.w(TAG, "timeout:" + result.request.tag + ",step=" + step);
+				synchronized (mSync) {
+					if (isPendingLocked(result) && (result.step == step)) {
+						result.error = new TimeoutException("step " + step + " did not finish in " + timeoutMs + "ms");
+						finishLocked(result);
+					}
+				}
+			}
+		};
+		if (timeoutMs > 0) {
+			mHandler.postDelayed(result.mWatchdog, timeoutMs);
+		}
+	}
+
+	/**
+	 * caller should hold mSync
+	 * @param result
+	 * @return false if the result already finished or does not belong to the current session
+	 */
+	private boolean isPendingLocked(final CameraResult result) {
+		return !result.mFinished && !mReleased && mResults.contains(result);
+	}
+
+	/**
+	 * caller should hold mSync
+	 * @param result
+	 */
+	private void finishLocked(final CameraResult result) {
+		result.mFinished = true;
+		mSync.notifyAll();
+		result.totalMs = (Time.nanoTime() - result.mStartNs) / 1000000L;
+		if (DEBUG) Log.v(TAG, "finish:" + result);
+		final Callback callback = mCallback;
+		if (callback == null) return;
+		mFinished++;
+		final CameraResult[] results;
+		final boolean allLive;
+		if (mFinished >= mExpected) {
+			results = mResults.toArray(new CameraResult[mResults.size()]);
+			boolean live = true;
+			for (final CameraResult r: results) {
+				live &= r.isLive();
+			}
+			allLive = live;
+			mCallback = null;
+		} else {
+			results = null;
+			allLive = false;
+		}
+		mHandler.post(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					callback.onCameraResult(result);
+					if (results != null) {
+						if (allLive) {
+							callback.onAllStreamsLive(results);
+						} else {
+							callback.onFailed(results);
+						}
+					}
+				} catch (final Exception e) {
+					Log.w(TAG, e);
+				}
+			}
+		});
+	}
+
+	private static void destroy(final UVCCamera camera) {
+		if (camera != null) {
+			try {
+				camera.destroy();
+			} catch (final Exception e) {
+				Log.w(TAG, e);
+			}
+		}
+	}
+}
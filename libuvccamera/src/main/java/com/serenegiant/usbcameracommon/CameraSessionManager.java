@@ -0,0 +1,260 @@
+package com.serenegiant.usbcameracommon;
+
+import android.os.Handler;
+import android.util.Log;
+import android.view.Surface;
+
+import com.serenegiant.usb.IFrameCallback;
+import com.serenegiant.usb.UVCCamera;
+import com.serenegiant.utils.HandlerThreadHandler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Keeps opened UVCCameras streaming while the app is in background for a grace period.
+ * #suspend detaches the preview surface and the frame callback but keeps the UVC stream
+ * and the control block, so #resume only re-attaches them and does not renegotiate USB,
+ * preview size and preview start.
+ * A suspended(warm) camera is closed when the grace period expires without #resume.
+ */
+public class CameraSessionManager {
+	private static final boolean DEBUG = false;	// TODO set false on release
+	private static final String TAG = CameraSessionManager.class.getSimpleName();
+
+	public static final long DEFAULT_GRACE_PERIOD_MS = 30000;
+
+	public static final int STATE_CLOSED = 0;
+	/** streaming to the preview surface and the frame callback */
+	public static final int STATE_LIVE = 1;
+	/** streaming without the preview surface and the frame callback, waiting for #resume */
+	public static final int STATE_WARM = 2;
+
+	public interface Listener {
+		/**
+		 * called on the manager's thread when the grace period of the warm camera expired and it was closed
+		 * @param tag
+		 */
+		public void onExpired(Object tag);
+	}
+
+	private static final class Session {
+		private final Object tag;
+		private final UVCCamera camera;
+		private final IFrameCallback frameCallback;
+		private final int pixelFormat;
+		private int state = STATE_LIVE;
+		private Runnable expireTask;
+
+		private Session(final Object tag, final UVCCamera camera,
+			final IFrameCallback frameCallback, final int pixelFormat) {
+
+			this.tag = tag;
+			this.camera = camera;
+			this.frameCallback = frameCallback;
+			this.pixelFormat = pixelFormat;
+		}
+	}
+
+	private final Object mSync = new Object();
+	private final HashMap<Object, Session> mSessions = new HashMap<Object, Session>();
+	private final Handler mHandler;
+	private final Listener mListener;
+	private volatile long mGracePeriodMs;
+	private boolean mReleased;
+
+	/**
+	 * @param gracePeriodMs how long a suspended camera keeps streaming
+	 * @param listener can be null
+	 */
+	public CameraSessionManager(final long gracePeriodMs, final Listener listener) {
+		mGracePeriodMs = gracePeriodMs;
+		mListener = listener;
+		mHandler = HandlerThreadHandler.createHandler(TAG);
+	}
+
+	/**
+	 * close all cameras, this instance can not be reused
+	 */
+	public void release() {
+		synchronized (mSync) {
+			if (mReleased) return;
+			mReleased = true;
+		}
+		closeAll();
+		mHandler.removeCallbacksAndMessages(null);
+		mHandler.getLooper().quit();
+	}
+
+	/**
+	 * applied to cameras suspended after this call
+	 * @param gracePeriodMs
+	 */
+	public void setGracePeriod(final long gracePeriodMs) {
+		mGracePeriodMs = gracePeriodMs;
+	}
+
+	public long getGracePeriod() {
+		return mGracePeriodMs;
+	}
+
+	/**
+	 * add the camera that is already streaming, the camera previously added with the same tag is closed
+	 * @param tag
+	 * @param camera
+	 * @param frameCallback frame callback that is set to the camera, re-attached on #resume, can be null
+	 * @param pixelFormat
+	 */
+	public void put(final Object tag, final UVCCamera camera,
+		final IFrameCallback frameCallback, final int pixelFormat) {
+
+		final Session prev;
+		synchronized (mSync) {
+			if (mReleased) throw new IllegalStateException("already released");
+			prev = mSessions.put(tag, new Session(tag, camera, frameCallback, pixelFormat));
+			if (prev != null) {
+				mHandler.removeCallbacks(prev.expireTask);
+			}
+		}
+		if ((prev != null) && (prev.camera != camera)) {
+			closeCamera(prev.camera);
+		}
+	}
+
+	public UVCCamera getCamera(final Object tag) {
+		synchronized (mSync) {
+			final Session session = mSessions.get(tag);
+			return session != null ? session.camera : null;
+		}
+	}
+
+	public int getState(final Object tag) {
+		synchronized (mSync) {
+			final Session session = mSessions.get(tag);
+			return session != null ? session.state : STATE_CLOSED;
+		}
+	}
+
+	/**
+	 * detach the preview surface and the frame callback and keep streaming for the grace period
+	 * @param tag
+	 */
+	public void suspend(final Object tag) {
+		synchronized (mSync) {
+			final Session session = mSessions.get(tag);
+			if ((session == null) || (session.state != STATE_LIVE)) return;
+			if (DEBUG) Log.v(TAG, "suspend:" + tag);
+			try {
+				session.camera.setFrameCallback(null, 0);
+				session.camera.setPreviewDisplay((Surface)null);
+			} catch (final Exception e) {
+				Log.w(TAG, e);
+			}
+			session.state = STATE_WARM;
+			session.expireTask = new Runnable() {
+				@Override
+				public void run() {
+					expire(session);
+				}
+			};
+			mHandler.postDelayed(session.expireTask, mGracePeriodMs);
+		}
+	}
+
+	public void suspendAll() {
+		for (final Object tag: getTags()) {
+			suspend(tag);
+		}
+	}
+
+	/**
+	 * attach the preview surface and the frame callback again
+	 * @param tag
+	 * @param surface preview surface, can be null
+	 * @return false if the camera is closed, caller should open it again
+	 */
+	public boolean resume(final Object tag, final Surface surface) {
+		synchronized (mSync) {
+			final Session session = mSessions.get(tag);
+			if (session == null) return false;
+			if (DEBUG) Log.v(TAG, "resume:" + tag + ",state=" + session.state);
+			mHandler.removeCallbacks(session.expireTask);
+			session.expireTask = null;
+			try {
+				session.camera.setPreviewDisplay(surface);
+				if ((session.state == STATE_WARM) && (session.frameCallback != null)) {
+					session.camera.setFrameCallback(session.frameCallback, session.pixelFormat);
+				}
+			} catch (final Exception e) {
+				// the camera may have been detached while it was warm
+				Log.w(TAG, "resume:", e);
+				mSessions.remove(tag);
+				closeCamera(session.camera);
+				return false;
+			}
+			session.state = STATE_LIVE;
+			return true;
+		}
+	}
+
+	/**
+	 * close the camera immediately
+	 * @param tag
+	 */
+	public void close(final Object tag) {
+		final Session session;
+		synchronized (mSync) {
+			session = mSessions.remove(tag);
+			if (session != null) {
+				mHandler.removeCallbacks(session.expireTask);
+			}
+		}
+		if (session != null) {
+			closeCamera(session.camera);
+		}
+	}
+
+	public void closeAll() {
+		for (final Object tag: getTags()) {
+			close(tag);
+		}
+	}
+
+	private List<Object> getTags() {
+		synchronized (mSync) {
+			return new ArrayList<Object>(mSessions.keySet());
+		}
+	}
+
+	/**
+	 * called on the manager's thread when the grace period expired
+	 * @param session
+	 */
+	private void expire(final Session session) {
+		synchronized (mSync) {
+			if ((mSessions.get(session.tag) != session) || (session.state != STATE_WARM)) return;
+			mSessions.remove(session.tag);
+		}
+		if (DEBUG) Log.v(TAG, "expire:" + session.tag);
+		closeCamera(session.camera);
+		if (mListener != null) {
+			try {
+				mListener.onExpired(session.tag);
+			} catch (final Exception e) {
+				Log.w(TAG, e);
+			}
+		}
+	}
+
+	private static void closeCamera(final UVCCamera camera) {
+		try {
+			camera.setStatusCallback(null);
+			camera.setButtonCallback(null);
+			camera.close();
+			camera.destroy();
+		} catch (final Exception e) {
+			Log.w(TAG, e);
+		}
+	}
+}
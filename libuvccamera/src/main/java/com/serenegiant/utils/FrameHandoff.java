@@ -0,0 +1,203 @@
+package com.serenegiant.utils;
+
+import android.util.Log;
+
+import java.util.ArrayDeque;
+
+/**
+ * Bounded latest-frame-wins hand-off between IFrameCallback#onFrame and worker threads.
+ * #offer never blocks, when the queue is full the oldest frame is dropped and released
+ * so that slow workers never throttle the USB stream.
+ * Ownership of the offered frame moves to this class, it is released after the consumer returns.
+ */
+public class FrameHandoff {
+	private static final boolean DEBUG = false;
+	private static final String TAG = FrameHandoff.class.getSimpleName();
+
+	public interface Consumer {
+		/**
+		 * called on a worker thread
+		 * @param frame this is only valid while this method is executing
+		 */
+		public void onFrame(final FramePool.Frame frame);
+	}
+
+	private final Object mSync = new Object();
+	private final String mName;
+	private final int mCapacity;
+	private final int mWorkerNum;
+	private final Consumer mConsumer;
+	private final ArrayDeque<FramePool.Frame> mQueue;
+	private Thread[] mWorkers;
+	private volatile boolean mIsRunning;
+	private long mHandedOff, mDropped, mProcessed;
+
+	/**
+	 * single worker, keep only the latest frame
+	 * @param name
+	 * @param consumer
+	 */
+	public FrameHandoff(final String name, final Consumer consumer) {
+		this(name, 1, 1, consumer);
+	}
+
+	/**
+	 * @param name name of worker threads
+	 * @param capacity maximum number of frames waiting for workers
+	 * @param workerNum number of worker threads
+	 * @param consumer
+	 */
+	public FrameHandoff(final String name, final int capacity, final int workerNum, final Consumer consumer) {
+		if ((capacity <= 0) || (workerNum <= 0)) {
+			throw new IllegalArgumentException("capacity and workerNum should be positive");
+		}
+		if (consumer == null) {
+			throw new NullPointerException("consumer should not be null");
+		}
+		mName = name;
+		mCapacity = capacity;
+		mWorkerNum = workerNum;
+		mConsumer = consumer;
+		mQueue = new ArrayDeque<FramePool.Frame>(capacity);
+	}
+
+	public void start() {
+		synchronized (mSync) {
+			if (mIsRunning) return;
+			mIsRunning = true;
+			mWorkers = new Thread[mWorkerNum];
+			for (int i = 0; i < mWorkerNum; i++) {
+				mWorkers[i] = new Thread(mWorkerTask, mName + "-" + i);
+				mWorkers[i].start();
+			}
+		}
+	}
+
+	/**
+	 * stop workers and release pending frames, this does not wait for the consumer returns
+	 */
+	public void stop() {
+		final Thread[] workers;
+		synchronized (mSync) {
+			if (!mIsRunning) return;
+			mIsRunning = false;
+			workers = mWorkers;
+			mWorkers = null;
+			clearQueue();
+			mSync.notifyAll();
+		}
+		for (final Thread worker : workers) {
+			worker.interrupt();
+		}
+	}
+
+	public boolean isRunning() {
+		return mIsRunning;
+	}
+
+	/**
+	 * hand the frame to workers, never blocks
+	 * @param frame ownership moves to this instance
+	 * @return false if this is not running, the frame is released immediately
+	 */
+	public boolean offer(final FramePool.Frame frame) {
+		FramePool.Frame dropped = null;
+		synchronized (mSync) {
+			if (!mIsRunning) {
+				frame.release();
+				return false;
+			}
+			if (mQueue.size() >= mCapacity) {
+				dropped = mQueue.pollFirst();
+				mDropped++;
+			}
+			mQueue.addLast(frame);
+			mHandedOff++;
+			mSync.notify();
+		}
+		if (dropped != null) {
+			dropped.release();
+		}
+		return true;
+	}
+
+	private void clearQueue() {
+		for (final FramePool.Frame frame : mQueue) {
+			frame.release();
+		}
+		mQueue.clear();
+	}
+
+	private final Runnable mWorkerTask = new Runnable() {
+		@Override
+		public void run() {
+			if (DEBUG) Log.v(TAG, "worker started:" + Thread.currentThread().getName());
+			for ( ; ; ) {
+				final FramePool.Frame frame;
+				synchronized (mSync) {
+					while (mIsRunning && mQueue.isEmpty()) {
+						try {
+							mSync.wait();
+						} catch (final InterruptedException e) {
+							// check mIsRunning
+						}
+					}
+					if (!mIsRunning) break;
+					frame = mQueue.pollFirst();
+				}
+				try {
+					mConsumer.onFrame(frame);
+				} catch (final Exception e) {
+					Log.w(TAG, e);
+				} finally {
+					frame.release();
+				}
+				synchronized (mSync) {
+					mProcessed++;
+				}
+			}
+			if (DEBUG) Log.v(TAG, "worker finished:" + Thread.currentThread().getName());
+		}
+	};
+
+	/**
+	 * @return number of frames accepted by #offer
+	 */
+	public long getHandedOffCount() {
+		synchronized (mSync) {
+			return mHandedOff;
+		}
+	}
+
+	/**
+	 * @return number of frames dropped because workers fell behind
+	 */
+	public long getDroppedCount() {
+		synchronized (mSync) {
+			return mDropped;
+		}
+	}
+
+	/**
+	 * @return number of frames that consumer finished
+	 */
+	public long getProcessedCount() {
+		synchronized (mSync) {
+			return mProcessed;
+		}
+	}
+
+	public void resetCounters() {
+		synchronized (mSync) {
+			mHandedOff = mDropped = mProcessed = 0;
+		}
+	}
+
+	@Override
+	public String toString() {
+		synchronized (mSync) {
+			return TAG + "{" + mName + ":handedOff=" + mHandedOff
+				+ ",dropped=" + mDropped + ",processed=" + mProcessed + "}";
+		}
+	}
+}
@@ -0,0 +1,38 @@
+package com.serenegiant.utils;
+
+/**
+ * NIR frame and visible frame that were captured within the skew window of FrameSynchronizer.
+ * FrameSynchronizer reuses the same instance for every pair,
+ * so the content is only valid while FrameSynchronizer.Callback#onFramePair is executing.
+ * Call FramePool.Frame#retain if you need to keep a frame after that.
+ */
+public final class FramePair {
+	public FramePool.Frame nir;
+	public FramePool.Frame visible;
+
+	FramePair() {
+	}
+
+	/**
+	 * @return arrival time difference[ns], visible - nir
+	 */
+	public long getSkewNs() {
+		return visible.timestampNs - nir.timestampNs;
+	}
+
+	void set(final FramePool.Frame nir, final FramePool.Frame visible) {
+		this.nir = nir;
+		this.visible = visible;
+	}
+
+	void clear() {
+		nir = visible = null;
+	}
+
+	@Override
+	public String toString() {
+		return "FramePair{nir=" + (nir != null ? nir.sequence : -1)
+			+ ",visible=" + (visible != null ? visible.sequence : -1)
+			+ ",skew=" + (((nir != null) && (visible != null)) ? getSkewNs() : 0) + "ns}";
+	}
+}
@@ -0,0 +1,206 @@
+package com.serenegiant.utils;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+
+/**
+ * Fixed size pool of pre-sized frame buffers for IFrameCallback consumers.
+ * All buffers belong to one size class(the current frame size in bytes).
+ * When the frame size changes(e.g. preview size changed), the pool switches to the new size class
+ * and buffers of the old size class are discarded as they are released.
+ * Each leased Frame is reference counted and returns to the pool when the last reference is released.
+ */
+public class FramePool {
+	private static final String TAG = FramePool.class.getSimpleName();
+
+	/**
+	 * pooled frame buffer, #data is exactly #size bytes long
+	 */
+	public static final class Frame {
+		private final FramePool mPool;
+		public final byte[] data;
+		public final int size;
+		/**
+		 * arrival time[ns] from Time#nanoTime and per camera sequence number,
+		 * these are set by FrameSynchronizer and cleared when this frame is leased
+		 */
+		public long timestampNs;
+		public long sequence;
+		private int mRefCount;
+
+		private Frame(final FramePool pool, final int size) {
+			mPool = pool;
+			this.size = size;
+			data = new byte[size];
+		}
+
+		/**
+		 * add a reference, each call needs corresponding #release call
+		 * @return this
+		 */
+		public Frame retain() {
+			synchronized (mPool.mSync) {
+				if (mRefCount <= 0) {
+					throw new IllegalStateException("already released");
+				}
+				mRefCount++;
+			}
+			return this;
+		}
+
+		/**
+		 * drop a reference and return this buffer to the pool when no one refers it
+		 */
+		public void release() {
+			mPool.recycle(this);
+		}
+	}
+
+	private final Object mSync = new Object();
+	private final ArrayDeque<Frame> mFreeFrames;
+	private final int mMaxFrames;
+	private int mFrameSize;
+	private int mAllocated;
+	private long mHits, mMisses, mExhausted;
+
+	/**
+	 * @param maxFrames maximum number of buffers that can be leased at the same time
+	 * @param frameSize initial size class in bytes, buffers are pre-allocated when this is positive
+	 */
+	public FramePool(final int maxFrames, final int frameSize) {
+		if (maxFrames <= 0) {
+			throw new IllegalArgumentException("maxFrames should be positive");
+		}
+		mMaxFrames = maxFrames;
+		mFreeFrames = new ArrayDeque<Frame>(maxFrames);
+		mFrameSize = frameSize;
+		if (frameSize > 0) {
+			for (int i = 0; i < maxFrames; i++) {
+				mFreeFrames.add(new Frame(this, frameSize));
+			}
+			mAllocated = maxFrames;
+		}
+	}
+
+	/**
+	 * lease a buffer of the specific size
+	 * @param size
+	 * @return null if all buffers are leased
+	 */
+	public Frame obtain(final int size) {
+		synchronized (mSync) {
+			if (size != mFrameSize) {
+				// switch size class, buffers that are leased now are discarded on release
+				mFrameSize = size;
+				mAllocated -= mFreeFrames.size();
+				mFreeFrames.clear();
+			}
+			Frame result = mFreeFrames.pollFirst();
+			if (result != null) {
+				mHits++;
+			} else if (mAllocated < mMaxFrames) {
+				mMisses++;
+				mAllocated++;
+				result = new Frame(this, size);
+			} else {
+				mExhausted++;
+				return null;
+			}
+			result.mRefCount = 1;
+			result.timestampNs = result.sequence = 0;
+			return result;
+		}
+	}
+
+	/**
+	 * lease a buffer and copy remaining bytes of the specific ByteBuffer into it
+	 * @param frame
+	 * @return null if frame is empty or all buffers are leased
+	 */
+	public Frame copyFrom(final ByteBuffer frame) {
+		final int size = frame.remaining();
+		if (size <= 0) return null;
+		final Frame result = obtain(size);
+		if (result != null) {
+			frame.get(result.data, 0, size);
+		}
+		return result;
+	}
+
+	private void recycle(final Frame frame) {
+		synchronized (mSync) {
+			if (frame.mRefCount <= 0) {
+				throw new IllegalStateException("already released");
+			}
+			if (--frame.mRefCount > 0) return;
+			if (frame.size == mFrameSize) {
+				mFreeFrames.addFirst(frame);
+			} else {
+				// stale size class
+				mAllocated--;
+			}
+		}
+	}
+
+	/**
+	 * drop all free buffers, leased buffers are still valid until they are released
+	 */
+	public void clear() {
+		synchronized (mSync) {
+			mAllocated -= mFreeFrames.size();
+			mFreeFrames.clear();
+		}
+	}
+
+	public int getFrameSize() {
+		synchronized (mSync) {
+			return mFrameSize;
+		}
+	}
+
+	public int getMaxFrames() {
+		return mMaxFrames;
+	}
+
+	/**
+	 * @return number of requests served by an already allocated buffer
+	 */
+	public long getHitCount() {
+		synchronized (mSync) {
+			return mHits;
+		}
+	}
+
+	/**
+	 * @return number of requests that needed new allocation
+	 */
+	public long getMissCount() {
+		synchronized (mSync) {
+			return mMisses;
+		}
+	}
+
+	/**
+	 * @return number of requests rejected because all buffers were leased
+	 */
+	public long getExhaustedCount() {
+		synchronized (mSync) {
+			return mExhausted;
+		}
+	}
+
+	public void resetCounters() {
+		synchronized (mSync) {
+			mHits = mMisses = mExhausted = 0;
+		}
+	}
+
+	@Override
+	public String toString() {
+		synchronized (mSync) {
+			return TAG + "{size=" + mFrameSize
+				+ ",allocated=" + mAllocated + "/" + mMaxFrames
+				+ ",hits=" + mHits + ",misses=" + mMisses + ",exhausted=" + mExhausted + "}";
+		}
+	}
+}
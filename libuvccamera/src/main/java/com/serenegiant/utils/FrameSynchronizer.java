@@ -0,0 +1,179 @@
+package com.serenegiant.utils;
+
+/**
+ * Pair NIR frames and visible frames of the dual camera rig by their arrival time.
+ * Each frame is stamped with Time#nanoTime and per camera sequence number when it is offered.
+ * Only the latest unpaired frame of each camera is kept, a frame that can not be paired
+ * within the skew window is dropped and counted as unpaired.
+ */
+public class FrameSynchronizer {
+	private static final String TAG = FrameSynchronizer.class.getSimpleName();
+
+	public static final int CAMERA_NIR = 0;
+	public static final int CAMERA_VISIBLE = 1;
+
+	public interface Callback {
+		/**
+		 * called on the thread that offered the later frame of the pair while holding the internal lock,
+		 * so this should return quickly(e.g. retain frames and hand them off to a worker)
+		 * @param pair this is reused and only valid while this method is executing
+		 */
+		public void onFramePair(final FramePair pair);
+	}
+
+	private final Object mSync = new Object();
+	private final Callback mCallback;
+	private final FramePair mPair = new FramePair();
+	private final FramePool.Frame[] mPending = new FramePool.Frame[2];
+	private final long[] mSequence = new long[2];
+	private final long[] mUnpaired = new long[2];
+	private long mMaxSkewNs;
+	private long mPairs;
+	private long mSkewSumNs, mSkewMaxNs;
+
+	/**
+	 * @param maxSkewMs maximum arrival time difference of paired frames[ms]
+	 * @param callback
+	 */
+	public FrameSynchronizer(final long maxSkewMs, final Callback callback) {
+		if (callback == null) {
+			throw new NullPointerException("callback should not be null");
+		}
+		mCallback = callback;
+		setMaxSkewMs(maxSkewMs);
+	}
+
+	public void setMaxSkewMs(final long maxSkewMs) {
+		if (maxSkewMs < 0) {
+			throw new IllegalArgumentException("maxSkewMs should be zero or positive");
+		}
+		synchronized (mSync) {
+			mMaxSkewNs = maxSkewMs * 1000000L;
+		}
+	}
+
+	public long getMaxSkewMs() {
+		synchronized (mSync) {
+			return mMaxSkewNs / 1000000L;
+		}
+	}
+
+	/**
+	 * stamp the frame and try to pair it with the pending frame of the other camera
+	 * @param camera CAMERA_NIR or CAMERA_VISIBLE
+	 * @param frame ownership moves to this instance
+	 */
+	public void offer(final int camera, final FramePool.Frame frame) {
+		if ((camera != CAMERA_NIR) && (camera != CAMERA_VISIBLE)) {
+			frame.release();
+			throw new IllegalArgumentException("unknown camera:" + camera);
+		}
+		final int other = camera ^ 1;
+		synchronized (mSync) {
+			frame.timestampNs = Time.nanoTime();
+			frame.sequence = mSequence[camera]++;
+			// the latest frame of this camera replaces older unpaired one
+			if (mPending[camera] != null) {
+				mPending[camera].release();
+				mUnpaired[camera]++;
+			}
+			mPending[camera] = null;
+			final FramePool.Frame pending = mPending[other];
+			if (pending != null) {
+				final long skew = frame.timestampNs - pending.timestampNs;
+				if (skew <= mMaxSkewNs) {
+					mPending[other] = null;
+					emit(camera == CAMERA_NIR ? frame : pending, camera == CAMERA_NIR ? pending : frame, skew);
+					return;
+				}
+				// the pending frame is too old to be paired with any later frame
+				pending.release();
+				mPending[other] = null;
+				mUnpaired[other]++;
+			}
+			mPending[camera] = frame;
+		}
+	}
+
+	private void emit(final FramePool.Frame nir, final FramePool.Frame visible, final long skew) {
+		mPairs++;
+		mSkewSumNs += skew;
+		if (skew > mSkewMaxNs) {
+			mSkewMaxNs = skew;
+		}
+		mPair.set(nir, visible);
+		try {
+			mCallback.onFramePair(mPair);
+		} finally {
+			mPair.clear();
+			nir.release();
+			visible.release();
+		}
+	}
+
+	/**
+	 * release pending frames, counters and sequence numbers are kept
+	 */
+	public void clear() {
+		synchronized (mSync) {
+			for (int i = 0; i < mPending.length; i++) {
+				if (mPending[i] != null) {
+					mPending[i].release();
+					mPending[i] = null;
+				}
+			}
+		}
+	}
+
+	public long getPairCount() {
+		synchronized (mSync) {
+			return mPairs;
+		}
+	}
+
+	/**
+	 * @param camera CAMERA_NIR or CAMERA_VISIBLE
+	 * @return number of frames dropped without pairing
+	 */
+	public long getUnpairedCount(final int camera) {
+		synchronized (mSync) {
+			return mUnpaired[camera];
+		}
+	}
+
+	/**
+	 * @return mean absolute arrival time difference of emitted pairs[ns]
+	 */
+	public long getMeanSkewNs() {
+		synchronized (mSync) {
+			return mPairs > 0 ? mSkewSumNs / mPairs : 0;
+		}
+	}
+
+	/**
+	 * @return maximum absolute arrival time difference of emitted pairs[ns]
+	 */
+	public long getMaxObservedSkewNs() {
+		synchronized (mSync) {
+			return mSkewMaxNs;
+		}
+	}
+
+	public void resetCounters() {
+		synchronized (mSync) {
+			mPairs = mSkewSumNs = mSkewMaxNs = 0;
+			mUnpaired[CAMERA_NIR] = mUnpaired[CAMERA_VISIBLE] = 0;
+		}
+	}
+
+	@Override
+	public String toString() {
+		synchronized (mSync) {
+			return TAG + "{pairs=" + mPairs
+				+ ",unpairedNir=" + mUnpaired[CAMERA_NIR]
+				+ ",unpairedVisible=" + mUnpaired[CAMERA_VISIBLE]
+				+ ",meanSkew=" + (mPairs > 0 ? mSkewSumNs / mPairs : 0) + "ns"
+				+ ",maxSkew=" + mSkewMaxNs + "ns}";
+		}
+	}
+}
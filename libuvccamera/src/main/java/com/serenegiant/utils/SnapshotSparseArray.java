@@ -0,0 +1,139 @@
+package com.serenegiant.utils;
+
+import java.util.Arrays;
+
+/**
+ * Copy-on-write map from int keys to values, a replacement of SparseArray for read-mostly lists.
+ * Keys are kept sorted like SparseArray. Mutations are serialized by this instance
+ * and replace the key and value arrays instead of modifying them,
+ * so #snapshot returns the current values without locking
+ * and a reader that iterates all values every frame(e.g. a render loop)
+ * never contends with threads that add or remove entries.
+ * Snapshot arrays are shared and must not be modified.
+ */
+public class SnapshotSparseArray<E> {
+	private static final int[] EMPTY_KEYS = new int[0];
+
+	private final E[] mEmpty;
+	private int[] mKeys = EMPTY_KEYS;
+	private volatile E[] mValues;
+
+	/**
+	 * @param empty zero length array of the value type, used while there is no entry
+	 */
+	public SnapshotSparseArray(final E[] empty) {
+		if (empty.length != 0) {
+			throw new IllegalArgumentException("empty should be zero length array");
+		}
+		mEmpty = empty;
+		mValues = empty;
+	}
+
+	/**
+	 * values in ascending key order at the time of the last mutation, never null
+	 * @return
+	 */
+	public E[] snapshot() {
+		return mValues;
+	}
+
+	public synchronized E get(final int key) {
+		final int ix = Arrays.binarySearch(mKeys, key);
+		return ix >= 0 ? mValues[ix] : null;
+	}
+
+	public int size() {
+		return mValues.length;
+	}
+
+	/**
+	 * add or replace the value of the key
+	 * @param key
+	 * @param value
+	 */
+	public synchronized void put(final int key, final E value) {
+		final int[] keys = mKeys;
+		final E[] values = mValues;
+		int ix = Arrays.binarySearch(keys, key);
+		if (ix >= 0) {
+			final E[] newValues = values.clone();
+			newValues[ix] = value;
+			mValues = newValues;
+			return;
+		}
+		ix = ~ix;
+		final int n = keys.length;
+		final int[] newKeys = new int[n + 1];
+		final E[] newValues = Arrays.copyOf(mEmpty, n + 1);
+		System.arraycopy(keys, 0, newKeys, 0, ix);
+		System.arraycopy(values, 0, newValues, 0, ix);
+		newKeys[ix] = key;
+		newValues[ix] = value;
+		System.arraycopy(keys, ix, newKeys, ix + 1, n - ix);
+		System.arraycopy(values, ix, newValues, ix + 1, n - ix);
+		mKeys = newKeys;
+		mValues = newValues;
+	}
+
+	/**
+	 * @param key
+	 * @return removed value, null if the key was not found
+	 */
+	public synchronized E remove(final int key) {
+		final int ix = Arrays.binarySearch(mKeys, key);
+		if (ix < 0) return null;
+		final E value = mValues[ix];
+		removeAt(ix);
+		return value;
+	}
+
+	/**
+	 * remove the entry that holds the value(compared by identity)
+	 * @param value
+	 * @return true if removed
+	 */
+	public synchronized boolean removeValue(final E value) {
+		final E[] values = mValues;
+		for (int i = 0; i < values.length; i++) {
+			if (values[i] == value) {
+				removeAt(i);
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * remove all entries
+	 * @return values that were removed
+	 */
+	public synchronized E[] clear() {
+		final E[] result = mValues;
+		mKeys = EMPTY_KEYS;
+		mValues = mEmpty;
+		return result;
+	}
+
+	/**
+	 * caller should hold the lock of this instance
+	 * @param ix
+	 */
+	private void removeAt(final int ix) {
+		final int[] keys = mKeys;
+		final E[] values = mValues;
+		final int n = keys.length - 1;
+		if (n == 0) {
+			mKeys = EMPTY_KEYS;
+			mValues = mEmpty;
+			return;
+		}
+		final int[] newKeys = new int[n];
+		final E[] newValues = Arrays.copyOf(mEmpty, n);
+		System.arraycopy(keys, 0, newKeys, 0, ix);
+		System.arraycopy(values, 0, newValues, 0, ix);
+		System.arraycopy(keys, ix + 1, newKeys, ix, n - ix);
+		System.arraycopy(values, ix + 1, newValues, ix, n - ix);
+		mKeys = newKeys;
+		mValues = newValues;
+	}
+}
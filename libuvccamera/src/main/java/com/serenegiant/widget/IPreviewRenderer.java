@@ -0,0 +1,17 @@
+package com.serenegiant.widget;
+
+import android.graphics.SurfaceTexture;
+
+/**
+ * renders camera frames on a TextureView, implemented by UVCCameraTextureView's own render thread
+ * and by SharedRenderThread
+ */
+interface IPreviewRenderer {
+	/**
+	 * (re)create the SurfaceTexture that receives camera frames
+	 * @return null if already released
+	 */
+	public SurfaceTexture getPreviewTexture();
+	public void resize(final int width, final int height);
+	public void release();
+}
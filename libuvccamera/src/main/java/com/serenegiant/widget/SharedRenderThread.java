@@ -0,0 +1,378 @@
+package com.serenegiant.widget;
+
+import android.graphics.SurfaceTexture;
+import android.opengl.Matrix;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Looper;
+import android.os.Message;
+import android.util.Log;
+
+import com.serenegiant.glutils.EGLBase;
+import com.serenegiant.glutils.GLDrawer2D;
+import com.serenegiant.glutils.GLHelper;
+import com.serenegiant.utils.FpsCounter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One render thread and EGL context shared by several UVCCameraTextureViews.
+ * Frame available notifications of all previews are coalesced into one render request,
+ * and each render pass draws every preview that has a new frame,
+ * so N cameras need one GL thread instead of N.
+ * Set this to the views with UVCCameraTextureView#setSharedRenderThread before their surfaces
+ * become available and call #release after all of the views are paused.
+ */
+public class SharedRenderThread {
+	private static final boolean DEBUG = false;	// TODO set false on release
+	private static final String TAG = SharedRenderThread.class.getSimpleName();
+	private static final String THREAD_NAME = "SharedRenderThread";
+
+	private static final int MSG_REQUEST_RENDER = 1;
+
+	private final Object mSync = new Object();
+	private final HandlerThread mThread;
+	private final Handler mHandler;
+	/**
+	 * previews, only accessed on the render thread
+	 */
+	private final List<Client> mClients = new ArrayList<Client>();
+	private EGLBase mEgl;
+	private EGLBase.IEglSurface mHolder;
+	private GLDrawer2D mDrawer;
+	private boolean mRenderRequested;
+	private volatile boolean mIsRunning;
+	private long mPasses, mFramesDrawn;
+
+	public SharedRenderThread() {
+		mThread = new HandlerThread(THREAD_NAME);
+		mThread.start();
+		mHandler = new Handler(mThread.getLooper(), mHandlerCallback);
+		mIsRunning = true;
+		runAndWait(new Runnable() {
+			@Override
+			public void run() {
+				mEgl = EGLBase.createFrom(null, false, false);
+				// dummy surface to keep the context current while no preview exists
+				mHolder = mEgl.createOffscreen(1, 1);
+				mHolder.makeCurrent();
+				mDrawer = new GLDrawer2D(true);
+			}
+		});
+	}
+
+	/**
+	 * release all previews and the EGL context, this instance can not be reused
+	 */
+	public void release() {
+		if (DEBUG) Log.v(TAG, "release:");
+		if (!mIsRunning) return;
+		runAndWait(new Runnable() {
+			@Override
+			public void run() {
+				for (int i = mClients.size() - 1; i >= 0; i--) {
+					mClients.get(i).releaseOnRenderThread();
+				}
+				mClients.clear();
+				if (mDrawer != null) {
+					mDrawer.release();
+					mDrawer = null;
+				}
+				if (mHolder != null) {
+					mHolder.release();
+					mHolder = null;
+				}
+				if (mEgl != null) {
+					mEgl.release();
+					mEgl = null;
+				}
+			}
+		});
+		mIsRunning = false;
+		mHandler.removeMessages(MSG_REQUEST_RENDER);
+		mThread.quit();
+	}
+
+	public boolean isRunning() {
+		return mIsRunning;
+	}
+
+	/**
+	 * @return number of render passes
+	 */
+	public long getPassCount() {
+		synchronized (mSync) {
+			return mPasses;
+		}
+	}
+
+	/**
+	 * @return number of preview frames drawn in all passes
+	 */
+	public long getFrameCount() {
+		synchronized (mSync) {
+			return mFramesDrawn;
+		}
+	}
+
+	@Override
+	public String toString() {
+		synchronized (mSync) {
+			return TAG + "{passes=" + mPasses + ",frames=" + mFramesDrawn + "}";
+		}
+	}
+
+	/**
+	 * add a preview drawn on the specific SurfaceTexture of a TextureView
+	 */
+	IPreviewRenderer createRenderer(final FpsCounter counter,
+		final SurfaceTexture surface, final int width, final int height) {
+
+		if (!mIsRunning) {
+			throw new IllegalStateException("already released");
+		}
+		final Client client = new Client(counter, surface, width, height);
+		runAndWait(new Runnable() {
+			@Override
+			public void run() {
+				client.init();
+				mClients.add(client);
+			}
+		});
+		return client;
+	}
+
+	/**
+	 * execute the task on the render thread and wait for it
+	 */
+	private void runAndWait(final Runnable task) {
+		if (Looper.myLooper() == mThread.getLooper()) {
+			task.run();
+			return;
+		}
+		final boolean[] done = new boolean[1];
+		synchronized (done) {
+			final boolean posted = mHandler.post(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						task.run();
+					} finally {
+						synchronized (done) {
+							done[0] = true;
+							done.notifyAll();
+						}
+					}
+				}
+			});
+			while (posted && !done[0]) {
+				try {
+					done.wait();
+				} catch (final InterruptedException e) {
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * request one render pass, requests before the pass starts are merged
+	 */
+	private void requestRender() {
+		synchronized (mSync) {
+			if (!mRenderRequested && mIsRunning) {
+				mRenderRequested = true;
+				mHandler.sendEmptyMessage(MSG_REQUEST_RENDER);
+			}
+		}
+	}
+
+	private final Handler.Callback mHandlerCallback = new Handler.Callback() {
+		@Override
+		public boolean handleMessage(final Message msg) {
+			if (msg.what == MSG_REQUEST_RENDER) {
+				onDrawFrame();
+				return true;
+			}
+			return false;
+		}
+	};
+
+	/**
+	 * draw every preview that has a new frame
+	 */
+	private void onDrawFrame() {
+		synchronized (mSync) {
+			mRenderRequested = false;
+		}
+		int drawn = 0;
+		final int n = mClients.size();
+		for (int i = 0; i < n; i++) {
+			if (mClients.get(i).drawIfAvailable()) {
+				drawn++;
+			}
+		}
+		synchronized (mSync) {
+			mPasses++;
+			mFramesDrawn += drawn;
+		}
+	}
+
+	/**
+	 * a preview of SharedRenderThread
+	 */
+	private final class Client implements IPreviewRenderer, SurfaceTexture.OnFrameAvailableListener {
+		private final FpsCounter mFpsCounter;
+		private final SurfaceTexture mSurface;
+		private final float[] mStMatrix = new float[16];
+		/**
+		 * IEglSurface instance related to the TextureView
+		 */
+		private EGLBase.IEglSurface mEglSurface;
+		private int mTexId = -1;
+		/**
+		 * SurfaceTexture instance to receive video images
+		 */
+		private SurfaceTexture mPreviewSurface;
+		private int mViewWidth, mViewHeight;
+		private volatile boolean mIsActive = true;
+		private volatile boolean mFrameAvailable;
+
+		private Client(final FpsCounter counter, final SurfaceTexture surface,
+			final int width, final int height) {
+
+			mFpsCounter = counter;
+			mSurface = surface;
+			mViewWidth = width;
+			mViewHeight = height;
+		}
+
+		/**
+		 * called on the render thread
+		 */
+		private void init() {
+			mEglSurface = mEgl.createFromSurface(mSurface);
+		}
+
+		@Override
+		public SurfaceTexture getPreviewTexture() {
+			if (DEBUG) Log.v(TAG, "getPreviewTexture:");
+			if (!mIsActive) return null;
+			runAndWait(new Runnable() {
+				@Override
+				public void run() {
+					updatePreviewSurface();
+				}
+			});
+			return mPreviewSurface;
+		}
+
+		@Override
+		public void resize(final int width, final int height) {
+			if (DEBUG) Log.v(TAG, "resize:");
+			if (!mIsActive) return;
+			runAndWait(new Runnable() {
+				@Override
+				public void run() {
+					if (((width > 0) && (width != mViewWidth)) || ((height > 0) && (height != mViewHeight))) {
+						mViewWidth = width;
+						mViewHeight = height;
+						updatePreviewSurface();
+					}
+				}
+			});
+		}
+
+		@Override
+		public void release() {
+			if (DEBUG) Log.v(TAG, "release:");
+			if (!mIsActive) return;
+			mIsActive = false;
+			if (mIsRunning) {
+				mHandler.post(new Runnable() {
+					@Override
+					public void run() {
+						if (mClients.remove(Client.this)) {
+							releaseOnRenderThread();
+						}
+					}
+				});
+			}
+		}
+
+		@Override
+		public void onFrameAvailable(final SurfaceTexture surfaceTexture) {
+			if (mIsActive) {
+				mFpsCounter.count();
+				mFrameAvailable = true;
+				requestRender();
+			}
+		}
+
+		private void updatePreviewSurface() {
+			if (DEBUG) Log.i(TAG, "updatePreviewSurface:");
+			if (mPreviewSurface != null) {
+				mPreviewSurface.setOnFrameAvailableListener(null);
+				mPreviewSurface.release();
+				mPreviewSurface = null;
+			}
+			mEglSurface.makeCurrent();
+			if (mTexId >= 0) {
+				mDrawer.deleteTex(mTexId);
+			}
+			// create texture and SurfaceTexture for input from camera
+			mTexId = mDrawer.initTex();
+			mPreviewSurface = new SurfaceTexture(mTexId);
+			mPreviewSurface.setDefaultBufferSize(mViewWidth, mViewHeight);
+			// listener is called on the render thread because it owns a Looper
+			mPreviewSurface.setOnFrameAvailableListener(this);
+		}
+
+		/**
+		 * @return true if a new frame was drawn
+		 */
+		private boolean drawIfAvailable() {
+			if (!mFrameAvailable || (mPreviewSurface == null)) return false;
+			mFrameAvailable = false;
+			try {
+				mEglSurface.makeCurrent();
+				mPreviewSurface.updateTexImage();
+				mPreviewSurface.getTransformMatrix(mStMatrix);
+				if (UVCCameraTextureView.isMirror) {
+					Matrix.scaleM(mStMatrix, 0, -1, 1, 1);
+					Matrix.translateM(mStMatrix, 0, -1, 0, 0);
+				}
+				mDrawer.draw(mTexId, mStMatrix, 0);
+				mEglSurface.swap();
+			} catch (final Exception e) {
+				Log.w(TAG, e);
+				return false;
+			}
+			return true;
+		}
+
+		private void releaseOnRenderThread() {
+			mIsActive = false;
+			if (mPreviewSurface != null) {
+				mPreviewSurface.setOnFrameAvailableListener(null);
+				mPreviewSurface.release();
+				mPreviewSurface = null;
+			}
+			if (mTexId >= 0) {
+				if (mEglSurface != null) {
+					mEglSurface.makeCurrent();
+				}
+				GLHelper.deleteTex(mTexId);
+				mTexId = -1;
+			}
+			if (mEglSurface != null) {
+				mEglSurface.release();
+				mEglSurface = null;
+			}
+			if (mHolder != null) {
+				mHolder.makeCurrent();
+			}
+		}
+	}
+}
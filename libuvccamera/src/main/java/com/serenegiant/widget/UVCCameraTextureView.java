@@ -53,7 +53,8 @@ public class UVCCameraTextureView extends AspectRatioTextureView    // API >= 14
   private static final String TAG = "UVCCameraTextureView";
 
   private boolean mHasSurface;
-  private RenderHandler mRenderHandler;
+  private IPreviewRenderer mRenderHandler;
+  private SharedRenderThread mSharedRenderThread;
   private final Object mCaptureSync = new Object();
   private Bitmap mTempBitmap;
   private boolean mReqesutCaptureStillImage;
@@ -81,10 +82,27 @@ public class UVCCameraTextureView extends AspectRatioTextureView    // API >= 14
   public void onResume() {
     if (DEBUG) Log.v(TAG, "onResume:");
     if (mHasSurface) {
-      mRenderHandler = RenderHandler.createHandler(mFpsCounter, super.getSurfaceTexture(), getWidth(), getHeight());
+      mRenderHandler = createRenderer(super.getSurfaceTexture(), getWidth(), getHeight());
     }
   }
 
+  /**
+   * render on the specific shared thread instead of a private one,
+   * this should be called before the surface becomes available(and before #onResume)
+   *
+   * @param thread null to use a private render thread
+   */
+  public void setSharedRenderThread(final SharedRenderThread thread) {
+    mSharedRenderThread = thread;
+  }
+
+  private IPreviewRenderer createRenderer(final SurfaceTexture surface, final int width, final int height) {
+    if ((mSharedRenderThread != null) && mSharedRenderThread.isRunning()) {
+      return mSharedRenderThread.createRenderer(mFpsCounter, surface, width, height);
+    }
+    return RenderHandler.createHandler(mFpsCounter, surface, width, height);
+  }
+
   @Override
   public void onPause() {
     if (DEBUG) Log.v(TAG, "onPause:");
@@ -102,7 +120,7 @@ public class UVCCameraTextureView extends AspectRatioTextureView    // API >= 14
   public void onSurfaceTextureAvailable(final SurfaceTexture surface, final int width, final int height) {
     if (DEBUG) Log.v(TAG, "onSurfaceTextureAvailable:" + surface);
     if (mRenderHandler == null) {
-      mRenderHandler = RenderHandler.createHandler(mFpsCounter, surface, width, height);
+      mRenderHandler = createRenderer(surface, width, height);
     } else {
       mRenderHandler.resize(width, height);
     }
@@ -241,7 +259,7 @@ public class UVCCameraTextureView extends AspectRatioTextureView    // API >= 14
    * @author saki
    */
   private static final class RenderHandler extends Handler
-      implements SurfaceTexture.OnFrameAvailableListener {
+      implements SurfaceTexture.OnFrameAvailableListener, IPreviewRenderer {
 
     private static final int MSG_REQUEST_RENDER = 1;
     private static final int MSG_SET_ENCODER = 2;
@@ -266,6 +284,7 @@ public class UVCCameraTextureView extends AspectRatioTextureView    // API >= 14
       mFpsCounter = counter;
     }
 
+    @Override
     public final SurfaceTexture getPreviewTexture() {
       if (DEBUG) Log.v(TAG, "getPreviewTexture:");
       if (mIsActive) {
@@ -282,6 +301,7 @@ public class UVCCameraTextureView extends AspectRatioTextureView    // API >= 14
       }
     }
 
+    @Override
     public void resize(final int width, final int height) {
       if (DEBUG) Log.v(TAG, "resize:");
       if (mIsActive) {
@@ -295,6 +315,7 @@ public class UVCCameraTextureView extends AspectRatioTextureView    // API >= 14
       }
     }
 
+    @Override
     public final void release() {
       if (DEBUG) Log.v(TAG, "release:");
       if (mIsActive) {
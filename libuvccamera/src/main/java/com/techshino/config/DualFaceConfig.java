@@ -28,6 +28,7 @@ public class DualFaceConfig implements Serializable {
   private float mThreshold = 0.7f; // 检活默认阈值
   private int mPidL = 514;
   private int mPidR = 560;
+  private boolean mNirLumaOnly = true; // 近红外摄像头只用亮度生成检测图像
 
   private static String sMessage;
 
@@ -107,6 +108,14 @@ public class DualFaceConfig implements Serializable {
     mPidR = pidR;
   }
 
+  public boolean isNirLumaOnly() {
+    return mNirLumaOnly;
+  }
+
+  public void setNirLumaOnly(boolean nirLumaOnly) {
+    mNirLumaOnly = nirLumaOnly;
+  }
+
   public static void setMessage(String message) {
     sMessage = message;
   }
@@ -123,6 +132,7 @@ public class DualFaceConfig implements Serializable {
         ", mThreshold=" + mThreshold +
         ", mPidL=" + mPidL +
         ", mPidR=" + mPidR +
+        ", mNirLumaOnly=" + mNirLumaOnly +
         '}';
   }
 
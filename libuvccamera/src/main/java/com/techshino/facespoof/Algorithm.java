@@ -81,6 +81,42 @@ public class Algorithm {
   public native int colorNormal(byte[] rgb24, int width, int height, int[] faceRect,
                                 float[] score, double[] feature);
 
+  /**
+   * 近红外检活，结果写入复用的result，不分配数组
+   *
+   * @return 0成功， >0为失败
+   */
+  public int nir(byte[] rgb24, int colorFlag, int width, int height, DetectionResult result) {
+    result.reset();
+    result.status = nir(rgb24, colorFlag, width, height,
+        result.faceRect, result.score, result.feature);
+    return result.status;
+  }
+
+  /**
+   * 可见光简化版检活，结果写入复用的result，是否活体用DetectionResult#isLive取得
+   *
+   * @return 0成功， >0为失败
+   */
+  public int colorSimple(byte[] rgb24, int width, int height, DetectionResult result) {
+    result.reset();
+    result.status = colorSimple(rgb24, width, height,
+        result.faceRect, result.isLive, result.feature);
+    return result.status;
+  }
+
+  /**
+   * 可见光正常版检活，结果写入复用的result，分数用DetectionResult#getScore取得
+   *
+   * @return 0成功， >0为失败
+   */
+  public int colorNormal(byte[] rgb24, int width, int height, DetectionResult result) {
+    result.reset();
+    result.status = colorNormal(rgb24, width, height,
+        result.faceRect, result.score, result.feature);
+    return result.status;
+  }
+
   /**
    * rgb to jpg
    *
@@ -0,0 +1,95 @@
+package com.techshino.facespoof;
+
+import java.util.Arrays;
+
+/**
+ * Algorithm检活的输出，预先分配好native接口需要的数组，每个检测线程持有一个反复使用
+ * <p>
+ * 不是线程安全的，只能在填充它的线程上读取
+ */
+public class DetectionResult {
+
+  public static final int FEATURE_LENGTH = 20;
+
+  // 传给native的输出数组
+  final int[] faceRect = new int[4];
+  final float[] score = new float[1];
+  final int[] isLive = new int[1];
+  final double[] feature = new double[FEATURE_LENGTH];
+  int status = -1;
+
+  /**
+   * 清空上一次的结果，Algorithm的重载方法在调用native之前会先调用
+   */
+  public void reset() {
+    Arrays.fill(faceRect, 0);
+    score[0] = 0;
+    isLive[0] = 0;
+    Arrays.fill(feature, 0);
+    status = -1;
+  }
+
+  /**
+   * @return native的返回值， 0成功， >0为失败， 还没有检测过时为-1
+   */
+  public int getStatus() {
+    return status;
+  }
+
+  public boolean isSuccess() {
+    return status == 0;
+  }
+
+  public int getFaceX() {
+    return faceRect[0];
+  }
+
+  public int getFaceY() {
+    return faceRect[1];
+  }
+
+  public int getFaceWidth() {
+    return faceRect[2];
+  }
+
+  public int getFaceHeight() {
+    return faceRect[3];
+  }
+
+  /**
+   * 检活分数，nir和colorNormal有效
+   */
+  public float getScore() {
+    return score[0];
+  }
+
+  /**
+   * 简化版颜色判断的结果，colorSimple有效
+   */
+  public boolean isLive() {
+    return isLive[0] != 0;
+  }
+
+  /**
+   * @param index 0到FEATURE_LENGTH-1
+   */
+  public double getFeature(int index) {
+    return feature[index];
+  }
+
+  /**
+   * 复制特征值到调用方的数组
+   *
+   * @param out 至少FEATURE_LENGTH
+   */
+  public void copyFeature(double[] out) {
+    System.arraycopy(feature, 0, out, 0, FEATURE_LENGTH);
+  }
+
+  @Override
+  public String toString() {
+    return "DetectionResult{status=" + status
+        + ",rect=[" + faceRect[0] + "," + faceRect[1] + "," + faceRect[2] + "," + faceRect[3] + "]"
+        + ",score=" + score[0] + ",isLive=" + isLive[0] + "}";
+  }
+}
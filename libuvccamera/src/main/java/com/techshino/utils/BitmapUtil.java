@@ -2,12 +2,22 @@ package com.techshino.utils;
 
 import android.graphics.Bitmap;
 
+import java.nio.IntBuffer;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
 /**
  * Created by wangzhi on 2017/8/1.
  */
 
 public class BitmapUtil {
 
+  // 像素数超过这个值时并行转换才有收益
+  private static final int PARALLEL_MIN_PIXELS = 320 * 240;
+  private static final int PARALLELISM = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+  private static BandWorkers sWorkers;
+
   public static Bitmap rgbByteToBitmap(byte[] rgb, int width, int height) {
     if (rgb == null)
       return null;
@@ -18,13 +28,38 @@ public class BitmapUtil {
     return bmp;
   }
 
+  /**
+   * 转换到可复用的Bitmap，不分配像素数组
+   *
+   * @param rgb      RGB24数据
+   * @param width
+   * @param height
+   * @param reuse    可变的ARGB_8888且大小一致时直接写入，否则新建一个
+   * @param pixels   中间像素缓存，至少width*height
+   * @param parallel 大图时按行分块并行转换
+   * @return 写入的Bitmap
+   */
+  public static Bitmap rgbByteToBitmap(byte[] rgb, int width, int height,
+                                       Bitmap reuse, int[] pixels, boolean parallel) {
+    if (parallel) {
+      convertByteToColorParallel(rgb, width, height, pixels);
+    } else {
+      convertByteToColor(rgb, 0, pixels, 0, width * height);
+    }
+    Bitmap bmp = reuse;
+    if (bmp == null || bmp.isRecycled() || !bmp.isMutable()
+        || bmp.getWidth() != width || bmp.getHeight() != height
+        || bmp.getConfig() != Bitmap.Config.ARGB_8888) {
+      bmp = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+    }
+    bmp.setPixels(pixels, 0, width, 0, 0, width, height);
+    return bmp;
+  }
+
   // 将一个byte数转成int
 // 实现这个函数的目的是为了将byte数当成无符号的变量去转化成int
   public static int convertByteToInt(int data) {
-
-    int heightBit = (int) ((data >> 4) & 0x0F);
-    int lowBit = (int) (0x0F & data);
-    return heightBit * 16 + lowBit;
+    return data & 0xFF;
   }
 
 
@@ -42,28 +77,196 @@ public class BitmapUtil {
 
     // 一般情况下data数组的长度应该是3的倍数，这里做个兼容，多余的RGB数据用黑色0XFF000000填充
     int[] color = new int[size / 3 + arg];
-    int red, green, blue;
+    convertByteToColor(data, 0, color, 0, size / 3);
+    if (arg != 0) {
+      color[color.length - 1] = 0xFF000000;
+    }
 
-    if (arg == 0) {
-      for (int i = 0; i < color.length; ++i) {
-        red = convertByteToInt(data[i * 3]);
-        green = convertByteToInt(data[i * 3 + 1]);
-        blue = convertByteToInt(data[i * 3 + 2]);
+    return color;
+  }
 
-        // 获取RGB分量值通过按位或生成int的像素值
-        color[i] = (red << 16) | (green << 8) | blue | 0xFF000000;
-      }
+  /**
+   * RGB24转ARGB写入调用方的数组
+   *
+   * @param rgb       RGB24数据
+   * @param rgbOffset 起始像素在rgb里的字节偏移
+   * @param out       输出
+   * @param outOffset 输出的起始下标
+   * @param pixels    像素数
+   */
+  public static void convertByteToColor(byte[] rgb, int rgbOffset, int[] out, int outOffset, int pixels) {
+    int p = rgbOffset;
+    final int end = outOffset + pixels;
+    for (int i = outOffset; i < end; i++, p += 3) {
+      out[i] = 0xFF000000
+          | ((rgb[p] & 0xFF) << 16)
+          | ((rgb[p + 1] & 0xFF) << 8)
+          | (rgb[p + 2] & 0xFF);
+    }
+  }
+
+  /**
+   * RGB24转ARGB写入IntBuffer的当前位置，写完后position前进pixels
+   */
+  public static void convertByteToColor(byte[] rgb, IntBuffer out, int pixels) {
+    if (out.hasArray()) {
+      final int pos = out.position();
+      convertByteToColor(rgb, 0, out.array(), out.arrayOffset() + pos, pixels);
+      out.position(pos + pixels);
     } else {
-      for (int i = 0; i < color.length - 1; ++i) {
-        red = convertByteToInt(data[i * 3]);
-        green = convertByteToInt(data[i * 3 + 1]);
-        blue = convertByteToInt(data[i * 3 + 2]);
-        color[i] = (red << 16) | (green << 8) | blue | 0xFF000000;
+      for (int i = 0, p = 0; i < pixels; i++, p += 3) {
+        out.put(0xFF000000
+            | ((rgb[p] & 0xFF) << 16)
+            | ((rgb[p + 1] & 0xFF) << 8)
+            | (rgb[p + 2] & 0xFF));
       }
+    }
+  }
 
-      color[color.length - 1] = 0xFF000000;
+  /**
+   * 按行分块并行转换，小图或单核时退化为单线程
+   * 分块任务和工作线程都是预先创建的，每次调用不分配对象；其它线程正在并行转换时在调用线程上单线程转换。
+   * 返回时所有分块都已写完，等待中被中断时剩下的分块由调用线程转换，返回后中断状态保持不变
+   *
+   * @param rgb    RGB24数据，至少width*height*3
+   * @param width
+   * @param height
+   * @param out    输出，至少width*height
+   */
+  public static void convertByteToColorParallel(final byte[] rgb, final int width, final int height, final int[] out) {
+    if (out.length < width * height || rgb.length < width * height * 3) {
+      throw new IllegalArgumentException("buffer too small");
     }
+    final int bands = Math.min(PARALLELISM, height);
+    if (bands <= 1 || width * height < PARALLEL_MIN_PIXELS
+        || !getWorkers().convert(rgb, width, height, out, bands)) {
+      convertByteToColor(rgb, 0, out, 0, width * height);
+    }
+  }
 
-    return color;
+  private static synchronized BandWorkers getWorkers() {
+    if (sWorkers == null) {
+      sWorkers = new BandWorkers(PARALLELISM - 1);
+    }
+    return sWorkers;
+  }
+
+  /**
+   * 第0块在调用线程上转换，第1块以后各有一个常驻的工作线程
+   */
+  private static final class BandWorkers {
+    private static final int IDLE = 0;
+    private static final int PENDING = 1;
+    private static final int RUNNING = 2;
+
+    private final ReentrantLock mLock = new ReentrantLock();
+    // 下标为工作线程，对应第(下标+1)块
+    private final AtomicIntegerArray mStates;
+    private final Thread[] mThreads;
+    private volatile Thread mCaller;
+    private volatile RuntimeException mFailure;
+    // 本次转换的参数，在mStates置为PENDING之前写入
+    private byte[] mRgb;
+    private int[] mOut;
+    private int mWidth;
+    private int mHeight;
+    private int mRowsPerBand;
+
+    BandWorkers(int workers) {
+      mStates = new AtomicIntegerArray(workers);
+      mThreads = new Thread[workers];
+      for (int i = 0; i < workers; i++) {
+        final int index = i;
+        final Thread thread = new Thread(new Runnable() {
+          @Override
+          public void run() {
+            work(index);
+          }
+        }, "BitmapUtil-" + i);
+        thread.setDaemon(true);
+        mThreads[i] = thread;
+        thread.start();
+      }
+    }
+
+    /**
+     * @return 其它线程正在使用时返回false，由调用方自己转换
+     */
+    boolean convert(byte[] rgb, int width, int height, int[] out, int bands) {
+      if (!mLock.tryLock()) {
+        return false;
+      }
+      try {
+        mRgb = rgb;
+        mOut = out;
+        mWidth = width;
+        mHeight = height;
+        mRowsPerBand = (height + bands - 1) / bands;
+        mCaller = Thread.currentThread();
+        final int workers = bands - 1;
+        for (int i = 0; i < workers; i++) {
+          mStates.set(i, PENDING);
+          LockSupport.unpark(mThreads[i]);
+        }
+        convertBand(0);
+        // 还没被工作线程领走的块直接在调用线程上转换，不等待
+        for (int i = 0; i < workers; i++) {
+          if (mStates.compareAndSet(i, PENDING, RUNNING)) {
+            convertBand(i + 1);
+            mStates.set(i, IDLE);
+          }
+        }
+        // 正在转换的块很快结束，中断时也等它们写完再返回
+        boolean interrupted = false;
+        for (int i = 0; i < workers; i++) {
+          while (mStates.get(i) != IDLE) {
+            LockSupport.park(this);
+            if (Thread.interrupted()) {
+              interrupted = true;
+            }
+          }
+        }
+        if (interrupted) {
+          Thread.currentThread().interrupt();
+        }
+        final RuntimeException failure = mFailure;
+        if (failure != null) {
+          mFailure = null;
+          throw failure;
+        }
+        return true;
+      } finally {
+        mRgb = null;
+        mOut = null;
+        mCaller = null;
+        mLock.unlock();
+      }
+    }
+
+    private void work(int index) {
+      for (;;) {
+        if (mStates.compareAndSet(index, PENDING, RUNNING)) {
+          try {
+            convertBand(index + 1);
+          } catch (RuntimeException e) {
+            mFailure = e;
+          } finally {
+            final Thread caller = mCaller;
+            mStates.set(index, IDLE);
+            LockSupport.unpark(caller);
+          }
+        } else {
+          LockSupport.park(this);
+        }
+      }
+    }
+
+    private void convertBand(int band) {
+      final int top = band * mRowsPerBand;
+      if (top < mHeight) {
+        final int offset = top * mWidth;
+        convertByteToColor(mRgb, offset * 3, mOut, offset, Math.min(mRowsPerBand, mHeight - top) * mWidth);
+      }
+    }
   }
 }
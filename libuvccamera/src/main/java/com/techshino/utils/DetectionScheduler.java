@@ -0,0 +1,141 @@
+package com.techshino.utils;
+
+/**
+ * 按实测耗时自适应调整检测频率
+ * <p>
+ * 每次检测记录各阶段耗时（指数滑动平均），下一次检测的开始时间 = 本次开始时间 + 总耗时 / CPU预算。
+ * 例如预算0.5时检测线程最多占用一个核心的一半时间，快的设备每秒检测次数更多，慢的设备不会过载。
+ * 每路摄像头一个实例，只在该路的检测线程上调用shouldRun/endStage/end。
+ */
+public class DetectionScheduler {
+
+  public static final int STAGE_CONVERT = 0; // YUV转RGB
+  public static final int STAGE_INFERENCE = 1; // 算法检测
+  public static final int STAGE_NUM = 2;
+
+  private static final float EWMA_ALPHA = 0.2f;
+  private static final long DEFAULT_MAX_INTERVAL_NS = 1000000000L;
+
+  private final float mCpuBudget;
+  private final long mMinIntervalNs;
+  private final long mMaxIntervalNs;
+  private final long[] mStageLatencyNs = new long[STAGE_NUM];
+  private long mTotalLatencyNs;
+  private long mIntervalNs;
+  private long mStartNs, mStageStartNs;
+  private long mNextRunNs;
+  private long mRunCount, mSkipCount;
+
+  /**
+   * @param cpuBudget 检测线程允许占用的CPU时间比例 (0, 1]
+   */
+  public DetectionScheduler(float cpuBudget) {
+    this(cpuBudget, 0, DEFAULT_MAX_INTERVAL_NS / 1000000L);
+  }
+
+  /**
+   * @param cpuBudget     检测线程允许占用的CPU时间比例 (0, 1]
+   * @param minIntervalMs 两次检测的最小间隔ms
+   * @param maxIntervalMs 两次检测的最大间隔ms，慢设备上也至少按这个频率检测
+   */
+  public DetectionScheduler(float cpuBudget, long minIntervalMs, long maxIntervalMs) {
+    if (!(cpuBudget > 0 && cpuBudget <= 1)) {
+      throw new IllegalArgumentException("cpuBudget should be in (0, 1]");
+    }
+    if (minIntervalMs < 0 || maxIntervalMs < minIntervalMs) {
+      throw new IllegalArgumentException("invalid interval");
+    }
+    mCpuBudget = cpuBudget;
+    mMinIntervalNs = minIntervalMs * 1000000L;
+    mMaxIntervalNs = maxIntervalMs * 1000000L;
+    mIntervalNs = mMinIntervalNs;
+  }
+
+  /**
+   * 判断当前帧是否需要检测，返回true时开始计时，检测完成后必须调用end
+   */
+  public synchronized boolean shouldRun() {
+    final long now = System.nanoTime();
+    if (mRunCount > 0 && now - mNextRunNs < 0) {
+      mSkipCount++;
+      return false;
+    }
+    mRunCount++;
+    mStartNs = mStageStartNs = now;
+    return true;
+  }
+
+  /**
+   * 记录一个阶段结束，阶段按调用顺序连续计时
+   *
+   * @param stage STAGE_CONVERT或STAGE_INFERENCE
+   */
+  public synchronized void endStage(int stage) {
+    final long now = System.nanoTime();
+    mStageLatencyNs[stage] = average(mStageLatencyNs[stage], now - mStageStartNs);
+    mStageStartNs = now;
+  }
+
+  /**
+   * 本次检测结束，计算下次检测的时间
+   */
+  public synchronized void end() {
+    mTotalLatencyNs = average(mTotalLatencyNs, System.nanoTime() - mStartNs);
+    long interval = (long) (mTotalLatencyNs / mCpuBudget);
+    if (interval < mMinIntervalNs) {
+      interval = mMinIntervalNs;
+    } else if (interval > mMaxIntervalNs) {
+      interval = mMaxIntervalNs;
+    }
+    mIntervalNs = interval;
+    mNextRunNs = mStartNs + interval;
+  }
+
+  private long average(long prev, long value) {
+    return prev == 0 ? value : (long) (prev + (value - prev) * EWMA_ALPHA);
+  }
+
+  public synchronized float getStageLatencyMs(int stage) {
+    return mStageLatencyNs[stage] / 1000000f;
+  }
+
+  public synchronized float getLatencyMs() {
+    return mTotalLatencyNs / 1000000f;
+  }
+
+  /**
+   * 当前的检测间隔ms
+   */
+  public synchronized float getIntervalMs() {
+    return mIntervalNs / 1000000f;
+  }
+
+  public synchronized long getRunCount() {
+    return mRunCount;
+  }
+
+  public synchronized long getSkipCount() {
+    return mSkipCount;
+  }
+
+  public synchronized void reset() {
+    for (int i = 0; i < STAGE_NUM; i++) {
+      mStageLatencyNs[i] = 0;
+    }
+    mTotalLatencyNs = 0;
+    mIntervalNs = mMinIntervalNs;
+    mNextRunNs = 0;
+    mRunCount = mSkipCount = 0;
+  }
+
+  @Override
+  public synchronized String toString() {
+    return "DetectionScheduler{" +
+        "convert=" + getStageLatencyMs(STAGE_CONVERT) + "ms" +
+        ", inference=" + getStageLatencyMs(STAGE_INFERENCE) + "ms" +
+        ", interval=" + getIntervalMs() + "ms" +
+        ", run=" + mRunCount +
+        ", skip=" + mSkipCount +
+        '}';
+  }
+}
@@ -0,0 +1,65 @@
+package com.techshino.utils;
+
+/**
+ * NV21缩小到1/2的纯Java实现，Y平面和VU平面各自按2x2取平均
+ * <p>
+ * 缩小一半时2x2平均与在目标像素中心做双线性采样的结果相同，重复调用得到1/4、1/8
+ */
+public class Nv21Downscaler {
+
+  private Nv21Downscaler() {
+  }
+
+  /**
+   * 宽高是否可以缩小一半，缩小后的宽高也必须是偶数才能保持NV21格式
+   */
+  public static boolean canHalve(int width, int height) {
+    return width >= 4 && height >= 4 && (width & 3) == 0 && (height & 3) == 0;
+  }
+
+  /**
+   * 缩小到1/2
+   *
+   * @param dst    输出，至少(width/2)*(height/2)*3/2
+   * @param src    NV21数据
+   * @param width  原图宽，4的倍数
+   * @param height 原图高，4的倍数
+   */
+  public static void halve(byte[] dst, byte[] src, int width, int height) {
+    if (!canHalve(width, height)) {
+      throw new IllegalArgumentException("width and height should be multiples of 4");
+    }
+    final int frameSize = width * height;
+    final int dw = width >> 1;
+    final int dh = height >> 1;
+    if (src == null || src.length < frameSize * 3 / 2) {
+      throw new IllegalArgumentException("src buffer too small");
+    }
+    if (dst == null || dst.length < dw * dh * 3 / 2) {
+      throw new IllegalArgumentException("dst buffer too small");
+    }
+    // Y平面
+    int out = 0;
+    for (int j = 0; j < dh; j++) {
+      int p0 = (j << 1) * width;
+      int p1 = p0 + width;
+      for (int i = 0; i < dw; i++, p0 += 2, p1 += 2) {
+        dst[out++] = (byte) (((src[p0] & 0xFF) + (src[p0 + 1] & 0xFF)
+            + (src[p1] & 0xFF) + (src[p1 + 1] & 0xFF) + 2) >> 2);
+      }
+    }
+    // VU平面，每行width字节即width/2对，V和U分别取相邻两对、上下两行的平均
+    final int uvRows = height >> 1;
+    out = dw * dh;
+    for (int j = 0; j < uvRows; j += 2) {
+      int p0 = frameSize + j * width;
+      int p1 = p0 + width;
+      for (int i = 0; i < dw; i += 2, p0 += 4, p1 += 4) {
+        dst[out++] = (byte) (((src[p0] & 0xFF) + (src[p0 + 2] & 0xFF)
+            + (src[p1] & 0xFF) + (src[p1 + 2] & 0xFF) + 2) >> 2);
+        dst[out++] = (byte) (((src[p0 + 1] & 0xFF) + (src[p0 + 3] & 0xFF)
+            + (src[p1 + 1] & 0xFF) + (src[p1 + 3] & 0xFF) + 2) >> 2);
+      }
+    }
+  }
+}
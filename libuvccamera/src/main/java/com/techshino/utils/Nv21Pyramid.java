@@ -0,0 +1,92 @@
+package com.techshino.utils;
+
+import com.serenegiant.utils.FramePool;
+
+/**
+ * NV21多分辨率金字塔，第i层是原图的1/2^i，缩小后的图像写入每层各自的FramePool
+ * <p>
+ * 可以先在小图上搜索人脸，只在原图上做最后的确认
+ */
+public class Nv21Pyramid {
+
+  private final int mWidth;
+  private final int mHeight;
+  private final FramePool[] mPools;
+
+  /**
+   * @param width     原图宽
+   * @param height    原图高
+   * @param levels    缩小的层数，2表示生成1/2和1/4
+   * @param maxFrames 每层最多同时借出的缓存数
+   */
+  public Nv21Pyramid(int width, int height, int levels, int maxFrames) {
+    if (levels <= 0) {
+      throw new IllegalArgumentException("levels should be positive");
+    }
+    mWidth = width;
+    mHeight = height;
+    mPools = new FramePool[levels];
+    int w = width, h = height;
+    for (int i = 0; i < levels; i++) {
+      if (!Nv21Downscaler.canHalve(w, h)) {
+        throw new IllegalArgumentException("can not halve " + w + "x" + h);
+      }
+      w >>= 1;
+      h >>= 1;
+      mPools[i] = new FramePool(maxFrames, w * h * 3 / 2);
+    }
+  }
+
+  public int getLevels() {
+    return mPools.length;
+  }
+
+  /**
+   * @param level 1到getLevels()，0为原图
+   */
+  public int getWidth(int level) {
+    return mWidth >> level;
+  }
+
+  public int getHeight(int level) {
+    return mHeight >> level;
+  }
+
+  /**
+   * 生成各层缩小图，每层由上一层缩小得到
+   *
+   * @param nv21 原图
+   * @param out  输出，out[i]为第i+1层，长度至少getLevels()，用完后每个都要release
+   * @return 某一层的缓存已经全部借出时返回false，这时已取得的缓存会被释放
+   */
+  public boolean build(byte[] nv21, FramePool.Frame[] out) {
+    final int levels = mPools.length;
+    byte[] src = nv21;
+    int w = mWidth, h = mHeight;
+    for (int i = 0; i < levels; i++) {
+      final FramePool.Frame frame = mPools[i].obtain(mPools[i].getFrameSize());
+      if (frame == null) {
+        for (int j = 0; j < i; j++) {
+          out[j].release();
+          out[j] = null;
+        }
+        return false;
+      }
+      Nv21Downscaler.halve(frame.data, src, w, h);
+      out[i] = frame;
+      src = frame.data;
+      w >>= 1;
+      h >>= 1;
+    }
+    return true;
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder sb = new StringBuilder("Nv21Pyramid{" + mWidth + "x" + mHeight);
+    for (int i = 0; i < mPools.length; i++) {
+      sb.append(",").append(mPools[i]);
+    }
+    return sb.append("}").toString();
+  }
+}
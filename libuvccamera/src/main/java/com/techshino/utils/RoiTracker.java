@@ -0,0 +1,167 @@
+package com.techshino.utils;
+
+/**
+ * 检测区域跟踪，检测到人脸后只在上一次人脸框附近（加上边距）转换和检测，
+ * 连续maxMisses次没有检测到时回到整帧搜索
+ * <p>
+ * 不是线程安全的，每个检测线程持有一个
+ */
+public class RoiTracker {
+
+  private final int mFrameWidth;
+  private final int mFrameHeight;
+  private final float mMargin;
+  private final int mMaxMisses;
+  private final int mMinWidth;
+  private final int mMinHeight;
+
+  // 当前搜索区域，没有跟踪时为整帧
+  private int mLeft, mTop, mWidth, mHeight;
+  private boolean mTracking;
+  private int mMisses;
+  private long mRoiFrames, mFullFrames, mFallbacks;
+
+  /**
+   * @param frameWidth  整帧宽
+   * @param frameHeight 整帧高
+   * @param margin      人脸框每边扩大的比例，相对人脸框宽高，0.5表示每边扩大半个脸
+   * @param maxMisses   连续多少次没有检测到人脸后回到整帧搜索
+   * @param minWidth    搜索区域的最小宽度
+   * @param minHeight   搜索区域的最小高度
+   */
+  public RoiTracker(int frameWidth, int frameHeight, float margin, int maxMisses,
+                    int minWidth, int minHeight) {
+    if (frameWidth <= 0 || frameHeight <= 0 || margin < 0 || maxMisses <= 0) {
+      throw new IllegalArgumentException("invalid parameter");
+    }
+    mFrameWidth = frameWidth;
+    mFrameHeight = frameHeight;
+    mMargin = margin;
+    mMaxMisses = maxMisses;
+    mMinWidth = Math.min(minWidth, frameWidth);
+    mMinHeight = Math.min(minHeight, frameHeight);
+    reset();
+  }
+
+  /**
+   * 回到整帧搜索
+   */
+  public void reset() {
+    mTracking = false;
+    mMisses = 0;
+    mLeft = mTop = 0;
+    mWidth = mFrameWidth;
+    mHeight = mFrameHeight;
+  }
+
+  /**
+   * 检测前调用，统计本帧是区域检测还是整帧检测
+   *
+   * @return 是否只检测区域
+   */
+  public boolean begin() {
+    if (mTracking) {
+      mRoiFrames++;
+    } else {
+      mFullFrames++;
+    }
+    return mTracking;
+  }
+
+  /**
+   * 检测到人脸
+   *
+   * @param x 人脸框，相对于当前搜索区域的坐标
+   * @param y
+   * @param w
+   * @param h
+   */
+  public void onDetected(int x, int y, int w, int h) {
+    if (w <= 0 || h <= 0) {
+      onMissed();
+      return;
+    }
+    mMisses = 0;
+    // 换算到整帧坐标后加上边距
+    final int faceLeft = mLeft + x;
+    final int faceTop = mTop + y;
+    final int mx = (int) (w * mMargin);
+    final int my = (int) (h * mMargin);
+    int width = Math.max(w + mx * 2, mMinWidth);
+    int height = Math.max(h + my * 2, mMinHeight);
+    // 宽高取4的倍数，左上角取偶数，避免跨越色度对和RGB行不对齐
+    width = Math.min((width + 3) & ~3, mFrameWidth & ~3);
+    height = Math.min((height + 3) & ~3, mFrameHeight & ~3);
+    int left = faceLeft + w / 2 - width / 2;
+    int top = faceTop + h / 2 - height / 2;
+    left = clamp(left, 0, mFrameWidth - width) & ~1;
+    top = clamp(top, 0, mFrameHeight - height) & ~1;
+    mLeft = left;
+    mTop = top;
+    mWidth = width;
+    mHeight = height;
+    mTracking = true;
+  }
+
+  /**
+   * 没有检测到人脸，连续maxMisses次后回到整帧搜索
+   */
+  public void onMissed() {
+    if (mTracking && ++mMisses >= mMaxMisses) {
+      mFallbacks++;
+      reset();
+    }
+  }
+
+  private static int clamp(int value, int min, int max) {
+    return value < min ? min : (value > max ? max : value);
+  }
+
+  public boolean isTracking() {
+    return mTracking;
+  }
+
+  public int getLeft() {
+    return mLeft;
+  }
+
+  public int getTop() {
+    return mTop;
+  }
+
+  public int getWidth() {
+    return mWidth;
+  }
+
+  public int getHeight() {
+    return mHeight;
+  }
+
+  /**
+   * @return 只检测区域的帧数
+   */
+  public long getRoiFrameCount() {
+    return mRoiFrames;
+  }
+
+  /**
+   * @return 整帧检测的帧数
+   */
+  public long getFullFrameCount() {
+    return mFullFrames;
+  }
+
+  /**
+   * @return 跟丢后回到整帧搜索的次数
+   */
+  public long getFallbackCount() {
+    return mFallbacks;
+  }
+
+  @Override
+  public String toString() {
+    return "RoiTracker{roi=[" + mLeft + "," + mTop + "," + mWidth + "," + mHeight + "]"
+        + ",tracking=" + mTracking + ",roiFrames=" + mRoiFrames
+        + ",fullFrames=" + mFullFrames + ",fallbacks=" + mFallbacks + "}";
+  }
+}
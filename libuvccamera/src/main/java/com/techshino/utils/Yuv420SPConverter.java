@@ -0,0 +1,203 @@
+package com.techshino.utils;
+
+/**
+ * YUV420SP(NV21)转RGB24的纯Java实现，与Algorithm.RgbFromYuv420SP的定点公式一致
+ * <p>
+ * 系数乘法全部预先算成查找表，输出写入调用方提供的数组，支持只转换子区域
+ * <p>
+ * 彩色转换目前只和Java写的同一公式比较过，还没有和设备上native的输出逐字节比较，
+ * 在那之前检测用的彩色图仍然用native转换，区域检测用{@link #cropRgb24}从整帧结果里裁剪
+ */
+public class Yuv420SPConverter {
+
+  private static final int MAX_CHANNEL = 262143; // 18位定点数的最大值
+
+  // 各分量的系数查找表，下标为无符号字节值
+  private static final int[] Y_TABLE = new int[256];
+  private static final int[] V_R_TABLE = new int[256];
+  private static final int[] V_G_TABLE = new int[256];
+  private static final int[] U_G_TABLE = new int[256];
+  private static final int[] U_B_TABLE = new int[256];
+  // 只有亮度时(U=V=128)三个通道相同，直接查表得到输出值
+  private static final byte[] LUMA_TABLE = new byte[256];
+
+  static {
+    for (int i = 0; i < 256; i++) {
+      int y = i - 16;
+      if (y < 0) {
+        y = 0;
+      }
+      Y_TABLE[i] = 1192 * y;
+      final int c = i - 128;
+      V_R_TABLE[i] = 1634 * c;
+      V_G_TABLE[i] = 833 * c;
+      U_G_TABLE[i] = 400 * c;
+      U_B_TABLE[i] = 2066 * c;
+      final int l = Y_TABLE[i] > MAX_CHANNEL ? MAX_CHANNEL : Y_TABLE[i];
+      LUMA_TABLE[i] = (byte) (l >> 10);
+    }
+  }
+
+  private Yuv420SPConverter() {
+  }
+
+  /**
+   * 整帧转换
+   *
+   * @param rgb24  输出，至少width*height*3
+   * @param yuv    NV21数据
+   * @param width
+   * @param height
+   */
+  public static void toRgb24(byte[] rgb24, byte[] yuv, int width, int height) {
+    toRgb24(rgb24, yuv, width, height, 0, 0, width, height);
+  }
+
+  /**
+   * 只转换[left, top, cropWidth, cropHeight]区域，输出为紧凑排列的cropWidth*cropHeight*3
+   *
+   * @param rgb24      输出，至少cropWidth*cropHeight*3
+   * @param yuv        NV21数据
+   * @param width      原图宽
+   * @param height     原图高
+   * @param left
+   * @param top
+   * @param cropWidth
+   * @param cropHeight
+   */
+  public static void toRgb24(byte[] rgb24, byte[] yuv, int width, int height,
+                             int left, int top, int cropWidth, int cropHeight) {
+    checkArgs(rgb24, 3, yuv, width * height * 3 / 2, width, height, left, top, cropWidth, cropHeight);
+    final int frameSize = width * height;
+    final int[] yTable = Y_TABLE;
+    final int[] vrTable = V_R_TABLE;
+    final int[] vgTable = V_G_TABLE;
+    final int[] ugTable = U_G_TABLE;
+    final int[] ubTable = U_B_TABLE;
+    final int right = left + cropWidth;
+    final int bottom = top + cropHeight;
+    int out = 0;
+    for (int j = top; j < bottom; j++) {
+      int yp = j * width + left;
+      final int uvRow = frameSize + (j >> 1) * width;
+      int uvp = uvRow + (left & ~1);
+      int vg = 0, r0 = 0, b0 = 0;
+      if ((left & 1) != 0) {
+        // 起点落在色度对的后半，先取出这一对
+        final int v = yuv[uvp++] & 0xFF;
+        final int u = yuv[uvp++] & 0xFF;
+        r0 = vrTable[v];
+        vg = vgTable[v] + ugTable[u];
+        b0 = ubTable[u];
+      }
+      for (int i = left; i < right; i++, yp++) {
+        if ((i & 1) == 0) {
+          final int v = yuv[uvp++] & 0xFF;
+          final int u = yuv[uvp++] & 0xFF;
+          r0 = vrTable[v];
+          vg = vgTable[v] + ugTable[u];
+          b0 = ubTable[u];
+        }
+        final int y1192 = yTable[yuv[yp] & 0xFF];
+        int r = y1192 + r0;
+        int g = y1192 - vg;
+        int b = y1192 + b0;
+        if (r < 0) r = 0;
+        else if (r > MAX_CHANNEL) r = MAX_CHANNEL;
+        if (g < 0) g = 0;
+        else if (g > MAX_CHANNEL) g = MAX_CHANNEL;
+        if (b < 0) b = 0;
+        else if (b > MAX_CHANNEL) b = MAX_CHANNEL;
+        rgb24[out++] = (byte) (r >> 10);
+        rgb24[out++] = (byte) (g >> 10);
+        rgb24[out++] = (byte) (b >> 10);
+      }
+    }
+  }
+
+  /**
+   * 只用Y平面生成RGB24，跳过UV平面，用于近红外这类实际是灰度图的摄像头
+   * <p>
+   * 结果与把UV当作128时的toRgb24相同
+   *
+   * @param rgb24  输出，至少width*height*3
+   * @param yuv    NV21数据或只有Y平面，只读取前width*height字节
+   * @param width
+   * @param height
+   */
+  public static void lumaToRgb24(byte[] rgb24, byte[] yuv, int width, int height) {
+    lumaToRgb24(rgb24, yuv, width, height, 0, 0, width, height);
+  }
+
+  /**
+   * 只用Y平面生成[left, top, cropWidth, cropHeight]区域的RGB24
+   *
+   * @param yuv NV21数据或只有Y平面，至少width*height
+   */
+  public static void lumaToRgb24(byte[] rgb24, byte[] yuv, int width, int height,
+                                 int left, int top, int cropWidth, int cropHeight) {
+    checkArgs(rgb24, 3, yuv, width * height, width, height, left, top, cropWidth, cropHeight);
+    final byte[] table = LUMA_TABLE;
+    final int bottom = top + cropHeight;
+    int out = 0;
+    for (int j = top; j < bottom; j++) {
+      int yp = j * width + left;
+      final int end = yp + cropWidth;
+      for (; yp < end; yp++) {
+        final byte l = table[yuv[yp] & 0xFF];
+        rgb24[out++] = l;
+        rgb24[out++] = l;
+        rgb24[out++] = l;
+      }
+    }
+  }
+
+  /**
+   * 取出[left, top, cropWidth, cropHeight]区域的单通道亮度图（原始Y值，不做范围变换）
+   *
+   * @param gray 输出，至少cropWidth*cropHeight
+   * @param yuv  NV21数据或只有Y平面，至少width*height
+   */
+  public static void lumaToGray(byte[] gray, byte[] yuv, int width, int height,
+                                int left, int top, int cropWidth, int cropHeight) {
+    checkArgs(gray, 1, yuv, width * height, width, height, left, top, cropWidth, cropHeight);
+    for (int j = 0; j < cropHeight; j++) {
+      System.arraycopy(yuv, (top + j) * width + left, gray, j * cropWidth, cropWidth);
+    }
+  }
+
+  /**
+   * 把整帧RGB24中的[left, top, cropWidth, cropHeight]区域原地移到数组开头，紧凑排列
+   *
+   * @param rgb24  整帧RGB24，至少width*height*3
+   * @param width  原图宽
+   * @param height 原图高
+   */
+  public static void cropRgb24(byte[] rgb24, int width, int height,
+                               int left, int top, int cropWidth, int cropHeight) {
+    checkArgs(rgb24, 3, rgb24, width * height * 3, width, height, left, top, cropWidth, cropHeight);
+    // 目标位置不会超过源位置，按行从前往后拷贝不会覆盖还没读的数据
+    for (int j = 0; j < cropHeight; j++) {
+      System.arraycopy(rgb24, ((top + j) * width + left) * 3, rgb24, j * cropWidth * 3, cropWidth * 3);
+    }
+  }
+
+  /**
+   * @param yuvSize 需要读取的yuv字节数，只用亮度时不需要UV平面
+   */
+  private static void checkArgs(byte[] out, int channels, byte[] yuv, int yuvSize, int width, int height,
+                                int left, int top, int cropWidth, int cropHeight) {
+    if (width <= 0 || height <= 0 || cropWidth <= 0 || cropHeight <= 0) {
+      throw new IllegalArgumentException("invalid size");
+    }
+    if (left < 0 || top < 0 || left + cropWidth > width || top + cropHeight > height) {
+      throw new IllegalArgumentException("crop rect out of frame");
+    }
+    if (yuv == null || yuv.length < yuvSize) {
+      throw new IllegalArgumentException("yuv buffer too small");
+    }
+    if (out == null || out.length < cropWidth * cropHeight * channels) {
+      throw new IllegalArgumentException("output buffer too small");
+    }
+  }
+}
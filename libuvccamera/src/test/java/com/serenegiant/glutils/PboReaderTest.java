@@ -0,0 +1,212 @@
+package com.serenegiant.glutils;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * PboReader driven by a fake GL binding that records the calls
+ */
+public class PboReaderTest {
+
+	/**
+	 * each readPixels fills the buffer with the number of the frame
+	 */
+	private static final class FakeGL implements PboReader.GLBinding {
+		final Map<Integer, ByteBuffer> buffers = new HashMap<Integer, ByteBuffer>();
+		final List<String> calls = new ArrayList<String>();
+		int nextName = 1;
+		int frame;
+		boolean failMap;
+		boolean failRead;
+
+		@Override
+		public int createBuffer(final int size) {
+			final int name = nextName++;
+			buffers.put(name, ByteBuffer.allocate(size));
+			calls.add("create:" + name);
+			return name;
+		}
+
+		@Override
+		public void deleteBuffer(final int buffer) {
+			buffers.remove(buffer);
+			calls.add("delete:" + buffer);
+		}
+
+		@Override
+		public void readPixels(final int buffer, final int width, final int height) {
+			if (failRead) throw new IllegalStateException("glReadPixels failed");
+			final ByteBuffer buf = buffers.get(buffer);
+			buf.clear();
+			while (buf.hasRemaining()) {
+				buf.put((byte) frame);
+			}
+			buf.flip();
+			frame++;
+			calls.add("read:" + buffer);
+		}
+
+		@Override
+		public ByteBuffer mapBuffer(final int buffer, final int size) {
+			if (failMap) throw new IllegalStateException("glMapBufferRange failed");
+			calls.add("map:" + buffer);
+			return buffers.get(buffer).duplicate();
+		}
+
+		@Override
+		public void unmapBuffer(final int buffer) {
+			calls.add("unmap:" + buffer);
+		}
+	}
+
+	private static final class Recorder implements PboReader.Callback<String> {
+		final List<String> pixels = new ArrayList<String>();
+		final List<String> discarded = new ArrayList<String>();
+		boolean fail;
+
+		@Override
+		public void onPixels(final ByteBuffer pixels, final int width, final int height, final String tag) {
+			if (fail) throw new IllegalStateException("encoder failed");
+			assertEquals(width * height * 4, pixels.remaining());
+			this.pixels.add(tag + "=" + pixels.get(0));
+		}
+
+		@Override
+		public void onDiscard(final String tag) {
+			discarded.add(tag);
+		}
+	}
+
+	private FakeGL mGL;
+	private Recorder mCallback;
+	private PboReader<String> mReader;
+
+	@Before
+	public void setUp() {
+		mGL = new FakeGL();
+		mCallback = new Recorder();
+		mReader = new PboReader<String>(mGL, 2, mCallback);
+	}
+
+	@Test
+	public void submitDoesNotMapUntilRingIsFull() {
+		mReader.submit(4, 2, "a");
+		mReader.submit(4, 2, "b");
+		assertEquals(2, mReader.getPendingCount());
+		assertTrue(mCallback.pixels.isEmpty());
+		assertEquals(Arrays.asList("create:1", "read:1", "create:2", "read:2"), mGL.calls);
+	}
+
+	@Test
+	public void ringFullHandsOldestFirst() {
+		mReader.submit(4, 2, "a");
+		mReader.submit(4, 2, "b");
+		mReader.submit(4, 2, "c");
+		assertEquals(Arrays.asList("a=0"), mCallback.pixels);
+		assertEquals(2, mReader.getPendingCount());
+		// the freed PBO is reused without creating a new one
+		assertEquals(Arrays.asList("create:1", "read:1", "create:2", "read:2",
+			"map:1", "unmap:1", "read:1"), mGL.calls);
+	}
+
+	@Test
+	public void drainHandsAllInSubmittedOrder() {
+		mReader.submit(4, 2, "a");
+		mReader.submit(4, 2, "b");
+		mReader.submit(4, 2, "c");
+		mReader.drain();
+		assertEquals(Arrays.asList("a=0", "b=1", "c=2"), mCallback.pixels);
+		assertFalse(mReader.hasPending());
+		assertFalse(mReader.completeOldest());
+	}
+
+	@Test
+	public void resizeRecreatesBuffer() {
+		mReader.submit(4, 2, "a");
+		mReader.drain();
+		mReader.submit(4, 2, "b");
+		mReader.drain();
+		mReader.submit(8, 2, "c");
+		mReader.drain();
+		assertEquals(Arrays.asList("a=0", "b=1", "c=2"), mCallback.pixels);
+		assertTrue(mGL.calls.contains("delete:1"));
+		assertTrue(mGL.calls.contains("create:3"));
+	}
+
+	@Test
+	public void releaseReturnsPendingTagsAndDeletesBuffers() {
+		mReader.submit(4, 2, "a");
+		mReader.submit(4, 2, "b");
+		assertEquals(Arrays.asList("a", "b"), mReader.release());
+		assertTrue(mGL.buffers.isEmpty());
+		assertFalse(mReader.hasPending());
+		assertTrue(mCallback.pixels.isEmpty());
+		// can be used again after release
+		mReader.submit(4, 2, "c");
+		mReader.drain();
+		assertEquals(Arrays.asList("c=2"), mCallback.pixels);
+	}
+
+	@Test
+	public void mapFailureKeepsSlotPendingAndSubmitDoesNotTakeTag() {
+		mReader.submit(4, 2, "a");
+		mReader.submit(4, 2, "b");
+		mGL.failMap = true;
+		try {
+			mReader.submit(4, 2, "c");
+			fail();
+		} catch (final IllegalStateException e) {
+			// expected
+		}
+		// "c" is still owned by the caller, "a" and "b" are returned by release
+		assertEquals(Arrays.asList("a", "b"), mReader.release());
+		assertTrue(mCallback.discarded.isEmpty());
+	}
+
+	@Test
+	public void readFailureDoesNotTakeTag() {
+		mReader.submit(4, 2, "a");
+		mGL.failRead = true;
+		try {
+			mReader.submit(4, 2, "b");
+			fail();
+		} catch (final IllegalStateException e) {
+			// expected
+		}
+		assertEquals(1, mReader.getPendingCount());
+		assertEquals(Arrays.asList("a"), mReader.release());
+	}
+
+	@Test
+	public void callbackFailureDiscardsTagAndUnmaps() {
+		mReader.submit(4, 2, "a");
+		mReader.submit(4, 2, "b");
+		mCallback.fail = true;
+		try {
+			mReader.drain();
+			fail();
+		} catch (final IllegalStateException e) {
+			// expected
+		}
+		assertEquals(Arrays.asList("a"), mCallback.discarded);
+		assertEquals("unmap:1", mGL.calls.get(mGL.calls.size() - 1));
+		assertEquals(Arrays.asList("b"), mReader.release());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void zeroCountIsRejected() {
+		new PboReader<String>(mGL, 0, mCallback);
+	}
+}
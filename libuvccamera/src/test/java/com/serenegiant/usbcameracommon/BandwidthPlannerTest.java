@@ -0,0 +1,141 @@
+package com.serenegiant.usbcameracommon;
+
+import com.serenegiant.usb.UVCCamera;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static com.serenegiant.usbcameracommon.BandwidthPlanner.USB2_MAX_ENDPOINT_BANDWIDTH;
+import static com.serenegiant.usbcameracommon.BandwidthPlanner.USB2_PERIODIC_BANDWIDTH;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * the bandwidth claimed with the planned factors(factor x USB2_MAX_ENDPOINT_BANDWIDTH) stays within the budget
+ */
+public class BandwidthPlannerTest {
+
+	private static BandwidthPlanner.Request request(final String tag, final int width, final int height,
+		final int fps, final int frameFormat) {
+
+		return new BandwidthPlanner.Request(tag, width, height, fps, frameFormat);
+	}
+
+	private static void assertClaimWithinBudget(final BandwidthPlanner.Plan plan) {
+		long claimed = 0;
+		for (final BandwidthPlanner.Allocation allocation: plan.allocations) {
+			assertTrue(allocation.toString(), allocation.bandwidthFactor >= 0);
+			assertTrue(allocation.toString(), allocation.bandwidthFactor <= 1.0f);
+			assertEquals((long) (allocation.bandwidthFactor * (double) USB2_MAX_ENDPOINT_BANDWIDTH),
+				allocation.claimedBandwidth);
+			claimed += allocation.claimedBandwidth;
+		}
+		assertEquals(claimed, plan.claimedBandwidth);
+		assertTrue(plan.toString(), plan.claimedBandwidth <= plan.budget);
+	}
+
+	/**
+	 * two MJPEG cameras at full rate used to get 1.0 each, which claims 49.2MB/s of the 48MB/s budget
+	 */
+	@Test
+	public void twoMjpegCameras() {
+		final BandwidthPlanner.Plan plan = new BandwidthPlanner(USB2_PERIODIC_BANDWIDTH).plan(Arrays.asList(
+			request("L", 640, 480, 30, UVCCamera.FRAME_FORMAT_MJPEG),
+			request("R", 640, 480, 30, UVCCamera.FRAME_FORMAT_MJPEG)));
+		assertTrue(plan.toString(), plan.fits());
+		assertClaimWithinBudget(plan);
+		for (final BandwidthPlanner.Allocation allocation: plan.allocations) {
+			assertFalse(allocation.isDegraded());
+			assertTrue(allocation.toString(), allocation.bandwidthFactor < 1.0f);
+			assertTrue(allocation.toString(), allocation.claimedBandwidth >= allocation.bandwidth);
+		}
+	}
+
+	@Test
+	public void threeYuyvCamerasDegradeOneToMjpeg() {
+		final BandwidthPlanner.Plan plan = new BandwidthPlanner(USB2_PERIODIC_BANDWIDTH).plan(Arrays.asList(
+			request("A", 640, 480, 30, UVCCamera.FRAME_FORMAT_YUYV),
+			request("B", 640, 480, 30, UVCCamera.FRAME_FORMAT_YUYV),
+			request("C", 640, 480, 30, UVCCamera.FRAME_FORMAT_YUYV)));
+		assertTrue(plan.toString(), plan.fits());
+		assertClaimWithinBudget(plan);
+		int degraded = 0;
+		for (final BandwidthPlanner.Allocation allocation: plan.allocations) {
+			if (allocation.isDegraded()) {
+				degraded++;
+				assertEquals(UVCCamera.FRAME_FORMAT_MJPEG, allocation.frameFormat);
+				assertEquals(30, allocation.fps);
+			}
+			assertTrue(allocation.toString(), allocation.claimedBandwidth >= allocation.bandwidth);
+		}
+		assertEquals(1, degraded);
+	}
+
+	@Test
+	public void largerThanEndpointIsDegraded() {
+		final BandwidthPlanner.Plan plan = new BandwidthPlanner(USB2_PERIODIC_BANDWIDTH).plan(Arrays.asList(
+			request("HD", 1280, 720, 30, UVCCamera.FRAME_FORMAT_YUYV)));
+		assertTrue(plan.toString(), plan.fits());
+		assertEquals(UVCCamera.FRAME_FORMAT_MJPEG, plan.get("HD").frameFormat);
+		assertClaimWithinBudget(plan);
+	}
+
+	@Test
+	public void reservedBandwidthLowersFps() {
+		final BandwidthPlanner planner = new BandwidthPlanner(USB2_PERIODIC_BANDWIDTH);
+		planner.setReservedBandwidth(40000000L);
+		final BandwidthPlanner.Plan plan = planner.plan(Arrays.asList(
+			request("L", 640, 480, 30, UVCCamera.FRAME_FORMAT_MJPEG),
+			request("R", 640, 480, 30, UVCCamera.FRAME_FORMAT_MJPEG)));
+		assertEquals(8000000L, plan.budget);
+		assertTrue(plan.toString(), plan.fits());
+		assertClaimWithinBudget(plan);
+		assertTrue(plan.get("L").fps < 30);
+		assertTrue(plan.get("R").fps < 30);
+	}
+
+	@Test
+	public void doesNotFitButClaimStaysWithinBudget() {
+		final BandwidthPlanner planner = new BandwidthPlanner(1000000L);
+		final BandwidthPlanner.Plan plan = planner.plan(Arrays.asList(
+			request("L", 1920, 1080, 30, UVCCamera.FRAME_FORMAT_YUYV),
+			request("R", 1920, 1080, 30, UVCCamera.FRAME_FORMAT_YUYV)));
+		assertFalse(plan.fits());
+		assertClaimWithinBudget(plan);
+		for (final BandwidthPlanner.Allocation allocation: plan.allocations) {
+			assertEquals(UVCCamera.FRAME_FORMAT_MJPEG, allocation.frameFormat);
+			assertEquals(5, allocation.fps);
+		}
+	}
+
+	@Test
+	public void randomRequests() {
+		final int[][] sizes = {{160, 120}, {320, 240}, {640, 480}, {800, 600}, {1280, 720}, {1920, 1080}};
+		final int[] rates = {5, 10, 15, 25, 30};
+		final Random random = new Random(20170801);
+		for (int n = 0; n < 2000; n++) {
+			final BandwidthPlanner planner = new BandwidthPlanner(USB2_PERIODIC_BANDWIDTH);
+			planner.setReservedBandwidth(random.nextInt(48) * 1000000L);
+			final List<BandwidthPlanner.Request> requests = new ArrayList<BandwidthPlanner.Request>();
+			final int count = 1 + random.nextInt(4);
+			for (int i = 0; i < count; i++) {
+				final int[] size = sizes[random.nextInt(sizes.length)];
+				requests.add(request("C" + i, size[0], size[1], rates[random.nextInt(rates.length)],
+					random.nextBoolean() ? UVCCamera.FRAME_FORMAT_MJPEG : UVCCamera.FRAME_FORMAT_YUYV));
+			}
+			final BandwidthPlanner.Plan plan = planner.plan(requests);
+			assertClaimWithinBudget(plan);
+			if (plan.fits()) {
+				for (final BandwidthPlanner.Allocation allocation: plan.allocations) {
+					// within the rounding of the factor
+					assertTrue(allocation.toString(), allocation.claimedBandwidth + 2 >= allocation.bandwidth);
+				}
+			}
+		}
+	}
+}
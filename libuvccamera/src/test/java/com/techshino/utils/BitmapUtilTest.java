@@ -0,0 +1,114 @@
+package com.techshino.utils;
+
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 并行转换与单线程转换的结果一致，返回时所有分块都已写完
+ */
+public class BitmapUtilTest {
+
+  private static final int WIDTH = 640;
+  private static final int HEIGHT = 480;
+
+  private static byte[] randomRgb(long seed) {
+    final byte[] rgb = new byte[WIDTH * HEIGHT * 3];
+    new Random(seed).nextBytes(rgb);
+    return rgb;
+  }
+
+  private static int[] serial(byte[] rgb) {
+    final int[] expected = new int[WIDTH * HEIGHT];
+    BitmapUtil.convertByteToColor(rgb, 0, expected, 0, expected.length);
+    return expected;
+  }
+
+  @Test
+  public void parallelEqualsSerial() {
+    for (int n = 0; n < 20; n++) {
+      final byte[] rgb = randomRgb(n);
+      final int[] actual = new int[WIDTH * HEIGHT];
+      BitmapUtil.convertByteToColorParallel(rgb, WIDTH, HEIGHT, actual);
+      assertArrayEquals(serial(rgb), actual);
+    }
+  }
+
+  @Test
+  public void oddHeight() {
+    final int width = 1000, height = 97;
+    final byte[] rgb = new byte[width * height * 3];
+    new Random(7).nextBytes(rgb);
+    final int[] expected = new int[width * height];
+    BitmapUtil.convertByteToColor(rgb, 0, expected, 0, expected.length);
+    final int[] actual = new int[width * height];
+    BitmapUtil.convertByteToColorParallel(rgb, width, height, actual);
+    assertArrayEquals(expected, actual);
+  }
+
+  /**
+   * 中断的调用方也要写完所有分块，并保留中断状态
+   */
+  @Test
+  public void interruptedCallerCompletesAllBands() {
+    final byte[] rgb = randomRgb(1);
+    final int[] expected = serial(rgb);
+    try {
+      for (int n = 0; n < 20; n++) {
+        final int[] actual = new int[WIDTH * HEIGHT];
+        Thread.currentThread().interrupt();
+        BitmapUtil.convertByteToColorParallel(rgb, WIDTH, HEIGHT, actual);
+        assertTrue(Thread.currentThread().isInterrupted());
+        assertArrayEquals(expected, actual);
+      }
+    } finally {
+      Thread.interrupted();
+    }
+  }
+
+  @Test
+  public void concurrentCallers() throws InterruptedException {
+    final int threads = 4;
+    final CountDownLatch start = new CountDownLatch(1);
+    final CountDownLatch done = new CountDownLatch(threads);
+    final Throwable[] failures = new Throwable[threads];
+    for (int t = 0; t < threads; t++) {
+      final int index = t;
+      new Thread(new Runnable() {
+        @Override
+        public void run() {
+          try {
+            final byte[] rgb = randomRgb(100 + index);
+            final int[] expected = serial(rgb);
+            start.await();
+            for (int n = 0; n < 50; n++) {
+              final int[] actual = new int[WIDTH * HEIGHT];
+              BitmapUtil.convertByteToColorParallel(rgb, WIDTH, HEIGHT, actual);
+              assertArrayEquals(expected, actual);
+            }
+          } catch (Throwable e) {
+            failures[index] = e;
+          } finally {
+            done.countDown();
+          }
+        }
+      }).start();
+    }
+    start.countDown();
+    done.await();
+    for (final Throwable failure : failures) {
+      if (failure != null) {
+        throw new AssertionError(failure);
+      }
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void shortOutputIsRejected() {
+    BitmapUtil.convertByteToColorParallel(randomRgb(2), WIDTH, HEIGHT, new int[WIDTH * HEIGHT - 1]);
+  }
+}
@@ -0,0 +1,216 @@
+package com.techshino.utils;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+
+/**
+ * 查找表实现与Algorithm.RgbFromYuv420SP使用的定点公式(1192/1634/833/400/2066)逐字节比较
+ * <p>
+ * 参考实现是同一公式的Java版本，不能代替和native输出的比较，所以检测用的彩色图还是native转换
+ */
+public class Yuv420SPConverterTest {
+
+  /**
+   * 参考实现：逐像素计算的定点公式，输出整帧
+   */
+  private static byte[] reference(byte[] yuv, int width, int height) {
+    final byte[] rgb = new byte[width * height * 3];
+    final int frameSize = width * height;
+    int out = 0;
+    for (int j = 0, yp = 0; j < height; j++) {
+      int uvp = frameSize + (j >> 1) * width, u = 0, v = 0;
+      for (int i = 0; i < width; i++, yp++) {
+        int y = (0xff & ((int) yuv[yp])) - 16;
+        if (y < 0) y = 0;
+        if ((i & 1) == 0) {
+          v = (0xff & yuv[uvp++]) - 128;
+          u = (0xff & yuv[uvp++]) - 128;
+        }
+        final int y1192 = 1192 * y;
+        int r = (y1192 + 1634 * v);
+        int g = (y1192 - 833 * v - 400 * u);
+        int b = (y1192 + 2066 * u);
+        if (r < 0) r = 0;
+        else if (r > 262143) r = 262143;
+        if (g < 0) g = 0;
+        else if (g > 262143) g = 262143;
+        if (b < 0) b = 0;
+        else if (b > 262143) b = 262143;
+        rgb[out++] = (byte) ((r >> 10) & 0xff);
+        rgb[out++] = (byte) ((g >> 10) & 0xff);
+        rgb[out++] = (byte) ((b >> 10) & 0xff);
+      }
+    }
+    return rgb;
+  }
+
+  private static byte[] crop(byte[] rgb, int width, int left, int top, int cropWidth, int cropHeight) {
+    final byte[] result = new byte[cropWidth * cropHeight * 3];
+    for (int j = 0; j < cropHeight; j++) {
+      System.arraycopy(rgb, ((top + j) * width + left) * 3, result, j * cropWidth * 3, cropWidth * 3);
+    }
+    return result;
+  }
+
+  private static byte[] random(int width, int height, long seed) {
+    final byte[] yuv = new byte[width * height * 3 / 2];
+    new Random(seed).nextBytes(yuv);
+    return yuv;
+  }
+
+  /**
+   * 整帧和各种对齐的裁剪区域都与参考实现一致
+   */
+  private static void assertParity(byte[] yuv, int width, int height) {
+    final byte[] expected = reference(yuv, width, height);
+    final byte[] actual = new byte[width * height * 3];
+    Yuv420SPConverter.toRgb24(actual, yuv, width, height);
+    assertArrayEquals(expected, actual);
+
+    final int[][] crops = {
+        {0, 0, 1, 1},
+        {1, 1, 1, 1},
+        {1, 0, 3, 2},
+        {3, 5, 7, 9},
+        {width - 1, height - 1, 1, 1},
+        {width - 3, 0, 3, height},
+        {width / 3, height / 3, width / 2 + 1, height / 2 + 1},
+    };
+    for (final int[] c : crops) {
+      if (c[0] < 0 || c[1] < 0 || c[0] + c[2] > width || c[1] + c[3] > height) {
+        continue; // 小帧放不下
+      }
+      final byte[] out = new byte[c[2] * c[3] * 3];
+      Yuv420SPConverter.toRgb24(out, yuv, width, height, c[0], c[1], c[2], c[3]);
+      assertArrayEquals("crop " + Arrays.toString(c),
+          crop(expected, width, c[0], c[1], c[2], c[3]), out);
+    }
+  }
+
+  @Test
+  public void randomFrames() {
+    assertParity(random(640, 480, 20170801), 640, 480);
+    assertParity(random(32, 18, 1), 32, 18);
+    assertParity(random(2, 2, 2), 2, 2);
+  }
+
+  /**
+   * 所有的U/V组合，每个2x2块的Y取不同的值，包括钳位两端
+   */
+  @Test
+  public void allChromaValues() {
+    final int width = 512, height = 512;
+    final byte[] yuv = new byte[width * height * 3 / 2];
+    for (int j = 0; j < height; j++) {
+      for (int i = 0; i < width; i++) {
+        yuv[j * width + i] = (byte) (i * 7 + j * 13);
+      }
+    }
+    int uvp = width * height;
+    for (int v = 0; v < 256; v++) {
+      for (int u = 0; u < 256; u++) {
+        yuv[uvp++] = (byte) v;
+        yuv[uvp++] = (byte) u;
+      }
+    }
+    assertParity(yuv, width, height);
+  }
+
+  @Test
+  public void edgeValues() {
+    final int[] values = {0, 1, 15, 16, 17, 127, 128, 129, 235, 240, 254, 255};
+    final int width = values.length * 2, height = values.length * 2;
+    final byte[] yuv = new byte[width * height * 3 / 2];
+    for (int j = 0; j < height; j++) {
+      for (int i = 0; i < width; i++) {
+        yuv[j * width + i] = (byte) values[(i + j) % values.length];
+      }
+    }
+    int uvp = width * height;
+    for (int j = 0; j < height / 2; j++) {
+      for (int i = 0; i < width / 2; i++) {
+        yuv[uvp++] = (byte) values[j];
+        yuv[uvp++] = (byte) values[i];
+      }
+    }
+    assertParity(yuv, width, height);
+  }
+
+  /**
+   * 只用亮度的结果与UV全为128时的toRgb24相同
+   */
+  @Test
+  public void lumaOnlyEqualsNeutralChroma() {
+    final int width = 64, height = 48;
+    final byte[] yuv = random(width, height, 3);
+    Arrays.fill(yuv, width * height, yuv.length, (byte) 128);
+    final byte[] expected = reference(yuv, width, height);
+    final byte[] actual = new byte[width * height * 3];
+    Yuv420SPConverter.lumaToRgb24(actual, yuv, width, height);
+    assertArrayEquals(expected, actual);
+
+    final byte[] out = new byte[5 * 7 * 3];
+    Yuv420SPConverter.lumaToRgb24(out, yuv, width, height, 3, 1, 5, 7);
+    assertArrayEquals(crop(expected, width, 3, 1, 5, 7), out);
+  }
+
+  /**
+   * 只用亮度的入口只需要Y平面
+   */
+  @Test
+  public void lumaOnlyAcceptsYPlane() {
+    final int width = 16, height = 8;
+    final byte[] yuv = random(width, height, 4);
+    final byte[] y = Arrays.copyOf(yuv, width * height);
+    final byte[] expected = new byte[width * height * 3];
+    Yuv420SPConverter.lumaToRgb24(expected, yuv, width, height);
+    final byte[] actual = new byte[width * height * 3];
+    Yuv420SPConverter.lumaToRgb24(actual, y, width, height);
+    assertArrayEquals(expected, actual);
+
+    final byte[] gray = new byte[3 * 2];
+    Yuv420SPConverter.lumaToGray(gray, y, width, height, 5, 6, 3, 2);
+    assertArrayEquals(new byte[] {y[101], y[102], y[103], y[117], y[118], y[119]}, gray);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void yPlaneIsRejectedForColor() {
+    Yuv420SPConverter.toRgb24(new byte[4 * 4 * 3], new byte[4 * 4], 4, 4);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void shortYPlaneIsRejected() {
+    Yuv420SPConverter.lumaToRgb24(new byte[4 * 4 * 3], new byte[4 * 4 - 1], 4, 4);
+  }
+
+  /**
+   * 原地裁剪与单独拷贝出来的区域相同
+   */
+  @Test
+  public void cropRgb24InPlace() {
+    final int width = 32, height = 18;
+    final byte[] expected = reference(random(width, height, 5), width, height);
+    final int[][] crops = {
+        {0, 0, width, height},
+        {0, 0, 1, 1},
+        {3, 5, 7, 9},
+        {width - 3, 0, 3, height},
+        {width - 1, height - 1, 1, 1},
+    };
+    for (final int[] c : crops) {
+      final byte[] rgb = expected.clone();
+      Yuv420SPConverter.cropRgb24(rgb, width, height, c[0], c[1], c[2], c[3]);
+      assertArrayEquals("crop " + Arrays.toString(c),
+          crop(expected, width, c[0], c[1], c[2], c[3]), Arrays.copyOf(rgb, c[2] * c[3] * 3));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void cropOutOfFrameIsRejected() {
+    Yuv420SPConverter.toRgb24(new byte[3 * 4 * 3], new byte[4 * 4 * 3 / 2], 4, 4, 2, 0, 3, 4);
+  }
+}